@@ -0,0 +1,124 @@
+import java.io.*;
+import java.util.*;
+import javax.tools.*;
+
+// ColdStartBenchmark measures how long a fresh JVM takes to parse a file with xrefParser, with
+//  the parse tables built by array initializers in the parser's class initializer, and with them
+//  read from a binary resource (CUP's -binary option; see java_cup.runtime.lr_parser.load_tables).
+// It generates both versions of the parser from the grammar into directories of their own,
+//  compiles them, and then starts a fresh JVM for each run, alternating the versions. Each JVM
+//  scans the file, then times loading the parser class and parsing the tokens once; the
+//  benchmark also times each JVM from start to exit. It reports the median of each.
+// It must run on a JDK, with this tree's classes (and CUP's) on the class path:
+//   java ColdStartBenchmark litexref.cup file.lite
+
+public class ColdStartBenchmark {
+	static final int RUNS = 15;
+
+	public static void main(String args[]) throws Exception {
+		if (args.length == 2 && args[0].equals("-child")){
+			child(args[1]);
+			return;
+		}
+		if (args.length != 2){
+			System.err.println("Usage: java ColdStartBenchmark grammar.cup file.lite");
+			System.exit(1);
+		}
+		File grammar = new File(args[0]), input = new File(args[1]);
+		String classPath = "";			// this JVM's class path, made absolute for CUP's directory
+		for (String entry : System.getProperty("java.class.path").split(File.pathSeparator))
+			classPath += (classPath.isEmpty() ? "" : File.pathSeparator) + new File(entry).getAbsolutePath();
+		File literal = generate(grammar, classPath, "literal");
+		File binary = generate(grammar, classPath, "-binary");
+
+		long[][] parse = new long[2][RUNS], process = new long[2][RUNS];
+		String[] outcome = new String[2];
+		for (int run = 0; run < RUNS; run++)
+			for (int v = 0; v < 2; v++){
+				int version = (run % 2 == 0) ? v : 1-v;		// alternate which goes first
+				File dir = (version == 0) ? literal : binary;
+				long start = System.nanoTime();
+				String[] out = runChild(dir, classPath, input).split(" ");
+				process[version][run] = System.nanoTime() - start;
+				parse[version][run] = Long.parseLong(out[0]);
+				outcome[version] = out[1];
+			}
+		if (!outcome[0].equals(outcome[1]))
+			System.out.println("The two versions of the parser parsed differently!");
+
+		String[] names = { "array initializers", "binary resource" };
+		File[] dirs = { literal, binary };
+		for (int v = 0; v < 2; v++){
+			File tables = new File(dirs[v], "xrefParser.tables");
+			System.out.println("Tables from " + names[v] + ": xrefParser.class "
+				+ new File(dirs[v], "xrefParser.class").length() + " bytes"
+				+ (tables.exists() ? ", xrefParser.tables " + tables.length() + " bytes" : "")
+				+ "; first parse " + median(parse[v])/1000 + " us, whole JVM "
+				+ median(process[v])/1000000 + " ms (medians of " + RUNS + " runs)");
+		}
+	}
+
+	// Generate xrefParser from grammar into a new directory, with the given extra CUP option
+	//  (or none, given "literal"), and compile it there
+	private static File generate(File grammar, String classPath, String option) throws Exception {
+		File dir = new File(System.getProperty("java.io.tmpdir"), "coldstart-" + option.replace("-", ""));
+		dir.mkdirs();
+		List<String> cup = new ArrayList<String>(Arrays.asList(java(), "-cp", classPath,
+			"java_cup.Main", "-parser", "xrefParser", "-dense", "-expect", "2", "-nosummary"));
+		if (!option.equals("literal"))
+			cup.add(option);
+		ProcessBuilder builder = new ProcessBuilder(cup).directory(dir)
+			.redirectInput(grammar).redirectErrorStream(true)
+			.redirectOutput(new File(dir, "cup.log"));
+		if (builder.start().waitFor() != 0)
+			throw new IOException("CUP failed; see " + new File(dir, "cup.log"));
+
+		JavaCompiler javac = ToolProvider.getSystemJavaCompiler();
+		if (javac == null)
+			throw new IOException("No Java compiler: run this on a JDK");
+		if (javac.run(null, null, null, "-nowarn", "-cp", classPath, "-d", dir.getPath(),
+				new File(dir, "xrefParser.java").getPath()) != 0)
+			throw new IOException("Unable to compile " + new File(dir, "xrefParser.java"));
+		return dir;
+	}
+
+	// Run one fresh JVM with the parser in dir ahead of this tree's, and return what it printed
+	private static String runChild(File dir, String classPath, File input) throws Exception {
+		Process child = new ProcessBuilder(java(), "-cp", dir.getPath() + File.pathSeparator + classPath,
+			"ColdStartBenchmark", "-child", input.getPath())
+			.redirectErrorStream(true).start();
+		BufferedReader out = new BufferedReader(new InputStreamReader(child.getInputStream()));
+		String line = out.readLine();
+		if (child.waitFor() != 0 || line == null)
+			throw new IOException("Run failed: " + line);
+		return line;
+	}
+
+	// In the fresh JVM: scan the file, then load xrefParser and parse, printing the time that
+	//  took and a digest of the cross-references
+	private static void child(String name) throws Exception {
+		TokenStream tokens = new Scanner(new File(name)).scanAll().identifierValuesOnly();
+		SymbolTable symbols = new SymbolTable();
+		long start = System.nanoTime();
+		xrefParser parser = new xrefParser(tokens, symbols);
+		try {
+			parser.parse();
+		} catch (Exception syntaxError) {
+			// the partial cross-references are compared all the same
+		}
+		long elapsed = System.nanoTime() - start;
+		StringBuilder report = new StringBuilder();
+		symbols.printTo(report);
+		System.out.println(elapsed + " " + Integer.toHexString(report.toString().hashCode()));
+	}
+
+	private static String java(){
+		return new File(new File(System.getProperty("java.home"), "bin"), "java").getPath();
+	}
+
+	private static long median(long[] times){
+		long[] sorted = times.clone();
+		Arrays.sort(sorted);
+		return sorted[sorted.length/2];
+	}
+}
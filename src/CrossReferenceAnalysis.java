@@ -0,0 +1,170 @@
+import java.io.*;
+import java.util.*;
+import java_cup.runtime.parse_profile;
+
+// CrossReferenceAnalysis is the library entry point for the cross-reference analysis of
+//  one file. analyze() never exits the JVM and never throws: whatever happens to the file,
+//  it returns a result saying whether the file could be read and scanned and whether it
+//  parsed, with the file's lexical and syntax errors in diagnostics. So a batch of files
+//  can be analyzed in one JVM, with a bad file costing only its own result.
+// The cross-references are built by xrefParser as it parses, so when a file has a syntax
+//  error, symbols still holds everything declared and used before the error (a declaration
+//  is entered as soon as its name is read, so even one just before the error): the complete
+//  cross-references of every scope that parsed, and those made so far in the scopes that
+//  were still open.
+// Given an error limit, the parser recovers from syntax errors (see the error productions
+//  in litexref.cup) and goes on to report up to that many, with symbols holding what was
+//  declared and used outside the code it had to skip.
+// Each thread keeps one parser, reset for every file it analyzes, so a thread analyzing
+//  thousands of files sets up the parse tables, action object and parse stack only once.
+// Once startProfiling() is called, each new thread's parser counts its shifts and reductions
+//  into a parse_profile of its own; profile() adds them up.
+
+public class CrossReferenceAnalysis implements Printable {
+	final File file;
+	final Diagnostics diagnostics = new Diagnostics();
+	final SymbolTable symbols = new SymbolTable();
+	String failure = null;		// why the file could not be read or scanned, or null if it was
+	boolean parsed = false;		// it parsed without syntax errors
+
+	private static final ThreadLocal<xrefParser> parsers = new ThreadLocal<xrefParser>(){
+		protected xrefParser initialValue(){
+			xrefParser parser = new xrefParser();
+			if (profiling) {
+				parse_profile profile = new parse_profile(parser);
+				parser.set_profile(profile);
+				synchronized (profiles) {
+					profiles.add(profile);
+				}
+			}
+			return parser;
+		}
+	};
+	private static volatile boolean profiling = false;
+	private static final ArrayList<parse_profile> profiles = new ArrayList<parse_profile>();
+
+	private CrossReferenceAnalysis(File file){
+		this.file = file;
+	}
+
+	// Analyze file, taking its tokens from cache if that is not null, and stopping at the
+	//  first syntax error
+	static CrossReferenceAnalysis analyze(File file, TokenCache cache){
+		return analyze(file, cache, 0);
+	}
+
+	// Analyze file, recovering from up to errorLimit syntax errors
+	static CrossReferenceAnalysis analyze(File file, TokenCache cache, int errorLimit){
+		CrossReferenceAnalysis result = new CrossReferenceAnalysis(file);
+		TokenStream tokens;
+		try {
+			tokens = scan(file, cache, result.diagnostics);
+		} catch (IOException unreadable) {
+			result.failure = "unable to open input file";
+			return result;
+		}
+		if (tokens == null) {
+			result.failure = "unable to scan input file";
+			return result;
+		}
+		xrefParser parser = parsers.get();
+		parser.reset(tokens.identifierValuesOnly(), result.symbols);
+		parser.diagnostics = result.diagnostics;
+		parser.errorLimit = errorLimit;
+		try {
+			parser.parse();
+			result.parsed = parser.error_count() == 0;
+		} catch (Exception syntaxError) {
+			// the parser has recorded the error in diagnostics; keep the partial results
+		} finally {
+			parser.reset();		// so the idle parser holds on to nothing of this file's
+			parser.diagnostics = null;
+		}
+		return result;
+	}
+
+	// Scan file, taking its tokens from cache if that is not null. If the scanner fails, the
+	//  failure is recorded in diagnostics as a lexical error and null is returned, so the
+	//  caller reports it with the file's other errors rather than dying of it.
+	static TokenStream scan(File file, TokenCache cache, Diagnostics diagnostics) throws IOException {
+		try {
+			return (cache != null) ? cache.tokens(file, diagnostics)
+								   : ParallelLexer.scan(file, diagnostics);
+		} catch (RuntimeException scannerFailure) {
+			diagnostics.scannerFailed(scannerFailure);
+			return null;
+		}
+	}
+
+	// Profile the parsers of the threads that analyze files from now on (threads that
+	//  have analyzed files already keep their unprofiled parsers)
+	static void startProfiling(){
+		profiling = true;
+	}
+
+	// The profiles of every thread's parser added together. Call it once the analyses are
+	//  done: the counts of a parse still under way may be missed.
+	static parse_profile profile(){
+		parse_profile total = new parse_profile(new xrefParser());
+		synchronized (profiles) {
+			for (parse_profile profile : profiles)
+				total.add(profile);
+		}
+		return total;
+	}
+
+	// Did the file parse, so that symbols holds its complete cross-references?
+	boolean succeeded(){
+		return failure == null && parsed;
+	}
+
+	// Write the cross-reference report (complete or partial) to out
+	public void printTo(Appendable out) throws IOException {
+		symbols.printTo(out);
+	}
+
+	// Check the partial cross-references of some programs with syntax errors, stopping at the
+	//  first error and recovering from up to DEFAULT_LIMIT: each program is followed by the
+	//  reports expected both ways.
+	public static void main(String args[]) throws IOException {
+		String[] cases = {
+			"{ int a; ; a = 1; }\n",
+				"1: a(int): \n",
+				"1: a(int): 1\n",
+			"{ int a;\n bool b\n a = 1;\n}\n",		// b's declaration never ends
+				"1: a(int): \n",
+				"1: a(int): \n",
+			"{ int a;\n a = 1;\n { int c; c = a; }\n a = = 2;\n a = 3;\n}\n",
+				"1: a(int): 2, 3, 4\n3: c(int): 3\n",
+				"1: a(int): 2, 3, 4, 5\n3: c(int): 3\n",
+			"{ int a;\n { int c; c = 1; a = c; }\n int d;\n a = 2;\n}\n",	// d comes after a statement
+				"1: a(int): 2\n2: c(int): 2(2)\n",
+				"1: a(int): 2, 4\n2: c(int): 2(2)\n3: d(int): \n",
+		};
+		int failures = 0;
+		for (int i = 0; i < cases.length; i += 3){
+			File file = File.createTempFile("partial", ".lite");
+			file.deleteOnExit();
+			Writer out = new FileWriter(file);
+			out.write(cases[i]);
+			out.close();
+			for (int recover = 0; recover < 2; recover++){
+				CrossReferenceAnalysis result = analyze(file, null, recover * Diagnostics.DEFAULT_LIMIT);
+				StringBuilder report = new StringBuilder();
+				result.printTo(report);
+				if (result.parsed || !report.toString().equals(cases[i+1+recover])){
+					failures++;
+					System.out.println("case " + (i/3 + 1) + (recover > 0 ? ", recovering" : "")
+						+ ": the partial report is\n" + report + "not\n" + cases[i+1+recover]);
+				}
+				String errors = result.diagnostics.take(file.getPath(), true, false);
+				if (recover > 0 && errors.contains("unrecovered")){
+					failures++;
+					System.out.println("case " + (i/3 + 1) + ": recovery gave up\n" + errors);
+				}
+			}
+		}
+		System.out.println((cases.length/3) + " programs with syntax errors: "
+			+ (failures == 0 ? "all partial reports as expected" : failures + " reports differ"));
+	}
+}
@@ -0,0 +1,163 @@
+import java.io.PrintStream;
+import java.util.Arrays;
+
+// Diagnostics collects the lexical and syntax errors found in one file, so they can be
+//  reported together in one write once the file is done, rather than one console write each.
+// Each error is kept as four ints in records: its kind, line, column, and the end of its text
+//  in text (it starts where the previous one's ends). The text is the offending input, copied
+//  from the scanner's buffer, so recording an error allocates nothing once the arrays are big
+//  enough. At most limit errors are kept; any more are only counted.
+
+class Diagnostics {
+	static final int BAD_CHARACTER = 0;		// a character no token can start with (ignored)
+	static final int INT_TOO_LARGE = 1;		// an integer literal too big for an int
+	static final int SYNTAX_ERROR = 2;		// the parser found an error
+	static final int UNRECOVERED = 3;		// the parser could not recover from an error
+	static final int UNSCANNABLE = 4;		// the scanner failed, so the rest of the file went unscanned
+	private static final String[] KIND_NAMES = {
+		"bad-character", "int-too-large", "syntax-error", "unrecovered", "unscannable" };
+
+	static final int DEFAULT_LIMIT = 100;	// errors kept per file
+
+	private final int limit;
+	private int[] records = new int[4*16];
+	private char[] text = new char[64];
+	private int textLength = 0;
+	private int count = 0;		// errors kept
+	private int dropped = 0;	// errors past the limit, counted but not kept
+
+	Diagnostics(){
+		this(DEFAULT_LIMIT);
+	}
+
+	Diagnostics(int limit){
+		this.limit = limit;
+	}
+
+	// Record an error whose text is buf[off] to buf[off+len-1]
+	void add(int kind, int line, int col, char[] buf, int off, int len){
+		if (count == limit){
+			dropped++;
+			return;
+		}
+		if (4*count == records.length)
+			records = Arrays.copyOf(records, 2*records.length);
+		if (textLength + len > text.length)
+			text = Arrays.copyOf(text, Math.max(2*text.length, textLength + len));
+		System.arraycopy(buf, off, text, textLength, len);
+		textLength += len;
+		int at = 4*count++;
+		records[at] = kind;
+		records[at+1] = line;
+		records[at+2] = col;
+		records[at+3] = textLength;
+	}
+
+	// Record an error that has no text of its own
+	void add(int kind, int line, int col){
+		add(kind, line, col, text, 0, 0);
+	}
+
+	// Record the failure that stopped the scanner (the DFA's character map is ASCII only,
+	//  so a non-ASCII character makes it throw), with the failure as its text
+	void scannerFailed(RuntimeException failure){
+		char[] what = failure.toString().toCharArray();
+		add(UNSCANNABLE, 0, 0, what, 0, what.length);
+	}
+
+	// Record every error in other after those already here
+	void addAll(Diagnostics other){
+		int start = 0;
+		for (int i = 0; i < other.count; i++){
+			int end = other.records[4*i+3];
+			add(other.records[4*i], other.records[4*i+1], other.records[4*i+2], other.text, start, end-start);
+			start = end;
+		}
+		dropped += other.dropped;
+	}
+
+	// Number of errors recorded, whether kept or not
+	int size(){
+		return count + dropped;
+	}
+
+	// Write every error recorded for file to out, in one write, and forget them.
+	// The human form gives the messages the scanner and parser have always printed; the
+	//  machine form gives one line per error of tab-separated fields: the file, line, column,
+	//  kind (as in KIND_NAMES) and text (with tabs, newlines and backslashes escaped).
+	void flush(String file, boolean machine, PrintStream out){
+		if (size() == 0)
+			return;
+		out.print(take(file, machine, false));
+		out.flush();
+	}
+
+	// Return every error recorded for file, in the form flush writes, and forget them.
+	//  With named set, each line of the human form begins with the file's name too, as it
+	//  must when the errors of many files are written to one stream.
+	String take(String file, boolean machine, boolean named){
+		StringBuilder s = new StringBuilder();
+		int start = 0;
+		for (int i = 0; i < count; i++){
+			int kind = records[4*i], line = records[4*i+1], col = records[4*i+2], end = records[4*i+3];
+			if (machine){
+				s.append(file).append('\t').append(line).append('\t').append(col).append('\t')
+				 .append(KIND_NAMES[kind]).append('\t');
+				escape(s, start, end);
+			} else {
+				if (named)
+					s.append(file).append(": ");
+				switch (kind){
+				case BAD_CHARACTER:
+					s.append("Lexical error (line ").append(line).append(", column ").append(col).append("): ")
+					 .append(text, start, end-start).append(" ignored.");
+					break;
+				case INT_TOO_LARGE:
+					s.append("Lexical error (line ").append(line).append(", column ").append(col)
+					 .append("): integer literal ").append(text, start, end-start).append(" is too large.");
+					break;
+				case SYNTAX_ERROR:
+					s.append("CSX syntax error at line ").append(line);
+					break;
+				case UNRECOVERED:
+					s.append("Couldn't repair and continue parse");
+					break;
+				case UNSCANNABLE:
+					s.append("Lexical error: unable to scan the rest of the input (")
+					 .append(text, start, end-start).append(").");
+					break;
+				}
+			}
+			s.append('\n');
+			start = end;
+		}
+		if (dropped > 0){
+			if (machine)
+				s.append(file).append("\t0\t0\tdropped\t").append(dropped).append('\n');
+			else
+				s.append(dropped).append(" more errors in ").append(file).append(" not shown.\n");
+		}
+		clear();
+		return s.toString();
+	}
+
+	// Forget every error recorded
+	void clear(){
+		count = 0;
+		dropped = 0;
+		textLength = 0;
+	}
+
+	private void escape(StringBuilder s, int start, int end){
+		for (int i = start; i < end; i++){
+			char c = text[i];
+			switch (c){
+			case '\t': s.append("\\t"); break;
+			case '\n': s.append("\\n"); break;
+			case '\r': s.append("\\r"); break;
+			case '\\': s.append("\\\\"); break;
+			default: s.append(c);
+			}
+		}
+	}
+}
@@ -0,0 +1,820 @@
+import java.io.*;
+import java.util.*;
+
+// IncrementalCrossReference keeps the cross-references of one program up to date while it is
+//  edited (say, in an editor, after every keystroke), redoing only the part of the work an
+//  edit touches. An edit replaces a run of whole lines (see edit) and costs about as much as
+//  scanning and parsing the top-level declarations and statements it touches, however big
+//  the rest of the program is.
+//
+// The program's lines are grouped into chunks: runs of whole lines holding complete top-level
+//  items, the declarations and statements directly inside the program's braces (a statement
+//  may be a block, with any number of blocks nested in it). No CSX Lite token spans a line,
+//  so the lines of a chunk can be scanned apart from the rest. The program's "{" and "}" are
+//  fixed delimiters: the head chunk is the line holding the "{" (with any items on it), the
+//  tail chunk the line holding the "}" and those after it, and every other chunk lies between
+//  them. A chunk ends at the end of any line that ends an item, unless the item is a block
+//  and a ";" (its optionalSemi) comes next.
+// Each chunk holds its own lines, and is parsed by xrefParser as a program of its own (given
+//  the braces it lacks) into a summary with its lines relative to the chunk's first line: its
+//  declarations along with the uses bound to them inside the chunk, and its unbound uses. In
+//  CSX Lite a program's declarations all come before its statements, so an unbound use can
+//  only refer to the last top-level declaration of its name (or to none).
+// The chunks are kept in a treap in program order, each node counting the lines and chunks
+//  below it, so no chunk's line number is stored: a chunk is found by line, and a run of
+//  chunks replaced, in time logarithmic in the number of chunks. For each name, an index
+//  keeps the chunks that declare it at the top level and the chunks that use it unbound.
+// An edit scans and parses again just the chunks that hold the edited lines (lines put in
+//  between two chunks are scanned and parsed alone), and replaces their summaries in the
+//  treap and the index; no other chunk is looked at. If the edited lines no longer end an item
+//  where the chunk used to end (an unbalanced "{", say), more of the chunks after them are
+//  taken in (twice as many each time) until they do. Whatever the chunks can't handle (an
+//  edit to the head or tail, a lexical or syntax error, a declaration after a statement) is
+//  done by analyzing the whole program, just as CrossReferenceAnalysis does, with the errors
+//  recorded in diagnostics.
+// printTo binds each name's last top-level declaration to the unbound uses the index lists
+//  for it as it writes the report, so it takes time proportional to the report.
+
+class IncrementalCrossReference {
+	private static final int FITS = 0, TAKE_PREVIOUS = 1, TAKE_NEXT = 2, FAILS = 3, EMPTY = 4;
+
+	private final Scanner scanner = new Scanner(new StringReader(""));	// its names keep their ids across edits
+	private final xrefParser parser = new xrefParser();
+	private final SymbolTable scratch = new SymbolTable();		// each chunk is parsed into this
+	private final Diagnostics chunkErrors = new Diagnostics();
+	private final TokenStream chunkTokens = new TokenStream(scanner.names()).identifierValuesOnly();	// each chunk's tokens, with braces
+	private final Random priorities = new Random(536);		// of the treap's nodes
+	private Chunk root = null;				// the treap of chunks, or null if analyzed whole
+	private Name[] names = new Name[0];		// the chunks declaring and using each name, by name id
+	private ArrayList<String> wholeLines = null;	// the lines of a program analyzed whole (or null)
+	private SymbolTable whole = null;		// and its table
+	private int pass = 0;					// calls of printTo so far
+	Diagnostics diagnostics = new Diagnostics();	// errors in the program, if it was analyzed whole
+	boolean parsed;				// the program parsed without syntax errors
+	int chunksParsed;			// chunks parsed by the last edit (or analysis of the whole program)
+	boolean analyzedWhole;		// the last edit had the whole program analyzed
+
+	// Analyze program (the text of a whole file)
+	IncrementalCrossReference(String program){
+		scratch.keepUnbound = true;
+		analyzeWhole(Arrays.asList(program.split("\n", -1)));
+	}
+
+	// Replace removedLines lines, from line firstLine on, by newLines (lines are numbered from 1;
+	//  with removedLines 0, newLines go in before line firstLine), and bring the analysis up
+	//  to date
+	void edit(int firstLine, int removedLines, String... newLines){
+		int size = (root != null) ? lines(root) : wholeLines.size();
+		if (firstLine < 1 || removedLines < 0 || firstLine-1 + removedLines > size)
+			throw new IndexOutOfBoundsException("Lines " + firstLine + " to " + (firstLine+removedLines-1)
+				+ " of a " + size + "-line program");
+		chunksParsed = 0;
+		analyzedWhole = false;
+		if (root == null){
+			replaceLines(wholeLines, firstLine-1, removedLines, newLines);
+			analyzeWhole(wholeLines);
+			return;
+		}
+		int count = size(root);
+		int first, last;
+		if (firstLine > size)
+			first = last = count-1;		// after the tail
+		else {
+			first = chunkAt(firstLine);
+			if (removedLines == 0 && startOf(first) == firstLine)
+				last = first-1;			// the lines go in between two chunks
+			else
+				last = chunkAt(firstLine + Math.max(removedLines, 1) - 1);
+		}
+		for (;;){
+			if (first == 0 || last == count-1){
+				ArrayList<String> lines = lineList();
+				replaceLines(lines, firstLine-1, removedLines, newLines);
+				analyzeWhole(lines);
+				return;
+			}
+			int start = startOf(first);
+			ArrayList<String> text = new ArrayList<String>();
+			for (int i = first; i <= last; i++)
+				text.addAll(Arrays.asList(chunk(i).text));
+			replaceLines(text, firstLine - start, removedLines, newLines);
+			ArrayList<Chunk> replaced = new ArrayList<Chunk>();
+			int fit = rechunk(start, text, chunk(first-1), chunk(last+1), replaced);
+			if (fit == TAKE_PREVIOUS || (fit == EMPTY && first > 1))
+				first--;
+			else if (fit == TAKE_NEXT || fit == EMPTY)
+				last = Math.min(count-1, last + Math.max(last - first + 1, 1));	// doubling, so an unclosed "{" costs O(n), not O(n^2)
+			else if (fit == FAILS){
+				ArrayList<String> lines = lineList();
+				replaceLines(lines, firstLine-1, removedLines, newLines);
+				analyzeWhole(lines);
+				return;
+			} else {
+				replace(first, last, replaced);
+				if (!root.ordered)
+					analyzeWhole(lineList());		// to report the misplaced declaration
+				return;
+			}
+		}
+	}
+
+	// Bring the analysis up to date with program, a new version of the whole text. The lines
+	//  the old and new versions begin and end with are kept, and the rest is one edit.
+	void update(String program){
+		String[] newLines = program.split("\n", -1);
+		ArrayList<String> lines = lineList();
+		int size = lines.size();
+		if (newLines.length == size && Arrays.asList(newLines).equals(lines))
+			return;
+		int prefix = 0, suffix = 0;
+		while (prefix < size && prefix < newLines.length && lines.get(prefix).equals(newLines[prefix]))
+			prefix++;
+		while (suffix < size - prefix && suffix < newLines.length - prefix
+			   && lines.get(size-1 - suffix).equals(newLines[newLines.length-1 - suffix]))
+			suffix++;
+		edit(prefix+1, size - prefix - suffix,
+			 Arrays.copyOfRange(newLines, prefix, newLines.length - suffix));
+	}
+
+	// The program's text
+	String text(){
+		ArrayList<String> lines = lineList();
+		StringBuilder s = new StringBuilder();
+		for (int i = 0; i < lines.size(); i++){
+			if (i > 0)
+				s.append('\n');
+			s.append(lines.get(i));
+		}
+		return s.toString();
+	}
+
+	// Write the cross-reference report (complete, or partial if the program has syntax errors)
+	//  to out, as a full analysis writes it
+	void printTo(Appendable out) throws IOException {
+		if (whole != null){
+			whole.printTo(out);
+			return;
+		}
+		ArrayList<Chunk> chunks = chunks(root);
+		int line = 1;
+		for (int i = 0; i < chunks.size(); i++){
+			Chunk chunk = chunks.get(i);
+			chunk.start = line;
+			chunk.order = i;
+			line += chunk.text.length;
+		}
+		pass++;
+		identifierInfo entry = new identifierInfo();
+		for (Chunk chunk : chunks)
+			for (int id = 0; id < chunk.declarations.length; id++){
+				identifierInfo declared = chunk.declarations[id];
+				entry.identifierName = declared.identifierName;
+				entry.identifierType = declared.identifierType;
+				entry.declaredLine = chunk.start + declared.declaredLine;
+				entry.lineUseLength = 0;
+				for (int j = 0; j < declared.lineUseLength; j += 2)
+					for (int k = 0; k < declared.lineUse[j+1]; k++)
+						entry.setLineInfo(chunk.start + declared.lineUse[j]);
+				if (chunk.binds[id])
+					bindUnbound(entry, chunk.declNames[id]);
+				entry.printTo(out);
+			}
+	}
+
+	// entry is a top-level declaration of the name with id nameId; if it is the last one (the
+	//  declaring chunks are met in order), add the name's unbound uses to it
+	private void bindUnbound(identifierInfo entry, int nameId){
+		Name name = names[nameId];
+		if (name.pass != pass){
+			name.pass = pass;
+			name.seen = 0;
+		}
+		if (++name.seen < name.declaredIn.size())
+			return;
+		Chunk[] users = name.usedIn.toArray(new Chunk[name.usedIn.size()]);
+		Arrays.sort(users, IN_ORDER);
+		for (Chunk user : users)
+			for (int use : user.unboundLines[Arrays.binarySearch(user.unboundNames, nameId)])
+				entry.setLineInfo(user.start + use);
+	}
+
+	private static final Comparator<Chunk> IN_ORDER = new Comparator<Chunk>() {
+		public int compare(Chunk a, Chunk b){
+			return Integer.compare(a.order, b.order);
+		}
+	};
+
+	// The program's lines, in a list of their own
+	private ArrayList<String> lineList(){
+		if (root == null)
+			return new ArrayList<String>(wholeLines);
+		ArrayList<String> lines = new ArrayList<String>(lines(root));
+		for (Chunk chunk : chunks(root))
+			lines.addAll(Arrays.asList(chunk.text));
+		return lines;
+	}
+
+	// Replace removed lines of lines, from index from on, by newLines
+	private static void replaceLines(List<String> lines, int from, int removed, String[] newLines){
+		List<String> replaced = lines.subList(from, from + removed);
+		replaced.clear();
+		replaced.addAll(Arrays.asList(newLines));
+	}
+
+	// Analyze the program with the given lines whole, splitting it into chunks afresh, or (if
+	//  that can't be done) parsing it in one go, recording its errors in diagnostics
+	private void analyzeWhole(List<String> programLines){
+		analyzedWhole = true;
+		String[] text = programLines.toArray(new String[programLines.size()]);
+		root = null;
+		names = new Name[0];
+		wholeLines = null;
+		whole = null;
+		diagnostics = new Diagnostics();
+		chunksParsed = 0;
+		TokenStream tokens = scan(join(Arrays.asList(text)), 1, diagnostics);
+		parsed = tokens != null;
+		if (tokens != null && scanner.lexicalErrors() == 0){
+			ArrayList<Chunk> chunks = new ArrayList<Chunk>();
+			if (split(tokens, 0, 1, text, null, chunks) == FITS){
+				Chunk all = null;
+				for (Chunk chunk : chunks)
+					all = merge(all, chunk);
+				if (all.ordered){
+					root = all;
+					for (Chunk chunk : chunks)
+						index(chunk, true);
+					return;
+				}
+			}
+		}
+		wholeLines = new ArrayList<String>(Arrays.asList(text));
+		whole = new SymbolTable();
+		if (tokens == null)
+			return;
+		parser.reset(tokens.identifierValuesOnly(), whole);
+		parser.diagnostics = diagnostics;
+		try {
+			parser.parse();
+			parsed = parser.error_count() == 0;
+		} catch (Exception syntaxError) {
+			parsed = false;		// the parser has recorded the error in diagnostics
+		} finally {
+			parser.reset();
+		}
+	}
+
+	// Scan and parse text, the lines from start on that replace whole chunks, into chunks added
+	//  to replaced. Says whether they fit between the chunks before and after them.
+	private int rechunk(int start, ArrayList<String> text, Chunk before, Chunk after, ArrayList<Chunk> replaced){
+		if (text.isEmpty())
+			return FITS;			// the chunks' lines are all gone
+		chunkErrors.clear();
+		TokenStream tokens = scan(join(text), start, chunkErrors);
+		if (tokens == null || scanner.lexicalErrors() > 0)
+			return FAILS;
+		if (tokens.size() > 1 && tokens.kind(0) == sym.SEMI && before.lastKind == sym.RBRACE)
+			return TAKE_PREVIOUS;	// the ";" may end the block before
+		return split(tokens, 1, start, text.toArray(new String[text.size()]), after, replaced);
+	}
+
+	// The text of lines, each ended by a newline
+	private static String join(List<String> lines){
+		StringBuilder s = new StringBuilder();
+		for (String line : lines)
+			s.append(line).append('\n');
+		return s.toString();
+	}
+
+	// Scan text, numbering its lines from firstLine, or return null (having recorded the
+	//  failure in errors) if the scanner fails on it
+	private TokenStream scan(String text, int firstLine, Diagnostics errors){
+		scanner.reset(new StringReader(text));
+		scanner.firstLine(firstLine);
+		scanner.reportErrorsTo(errors);
+		try {
+			return scanner.scanAll();
+		} catch (IOException e) {
+			throw new Error(e);		// a StringReader does not throw
+		} catch (RuntimeException scannerFailure) {
+			errors.scannerFailed(scannerFailure);
+			return null;
+		}
+	}
+
+	// Split tokens, scanned from text (lines start on) and beginning at the given depth of
+	//  braces (0 for the whole program, 1 for chunks inside it), into chunks, parse each one,
+	//  and add them to into. after is the chunk following the lines (null for the whole program).
+	private int split(TokenStream tokens, int depth, int start, String[] text, Chunk after,
+					  ArrayList<Chunk> into){
+		boolean program = (depth == 0);	// splitting the whole program
+		int end = start + text.length;	// the first line after text
+		int n = tokens.size()-1;		// leaving out the EOF
+		int from = 0;					// first token of the chunk being found
+		int line = start;				// its first line
+		boolean complete = true;		// no item has been begun since the last one ended
+		boolean declares = false, states = false;
+		for (int i = 0; i < n; i++){
+			int kind = tokens.kind(i);
+			if (complete && depth == 1){
+				if (kind == sym.rw_INT || kind == sym.rw_BOOL)
+					declares = true;
+				else
+					states = true;
+			}
+			if (kind == sym.LBRACE)
+				depth++;
+			else if (kind == sym.RBRACE && --depth == 0){
+				if (!program)
+					return FAILS;		// the program's "}", where a chunk's lines were
+				break;					// the rest is the tail
+			}
+			complete = depth == 1 && (kind == sym.SEMI || kind == sym.RBRACE || kind == sym.LBRACE);
+			if (program && i == 0 && kind != sym.LBRACE)
+				return FAILS;
+			boolean lineEnds = (i+1 == n) || tokens.line(i+1) > tokens.line(i);
+			if (!complete || !lineEnds)
+				continue;
+			int next = (i+1 < n) ? tokens.kind(i+1) : (after != null) ? after.firstKind : sym.EOF;
+			if (kind == sym.RBRACE && next == sym.SEMI)
+				continue;
+			// (blank lines after the last token join the last chunk)
+			int lastLine = (i+1 == n && !program) ? end-1 : tokens.line(i);
+			Chunk chunk = parse(tokens, from, i+1, Arrays.copyOfRange(text, line - start, lastLine+1 - start),
+								line, program && from == 0, false, declares, states);
+			if (chunk == null)
+				return FAILS;
+			into.add(chunk);
+			from = i+1;
+			line = lastLine+1;
+			declares = states = false;
+		}
+		if (program){
+			if (depth > 0)
+				return FAILS;		// the program's "}" is missing
+			Chunk chunk = parse(tokens, from, n, Arrays.copyOfRange(text, line - start, end - start),
+								line, from == 0, true, declares, states);
+			if (chunk == null)
+				return FAILS;
+			into.add(chunk);
+			return FITS;
+		}
+		if (from < n)
+			return TAKE_NEXT;			// the last item goes on past the chunks' lines
+		if (into.isEmpty())
+			return EMPTY;				// no tokens at all: the lines join a chunk next to them
+		return FITS;
+	}
+
+	// Parse tokens from to to-1, which lie on lines (text) from start on, as a chunk. The head
+	//  already has the program's "{" and the tail its "}"; the others are given them.
+	//  Returns null if the chunk has a syntax error.
+	private Chunk parse(TokenStream tokens, int from, int to, String[] text, int start,
+						boolean head, boolean tail, boolean declares, boolean states){
+		chunksParsed++;
+		int lastLine = start + text.length - 1;
+		chunkTokens.clear();
+		if (!head)
+			chunkTokens.add(sym.LBRACE, 0, 0, 0);
+		for (int i = from; i < to; i++)
+			chunkTokens.add(tokens.kind(i), tokens.line(i) - start, tokens.col(i), tokens.value(i));
+		if (!tail)
+			chunkTokens.add(sym.RBRACE, lastLine - start, 0, 0);
+		chunkTokens.add(sym.EOF, lastLine - start, 0, 0);
+
+		scratch.clear();
+		chunkErrors.clear();
+		parser.reset(chunkTokens, scratch);
+		parser.diagnostics = chunkErrors;
+		try {
+			parser.parse();
+			if (parser.error_count() > 0)
+				return null;
+		} catch (Exception syntaxError) {
+			return null;
+		} finally {
+			parser.reset();
+		}
+
+		Chunk chunk = new Chunk();
+		chunk.text = text;
+		chunk.priority = priorities.nextInt();
+		chunk.firstKind = (from < to) ? tokens.kind(from) : sym.EOF;
+		chunk.lastKind = (from < to) ? tokens.kind(to-1) : sym.EOF;
+		chunk.declares = declares;
+		chunk.states = states;
+		int declarations = scratch.declarationCount();
+		chunk.declarations = new identifierInfo[declarations];
+		chunk.declNames = new int[declarations];
+		chunk.binds = new boolean[declarations];
+		HashSet<Integer> declared = new HashSet<Integer>();
+		for (int id = declarations-1; id >= 0; id--){
+			chunk.declarations[id] = scratch.declaration(id);
+			chunk.declNames[id] = scratch.nameOf(id);
+			chunk.binds[id] = scratch.declaration(id).declaredScope.number == 1
+							  && declared.add(chunk.declNames[id]);
+		}
+		// The unbound uses, grouped by name (in order of name id) and in order within a name
+		int unbound = scratch.unboundUses();
+		long[] uses = new long[unbound];
+		for (int i = 0; i < unbound; i++)
+			uses[i] = (long) scratch.unboundName(i) << 32 | i;
+		Arrays.sort(uses);
+		int distinct = 0;
+		for (int i = 0; i < unbound; i++)
+			if (i == 0 || (uses[i] >>> 32) != (uses[i-1] >>> 32))
+				distinct++;
+		chunk.unboundNames = new int[distinct];
+		chunk.unboundLines = new int[distinct][];
+		for (int i = 0, k = 0; i < unbound; k++){
+			int name = (int) (uses[i] >>> 32), j = i;
+			while (j < unbound && (int) (uses[j] >>> 32) == name)
+				j++;
+			chunk.unboundNames[k] = name;
+			chunk.unboundLines[k] = new int[j-i];
+			for (int u = i; u < j; u++)
+				chunk.unboundLines[k][u-i] = scratch.unboundLine((int) uses[u]);
+			i = j;
+		}
+		scratch.clear();
+		return fix(chunk);
+	}
+
+	// Replace chunks first to last by replaced, in the treap and in the index
+	private void replace(int first, int last, ArrayList<Chunk> replaced){
+		Chunk[] halves = new Chunk[2];
+		cut(root, first, halves);
+		Chunk before = halves[0];
+		cut(halves[1], last - first + 1, halves);
+		for (Chunk chunk : chunks(halves[0]))
+			index(chunk, false);
+		Chunk added = null;
+		for (Chunk chunk : replaced){
+			index(chunk, true);
+			added = merge(added, chunk);
+		}
+		root = merge(merge(before, added), halves[1]);
+	}
+
+	// Add chunk to (or remove it from) the index of the names it declares at the top level
+	//  and the names it uses unbound
+	private void index(Chunk chunk, boolean add){
+		for (int id = 0; id < chunk.declarations.length; id++)
+			if (chunk.binds[id]){
+				HashSet<Chunk> declaredIn = name(chunk.declNames[id]).declaredIn;
+				if (add)
+					declaredIn.add(chunk);
+				else
+					declaredIn.remove(chunk);
+			}
+		for (int nameId : chunk.unboundNames){
+			HashSet<Chunk> usedIn = name(nameId).usedIn;
+			if (add)
+				usedIn.add(chunk);
+			else
+				usedIn.remove(chunk);
+		}
+	}
+
+	private Name name(int id){
+		if (id >= names.length)
+			names = Arrays.copyOf(names, Math.max(id+1, 2*names.length));
+		if (names[id] == null)
+			names[id] = new Name();
+		return names[id];
+	}
+
+	// Index of the chunk holding line
+	private int chunkAt(int line){
+		int index = 0;
+		for (Chunk t = root; ; ){
+			int above = lines(t.left);
+			if (line <= above)
+				t = t.left;
+			else if (line <= above + t.text.length)
+				return index + size(t.left);
+			else {
+				line -= above + t.text.length;
+				index += size(t.left) + 1;
+				t = t.right;
+			}
+		}
+	}
+
+	// The line chunk index begins on (one past the last line, for the number of chunks)
+	private int startOf(int index){
+		int line = 1;
+		for (Chunk t = root; t != null; ){
+			int before = size(t.left);
+			if (index < before)
+				t = t.left;
+			else {
+				line += lines(t.left);
+				if (index == before)
+					return line;
+				line += t.text.length;
+				index -= before + 1;
+				t = t.right;
+			}
+		}
+		return line;
+	}
+
+	// Chunk number index (or null if there is none)
+	private Chunk chunk(int index){
+		if (index < 0 || index >= size(root))
+			return null;
+		for (Chunk t = root; ; ){
+			int before = size(t.left);
+			if (index < before)
+				t = t.left;
+			else if (index == before)
+				return t;
+			else {
+				index -= before + 1;
+				t = t.right;
+			}
+		}
+	}
+
+	// The chunks of treap t, in order
+	private static ArrayList<Chunk> chunks(Chunk t){
+		ArrayList<Chunk> chunks = new ArrayList<Chunk>(size(t));
+		ArrayDeque<Chunk> path = new ArrayDeque<Chunk>();
+		while (t != null || !path.isEmpty()){
+			for (; t != null; t = t.left)
+				path.push(t);
+			t = path.pop();
+			chunks.add(t);
+			t = t.right;
+		}
+		return chunks;
+	}
+
+	private static int size(Chunk t){
+		return (t == null) ? 0 : t.size;
+	}
+
+	private static int lines(Chunk t){
+		return (t == null) ? 0 : t.lines;
+	}
+
+	// Bring t's counts up to date with its children's
+	private static Chunk fix(Chunk t){
+		Chunk l = t.left, r = t.right;
+		boolean leftStates = l != null && l.anyStates, rightDeclares = r != null && r.anyDeclares;
+		t.size = size(l) + 1 + size(r);
+		t.lines = lines(l) + t.text.length + lines(r);
+		t.anyDeclares = (l != null && l.anyDeclares) || t.declares || rightDeclares;
+		t.anyStates = leftStates || t.states || (r != null && r.anyStates);
+		t.ordered = (l == null || l.ordered) && (r == null || r.ordered)
+					&& !(leftStates && (t.declares || rightDeclares)) && !(t.states && rightDeclares);
+		return t;
+	}
+
+	// The treap holding a's chunks followed by b's
+	private static Chunk merge(Chunk a, Chunk b){
+		if (a == null)
+			return b;
+		if (b == null)
+			return a;
+		if (a.priority > b.priority){
+			a.right = merge(a.right, b);
+			return fix(a);
+		}
+		b.left = merge(a, b.left);
+		return fix(b);
+	}
+
+	// Cut treap t into one of its first k chunks, halves[0], and one of the rest, halves[1]
+	private static void cut(Chunk t, int k, Chunk[] halves){
+		if (t == null){
+			halves[0] = halves[1] = null;
+			return;
+		}
+		if (size(t.left) < k){
+			cut(t.right, k - size(t.left) - 1, halves);
+			t.right = halves[0];
+			halves[0] = fix(t);
+		} else {
+			cut(t.left, k, halves);
+			t.left = halves[1];
+			halves[1] = fix(t);
+		}
+	}
+
+	// What a chunk contributes to the cross-references, and its node in the treap. All lines
+	//  in the summary are relative to the line the chunk begins on.
+	private static class Chunk {
+		String[] text;				// its lines
+		int firstKind, lastKind;	// its first and last tokens (sym constants)
+		boolean declares, states;	// it has top-level declarations, statements
+		identifierInfo[] declarations;	// its declarations, in order, with the uses bound to them
+		int[] declNames;			// name id of each declaration
+		boolean[] binds;			// each is the chunk's last top-level declaration of its name
+		int[] unboundNames;			// name id of each name used unbound, in increasing order
+		int[][] unboundLines;		// the lines those uses are on, in order
+		Chunk left, right;			// the treap
+		int priority;
+		int size, lines;			// chunks and lines in this subtree
+		boolean anyDeclares, anyStates;	// of any chunk in this subtree
+		boolean ordered;			// no chunk in this subtree declares after one that states
+		int start, order;			// line and position, as of the last printTo
+	}
+
+	// The chunks that declare a name at the top level, and those that use it unbound
+	private static class Name {
+		final HashSet<Chunk> declaredIn = new HashSet<Chunk>();
+		final HashSet<Chunk> usedIn = new HashSet<Chunk>();
+		int pass, seen;				// chunks of declaredIn met so far by printTo pass number pass
+	}
+
+	// Check that the cross-references kept up to date through a run of edits are always the
+	//  same as a full analysis of the edited program gives, check that statements added before
+	//  the program's "}" are all that is parsed again, and time edits against a full analysis.
+	//  The program is generated with the given number of blocks (20000 by default) and takes
+	//  edits (seeded, so a failure can be repeated) to single lines, adding and deleting
+	//  blocks, unbalanced braces, syntax and lexical errors, and the first and last lines.
+	public static void main(String args[]) throws IOException {
+		int blocks = (args.length > 0) ? Integer.parseInt(args[0]) : 20000;
+		StringBuilder program = new StringBuilder("{ int a; bool b;\n");
+		for (int i = 0; i < 100; i++)
+			program.append("  int x").append(i).append(";\n");
+		for (int i = 0; i < blocks; i++)
+			program.append(block(i));
+		program.append("}\n");
+
+		IncrementalCrossReference analysis = new IncrementalCrossReference(program.toString());
+		Random random = new Random(536);
+		int checked = 0, failures = 0, whole = 0;
+		int edits = (blocks <= 1000) ? 400 : 100;	// a big program is analyzed whole slowly
+		Change undo = null;
+		for (int edit = 0; edit < edits; edit++){
+			ArrayList<String> lines = analysis.lineList();
+			Change change = (undo != null) ? undo : randomChange(lines, random);
+			String[] removed = lines.subList(change.line-1, change.line-1 + change.removed)
+									.toArray(new String[change.removed]);
+			undo = change.breaks ? new Change(change.line, change.added.length, false, removed) : null;
+			analysis.edit(change.line, change.removed, change.added);
+			if (analysis.analyzedWhole)
+				whole++;
+			if (blocks <= 1000 || edit % 10 == 0){
+				checked++;
+				if (!sameAsFull(analysis)){
+					failures++;
+					System.out.println("edit " + edit + ": the incremental and full analyses differ!");
+				}
+			}
+		}
+		if (undo != null)
+			analysis.edit(undo.line, undo.removed, undo.added);
+		System.out.println(checked + " of " + edits + " edits checked against a full analysis: "
+			+ (failures == 0 ? "all the same" : failures + " differences")
+			+ " (" + whole + " edits analyzed the whole program)");
+
+		// Add statements at the end, as a program written from top to bottom gets them: before
+		//  the "}", through update (as P1 -watch does) and through edit
+		String text = analysis.text();
+		int close = text.lastIndexOf("\n}");
+		analysis.update(text.substring(0, close) + "\n  x1 = a;" + text.substring(close));
+		boolean appended = !analysis.analyzedWhole && analysis.chunksParsed == 1 && sameAsFull(analysis);
+		int closeLine = analysis.lineList().lastIndexOf("}") + 1;
+		analysis.edit(closeLine, 0, "  { int z; z = x2; }", "  x3 = a;");
+		appended &= !analysis.analyzedWhole && analysis.chunksParsed == 2 && sameAsFull(analysis);
+		System.out.println("statements added before the \"}\": " + (appended
+			? "only they were parsed, and the report is the same as a full analysis"
+			: "the whole program was analyzed, or the report differs!"));
+
+		// Time a full analysis against a one-line edit (undone by the next), adding a line
+		//  before the "}" and taking it out again, and writing the report (the edits are timed
+		//  in runs of 100)
+		ArrayList<String> lines = analysis.lineList();
+		int line = lines.size()/2;
+		while (!lines.get(line-1).contains("= x"))
+			line++;
+		String original = lines.get(line-1);
+		String changed = original.replace("= x", "= b + x");
+		closeLine = lines.lastIndexOf("}") + 1;
+		long full = Long.MAX_VALUE, edit = Long.MAX_VALUE, append = Long.MAX_VALUE, report = Long.MAX_VALUE;
+		for (int run = 0; run < 20; run++){		// the early runs warm up the JIT
+			text = analysis.text();
+			long start = System.nanoTime();
+			fullAnalysis(text, new Diagnostics());
+			full = Math.min(full, System.nanoTime() - start);
+
+			start = System.nanoTime();
+			for (int i = 0; i < 100; i++)		// so the edits are timed once compiled
+				analysis.edit(line, 1, (i % 2 == 0) ? changed : original);
+			edit = Math.min(edit, (System.nanoTime() - start)/100);
+
+			start = System.nanoTime();
+			for (int i = 0; i < 100; i++){
+				analysis.edit(closeLine, 0, "  x4 = a;");
+				analysis.edit(closeLine, 1);
+			}
+			append = Math.min(append, (System.nanoTime() - start)/100);
+
+			start = System.nanoTime();
+			analysis.printTo(new StringBuilder());
+			report = Math.min(report, System.nanoTime() - start);
+		}
+		System.out.println(size(analysis.root) + " chunks, " + lines.size() + " lines: full analysis "
+			+ full/1000 + " us, one-line edit " + edit/1000 + " us, adding and removing a line before"
+			+ " the \"}\" " + append/1000 + " us, writing the report " + report/1000 + " us");
+	}
+
+	// Block number i of the generated program
+	private static String block(int i){
+		return "  if (a == " + i + ") {\n    int y;\n    y = x" + (i % 100) + " + a;\n"
+			 + "    { bool c; c = b; x" + (i % 7) + " = y; }\n  }\n";
+	}
+
+	// An edit: added replaces removed lines from line on. An edit that breaks the program (or
+	//  touches its first or last line) is undone by the next one.
+	private static class Change {
+		final int line, removed;
+		final boolean breaks;
+		final String[] added;
+
+		Change(int line, int removed, boolean breaks, String... added){
+			this.line = line;
+			this.removed = removed;
+			this.breaks = breaks;
+			this.added = added;
+		}
+	}
+
+	// Pick an edit to the program at random
+	private static Change randomChange(ArrayList<String> lines, Random random){
+		int size = lines.size();
+		int block = find(lines, "  if (", random), uses = find(lines, "    y = ", random);
+		switch (random.nextInt(14)){
+		case 0:		// add a block
+			return new Change(block, 0, false, block(random.nextInt(1000)).split("\n"));
+		case 1:		// delete a block
+			int end = block;
+			while (!lines.get(end-1).equals("  }"))
+				end++;
+			return new Change(block, end - block + 1, false);
+		case 2:		// declare a name in a block
+			return new Change(block+1, 0, false, "    int x" + random.nextInt(120) + ";");
+		case 3:		// declare a name at the top level
+			return new Change(2, 0, false, "  int x" + random.nextInt(120) + ";");
+		case 4:		// open a block with no end
+			return new Change(block, 0, true, "  if (b) {");
+		case 5:		// close a block that was never opened
+			return new Change(block, 0, true, "  };");
+		case 6:		// a syntax error
+			return new Change(uses, 1, true, "    y = = 1;");
+		case 7:		// a lexical error
+			return new Change(uses, 1, true, lines.get(uses-1) + " $");
+		case 8:		// a top-level declaration after the statements
+			return new Change(block, 0, true, "  int q;");
+		case 9:		// change the first or last line
+			return random.nextBoolean() ? new Change(1, 1, true, "{ int a; bool b; int y;")
+										: new Change(size-1, 1, true, "}");
+		default:	// change the uses on a line
+			return new Change(uses, 1, false, "    y = x" + random.nextInt(120) + " + a; a = a;");
+		}
+	}
+
+	// The number of a line, picked at random, beginning with prefix
+	private static int find(ArrayList<String> lines, String prefix, Random random){
+		int size = lines.size();
+		for (int at = random.nextInt(size), i = 0; ; i++)
+			if (lines.get((at + i) % size).startsWith(prefix))
+				return (at + i) % size + 1;
+	}
+
+	// Does the incremental analysis give the same report, and the same outcome, as a full
+	//  analysis of its program?
+	private static boolean sameAsFull(IncrementalCrossReference analysis) throws IOException {
+		Diagnostics errors = new Diagnostics();
+		StringBuilder expected = new StringBuilder(), found = new StringBuilder();
+		SymbolTable full = fullAnalysis(analysis.text(), errors);
+		full.printTo(expected);
+		analysis.printTo(found);
+		boolean parsed = errors.size() == 0 || lexicalOnly(errors);
+		return expected.toString().equals(found.toString()) && parsed == analysis.parsed;
+	}
+
+	private static boolean lexicalOnly(Diagnostics errors){
+		String report = errors.take("", true, false);
+		return !report.contains("syntax-error") && !report.contains("unrecovered");
+	}
+
+	// Scan and parse text in one go, as CrossReferenceAnalysis does a file
+	private static SymbolTable fullAnalysis(String text, Diagnostics errors) throws IOException {
+		Scanner scanner = new Scanner(new StringReader(text));
+		scanner.reportErrorsTo(errors);
+		SymbolTable symbols = new SymbolTable();
+		xrefParser parser = new xrefParser(scanner.scanAll().identifierValuesOnly(), symbols);
+		parser.diagnostics = errors;
+		try {
+			parser.parse();
+		} catch (Exception syntaxError) {
+			// recorded in errors
+		}
+		return symbols;
+	}
+}
@@ -0,0 +1,117 @@
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.FileChannel;
+import java.nio.charset.*;
+
+// MappedAsciiReader reads a source file through a memory mapping of it rather than a
+//  FileInputStream. CSX Lite sources are nearly always plain ASCII, and for ASCII bytes no
+//  charset decoding is needed: each byte is widened straight into the scanner's char buffer,
+//  with no InputStreamReader, no decoder and no intermediate byte buffer in between.
+// If a non-ASCII byte turns up, the rest of the file from that byte on is decoded with the
+//  platform charset, exactly as the InputStreamReader path would have decoded it, so the
+//  characters the scanner sees are the same either way.
+// Files too big to map in one piece (2GB or more) are read through an InputStreamReader.
+
+public class MappedAsciiReader extends Reader {
+	private final ByteBuffer bytes;			// the whole file, or the part of it to be read
+	private CharsetDecoder decoder = null;	// set once a non-ASCII byte has been seen
+	private boolean flushed = false;		// the decoder has been flushed at end of input
+
+	// Read the bytes from bytes' position to its limit
+	MappedAsciiReader(ByteBuffer bytes){
+		this.bytes = bytes;
+	}
+
+	// Return a Reader for file: a mapped reader if the file can be mapped, or an
+	//  InputStreamReader over it if not.
+	static Reader open(File file) throws IOException {
+		RandomAccessFile raf = new RandomAccessFile(file, "r");
+		try {
+			FileChannel channel = raf.getChannel();
+			long size = channel.size();
+			if (size > Integer.MAX_VALUE)
+				return new InputStreamReader(new FileInputStream(file));
+			// The mapping stays valid after the channel is closed
+			return new MappedAsciiReader(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+		} finally {
+			raf.close();
+		}
+	}
+
+	public int read(char[] cbuf, int off, int len) throws IOException {
+		if (len == 0)
+			return 0;
+		if (decoder != null)
+			return decode(cbuf, off, len);
+		int remaining = bytes.remaining();
+		if (remaining == 0)
+			return -1;
+		int n = Math.min(len, remaining);
+		int start = bytes.position();
+		for (int i = 0; i < n; i++) {
+			byte b = bytes.get(start+i);
+			if (b < 0) {	// not ASCII: decode from here on
+				bytes.position(start+i);
+				decoder = Charset.defaultCharset().newDecoder()
+					.onMalformedInput(CodingErrorAction.REPLACE)
+					.onUnmappableCharacter(CodingErrorAction.REPLACE);
+				if (i > 0)
+					return i;
+				return decode(cbuf, off, len);
+			}
+			cbuf[off+i] = (char) b;
+		}
+		bytes.position(start+n);
+		return n;
+	}
+
+	// Decode the rest of the file with the platform charset
+	private int decode(char[] cbuf, int off, int len) throws IOException {
+		CharBuffer out = CharBuffer.wrap(cbuf, off, len);
+		while (out.position() == off) {
+			if (bytes.hasRemaining()) {
+				CoderResult result = decoder.decode(bytes, out, true);
+				if (result.isError())
+					result.throwException();
+			} else if (!flushed) {
+				CoderResult result = decoder.flush(out);
+				if (result.isOverflow())
+					break;
+				flushed = true;
+			} else
+				return -1;
+		}
+		return out.position() - off;
+	}
+
+	public void close(){
+		// Nothing to release: the mapping is unmapped when it is garbage collected
+	}
+
+	// Time scanning each file named on the command line through the InputStreamReader path
+	//  and through the mapped path, and check that both produce the same tokens.
+	public static void main(String args[]) throws IOException {
+		for (String name : args) {
+			File file = new File(name);
+			long[] viaStream = new long[2], viaMap = new long[2];
+			for (int run = 0; run < 5; run++) {		// the early runs warm up the JIT
+				viaStream = scan(new Scanner(new FileInputStream(file)));
+				viaMap = scan(new Scanner(open(file)));
+			}
+			if (viaStream[1] != viaMap[1])
+				System.out.println(name + ": the two paths scanned different tokens!");
+			System.out.println(name + ": " + file.length() + " bytes; stream "
+				+ viaStream[0]/1000000 + " ms, mapped " + viaMap[0]/1000000 + " ms");
+		}
+	}
+
+	// Scan to end of input; return the time taken (ns) and a checksum of the token kinds and lines
+	private static long[] scan(Scanner scanner) throws IOException {
+		long start = System.nanoTime();
+		long sum = 0;
+		for (java_cup.runtime.Symbol token = scanner.next_token(); token.sym != sym.EOF;
+				token = scanner.next_token())
+			sum = 31*sum + token.sym + ((CSXToken) token.value).linenum;
+		return new long[] { System.nanoTime() - start, sum };
+	}
+}
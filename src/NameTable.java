@@ -0,0 +1,96 @@
+import java.util.Arrays;
+
+// NameTable interns identifier names. Each distinct name is given a small integer id
+//  (0, 1, 2, ...) the first time it is seen, and the String for it is created only then.
+// The scanner interns identifiers straight from its character buffer, so scanning an
+//  identifier that has been seen before allocates nothing. Later phases (the AST, the symbol
+//  table) key on the id, and can use name(id) when they need the text.
+// The table is open addressing with linear probing over an int array; the table is kept at
+//  most half full.
+
+public class NameTable {
+	private int[] slots = new int[64];			// hash table of (name id + 1); 0 marks an empty slot
+	private String[] names = new String[32];	// name id -> its text
+	private int[] hashes = new int[32];			// name id -> hash of its text
+	private int count = 0;						// number of distinct names interned
+
+	// Return the id of the name held in buf[off] to buf[off+len-1], entering it if new
+	int intern(char[] buf, int off, int len){
+		int h = 0;
+		for (int i = 0; i < len; i++)
+			h = 31*h + buf[off+i];
+		int mask = slots.length-1;
+		for (int slot = h & mask; ; slot = (slot+1) & mask){
+			int id = slots[slot]-1;
+			if (id < 0)
+				return add(buf, off, len, h, slot);
+			if (hashes[id] == h && matches(names[id], buf, off, len))
+				return id;
+		}
+	}
+
+	// Return the id of name, entering it if new
+	int intern(String name){
+		int len = name.length();
+		int h = 0;
+		for (int i = 0; i < len; i++)
+			h = 31*h + name.charAt(i);
+		int mask = slots.length-1;
+		for (int slot = h & mask; ; slot = (slot+1) & mask){
+			int id = slots[slot]-1;
+			if (id < 0)
+				return add(name, h, slot);
+			if (hashes[id] == h && names[id].equals(name))
+				return id;
+		}
+	}
+
+	// Return the text of the name with the given id
+	String name(int id){
+		return names[id];
+	}
+
+	// Number of distinct names interned; ids run from 0 to size()-1
+	int size(){
+		return count;
+	}
+
+	private static boolean matches(String name, char[] buf, int off, int len){
+		if (name.length() != len)
+			return false;
+		for (int i = 0; i < len; i++)
+			if (name.charAt(i) != buf[off+i])
+				return false;
+		return true;
+	}
+
+	private int add(char[] buf, int off, int len, int h, int slot){
+		return add(new String(buf, off, len), h, slot);
+	}
+
+	private int add(String name, int h, int slot){
+		int id = count++;
+		if (id == names.length){
+			names = Arrays.copyOf(names, 2*id);
+			hashes = Arrays.copyOf(hashes, 2*id);
+		}
+		names[id] = name;
+		hashes[id] = h;
+		slots[slot] = id+1;
+		if (2*count > slots.length)
+			rehash();
+		return id;
+	}
+
+	private void rehash(){
+		int[] newSlots = new int[2*slots.length];
+		int mask = newSlots.length-1;
+		for (int id = 0; id < count; id++){
+			int slot = hashes[id] & mask;
+			while (newSlots[slot] != 0)
+				slot = (slot+1) & mask;
+			newSlots[slot] = id+1;
+		}
+		slots = newSlots;
+	}
+}
@@ -1,4 +1,6 @@
 import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
 import java_cup.runtime.*;
 // CS536 Spring 2015, project 1 (count identifier definitions and uses on
 //  a per scope basis for CSX Lite programs).
@@ -9,49 +11,138 @@ import java_cup.runtime.*;
 //  to countDeclsAndUses (at the bottom of the program) with a call
 //  to the method you write to do a cross-reference analysis
 
+// If more than one file, or a directory, is named on the command line, P1 runs in
+//  batch mode (see analyzeBatch).
+// With "-cache dir" before the file names, scanned tokens are cached in dir (see
+//  TokenCache), and files that have not changed since they were cached are not rescanned.
+// Lexical and syntax errors are collected for each file and written to System.err once
+//  the file is done; "-machine" before the file names writes them in the machine-readable
+//  form (see Diagnostics.flush).
+// With "-pipeline" (and no token cache), a single file is scanned on a thread of its own
+//  while it is parsed (see TokenPipeline), rather than scanned in full before the parse.
+// In batch mode, "-allerrors" has the parser recover from syntax errors (up to the number
+//  of errors Diagnostics keeps for a file) and report them all, rather than stop at the first.
+// With "-watch", P1 analyzes a single file and then watches it, printing its cross-references
+//  again each time it changes (as when an editor saves it); only the lines that changed are
+//  analyzed again (see IncrementalCrossReference). It runs until it is killed.
+// "-profile" counts the parser's shifts in each state and reductions by each production
+//  (see java_cup.runtime.parse_profile), writes a report of the busiest to System.err at the
+//  end, and commits the counts as JFR events for any flight recording that is running.
+
 public class P1 {    
   public static void
   main(String args[]) throws java.io.IOException {
 	
 	System.out.println ("Full Name: Ryan Smith");  												//*RAS - printing,
 	System.out.println ("Student ID Number (NetID): rasmith9");									//*RAS - student ID number,
-	System.out.println ("File Being Analyzed: " + args[0]);										//*RAS - and file being analyzed
-	
+
+	TokenCache cache = null;
+	boolean machine = false;
+	boolean pipelined = false;
+	int errorLimit = 0;
+	boolean profiling = false;
+	boolean watching = false;
+	for (;;) {
+		if (args.length >= 2 && args[0].equals("-cache")) {
+			cache = new TokenCache(new File(args[1]));
+			args = Arrays.copyOfRange(args, 2, args.length);
+		} else if (args.length >= 1 && args[0].equals("-machine")) {
+			machine = true;
+			args = Arrays.copyOfRange(args, 1, args.length);
+		} else if (args.length >= 1 && args[0].equals("-pipeline")) {
+			pipelined = true;
+			args = Arrays.copyOfRange(args, 1, args.length);
+		} else if (args.length >= 1 && args[0].equals("-allerrors")) {
+			errorLimit = Diagnostics.DEFAULT_LIMIT;
+			args = Arrays.copyOfRange(args, 1, args.length);
+		} else if (args.length >= 1 && args[0].equals("-watch")) {
+			watching = true;
+			args = Arrays.copyOfRange(args, 1, args.length);
+		} else if (args.length >= 1 && args[0].equals("-profile")) {
+			profiling = true;
+			args = Arrays.copyOfRange(args, 1, args.length);
+		} else
+			break;
+	}
+
     // Test that a program name appears on the command line.
-	if (args.length != 1) {
+	if (args.length == 0) {
        		System.out.println(
 			"Error: Input file must be named on command line." ); 
 		System.exit(-1);
     	}
 
+	if (args.length > 1 || new File(args[0]).isDirectory()) {
+		if (profiling)
+			CrossReferenceAnalysis.startProfiling();
+		analyzeBatch(args, cache, machine, errorLimit);
+		if (profiling)
+			reportProfile(CrossReferenceAnalysis.profile(), "xrefParser");
+		return;
+	}
+
+	System.out.println ("File Being Analyzed: " + args[0]);										//*RAS - and file being analyzed
+
+	if (watching) {
+		watch(new File(args[0]), machine);
+		return;
+	}
+
 	
-    	java.io.FileInputStream yyin = null;
+    	TokenSource scanner = null;
+    	TokenPipeline pipeline = null;
+    	Diagnostics diagnostics = new Diagnostics();
     	
-        // Open the file named on the command line. yyin will reference it.
+        // Open the file named on the command line and scan it (on several threads, if it
+        //  is large). If there is a token cache, the file's tokens come from it instead; if
+        //  pipelined, the file is scanned as it is parsed.
     	try {
-    		yyin = new java.io.FileInputStream(args[0]);
-    	} catch (FileNotFoundException notFound){
+    		if (pipelined && cache == null)
+    			scanner = pipeline = TokenPipeline.start(new File(args[0]));
+    		else
+    			scanner = CrossReferenceAnalysis.scan(new File(args[0]), cache, diagnostics);
+    	} catch (IOException notFound){
        		System.out.println ("Error: unable to open input file.");
 		System.exit(-1);
     	}
-
-    Scanner.init(yyin); // Initialize Scanner class that will read and scan yyin
+    	if (scanner == null) {		// the scanner failed; diagnostics says why
+    		diagnostics.flush(args[0], machine, System.err);
+    		System.out.println ("Compilation terminated due to syntax errors.");
+    		return;
+    	}
 
     //Create a parser that will parse the tokens returned by the scanner
-    parser csxParser = new parser(); 
+    //  (A pipelined scanner is still finding lexical errors, so the syntax errors are kept
+    //  apart, to be reported after them.)
+    parser csxParser = new parser(scanner); 
+    Diagnostics syntaxErrors = (pipeline != null) ? new Diagnostics() : diagnostics;
+    csxParser.diagnostics = syntaxErrors;
+    if (profiling)
+    	csxParser.set_profile(new parse_profile(csxParser));
 
     Symbol root=null;
+    boolean parsed;
     
     // Call the parser. If the parse is successful, root will point
     //  to the root of the AST (abstract syntax tree) the papser builds
     try {
     	root = csxParser.parse(); // do the parse
-    	System.out.println ("CSX Lite program parsed correctly.");
-	
+    	parsed = true;
     } catch (Exception e) {
+    	parsed = false;
+    }
+    if (pipeline != null) {
+    	pipeline.finish(diagnostics);
+    	diagnostics.addAll(syntaxErrors);
+    }
+    diagnostics.flush(args[0], machine, System.err);
+    if (profiling)
+    	reportProfile(csxParser.profile(), "parser");
+    if (!parsed) {
     	System.out.println ("Compilation terminated due to syntax errors.");
-    	System.exit(0);
+    	return;
     }
+    System.out.println ("CSX Lite program parsed correctly.");
     
     // Print out a listing of the program just parsed. This is done using an
     //  "unparser". A unparser reverses the parsing process, transforming an AST
@@ -70,8 +161,142 @@ public class P1 {
      
     System.out.println ("\n\nHere is an identifier cross-reference analysis for "+
     		args[0]+ ":");
-    System.out.println (((csxLiteNode)root.value).buildCrossReferences());						// *RAS - call to buildCrossReferences
+    Writer out = new BufferedWriter(new OutputStreamWriter(System.out), 1 << 16);		// *RAS - the report is streamed to a buffered
+    ((csxLiteNode)root.value).buildCrossReferences(out);									// *RAS - stdout as it is built, rather than
+    out.write(System.lineSeparator());														// *RAS - collected in one big string
+    out.flush();
     
     return;
     }
+
+  // Batch mode analyzes every file named on the command line, and every .lite file found
+  //  (recursively, in name order) in directories named there. Each file gets its own scanner
+  //  and parser, so files are analyzed concurrently on a pool with one thread per core.
+  //  Reports are still printed in order, each one as soon as it and all earlier ones are done,
+  //  and each file's errors are written to System.err just before its report, with the
+  //  file's name on every line.
+  static void analyzeBatch(String args[], final TokenCache cache, final boolean machine,
+		final int errorLimit)
+		throws java.io.IOException {
+	ArrayList<File> files = new ArrayList<File>();
+	for (String arg : args)
+		collectFiles(new File(arg), files);
+
+	ExecutorService pool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+	ArrayList<Future<String[]>> reports = new ArrayList<Future<String[]>>();
+	for (final File file : files)
+		reports.add(pool.submit(new Callable<String[]>() {
+			public String[] call() { return analyze(file, cache, machine, errorLimit); }
+		}));
+	pool.shutdown();
+
+	Writer out = new BufferedWriter(new OutputStreamWriter(System.out), 1 << 16);
+	try {
+		for (Future<String[]> report : reports) {
+			String[] done = report.get();
+			System.err.print(done[0]);
+			System.err.flush();
+			out.write(done[1]);
+			out.flush();
+		}
+	} catch (InterruptedException e) {
+		pool.shutdownNow();
+		Thread.currentThread().interrupt();
+	} catch (ExecutionException e) {
+		pool.shutdownNow();
+		throw new Error("Batch analysis failed", e.getCause());
+	}
+  }
+
+  // Analyze file, then poll it for changes and analyze each new version of it incrementally,
+  //  printing the outcome and the cross-references every time
+  static void watch(File file, boolean machine) throws IOException {
+	IncrementalCrossReference analysis = null;
+	long modified = -1, length = -1;
+	for (;;) {
+		if (file.lastModified() != modified || file.length() != length) {
+			modified = file.lastModified();
+			length = file.length();
+			String program;
+			try {
+				program = new String(java.nio.file.Files.readAllBytes(file.toPath()), "ISO-8859-1");
+			} catch (IOException notFound) {
+				System.out.println ("Error: unable to open input file.");
+				return;
+			}
+			if (analysis == null)
+				analysis = new IncrementalCrossReference(program);
+			else
+				analysis.update(program);
+			analysis.diagnostics.flush(file.getPath(), machine, System.err);
+			if (analysis.parsed)
+				System.out.println ("CSX Lite program parsed correctly.\n"+
+					"Here is an identifier cross-reference analysis for "+ file.getPath()+ ":");
+			else
+				System.out.println ("Compilation terminated due to syntax errors.\n"+
+					"Here is a partial identifier cross-reference analysis for "+ file.getPath()+
+					", up to the first syntax error:");
+			Writer out = new BufferedWriter(new OutputStreamWriter(System.out), 1 << 16);
+			analysis.printTo(out);
+			out.write(System.lineSeparator());
+			out.flush();
+		}
+		try {
+			Thread.sleep(200);
+		} catch (InterruptedException e) {
+			return;
+		}
+	}
+  }
+
+  // Write a report of a parser's profile to System.err, and commit it as JFR events
+  static void reportProfile(parse_profile profile, String parserName) throws IOException {
+	profile.report(System.err, 10);
+	profile.commit_events(parserName);
+  }
+
+  // Add file to files if it is a plain file; if it is a directory, add the .lite files in it
+  static void collectFiles(File file, ArrayList<File> files) {
+	if (!file.isDirectory()) {
+		files.add(file);
+		return;
+	}
+	File[] entries = file.listFiles();
+	if (entries == null)
+		return;
+	Arrays.sort(entries);
+	for (File entry : entries)
+		if (entry.isDirectory() || entry.getName().endsWith(".lite"))
+			collectFiles(entry, files);
+  }
+
+  // Analyze one file and return the text of its errors (each line naming the file) and of
+  //  its report. This runs on a pool thread, so everything it uses (scanner, parser, symbol
+  //  table) must belong to this file alone. A file with a syntax error still gets the
+  //  cross-references made before the error (and, with an errorLimit, those made after the
+  //  parser recovered from it).
+  static String[] analyze(File file, TokenCache cache, boolean machine, int errorLimit) {
+	CrossReferenceAnalysis result = CrossReferenceAnalysis.analyze(file, cache, errorLimit);
+	String errors = result.diagnostics.take(file.getPath(), machine, true);
+	StringBuilder report = new StringBuilder();
+	report.append("File Being Analyzed: ").append(file.getPath()).append('\n');
+	if (result.failure != null)
+		report.append("Error: ").append(result.failure).append(".\n");
+	else if (result.parsed) {
+		report.append("CSX Lite program parsed correctly.\n");
+		report.append("Here is an identifier cross-reference analysis for ")
+			  .append(file.getPath()).append(":\n");
+		Printable.appendTo(report, result);
+	} else {
+		report.append("Compilation terminated due to syntax errors.\n");
+		if (result.symbols.declarationCount() > 0) {
+			report.append("Here is a partial identifier cross-reference analysis for ")
+				  .append(file.getPath())
+				  .append(errorLimit > 0 ? ", leaving out the code with syntax errors:\n"
+										 : ", up to the first syntax error:\n");
+			Printable.appendTo(report, result);
+		}
+	}
+	return new String[] { errors, report.append('\n').toString() };
+  }
 }
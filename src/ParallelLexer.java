@@ -0,0 +1,251 @@
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.FileChannel;
+import java.util.*;
+import java.util.concurrent.*;
+
+// ParallelLexer scans a large file into a TokenStream on several threads at once.
+// No CSX Lite token spans a line (a // comment ends at its newline), and the scanner is in
+//  the same state at the start of every line. So the file can be cut into chunks at newlines
+//  and each chunk scanned by its own Scanner, with the results the same as scanning the whole
+//  file in one go. The work is done in three parallel passes over the chunks:
+//   1. count the newlines in each chunk; a prefix sum of the counts gives each chunk's first
+//      line number, so every chunk's tokens come out with their lines in the whole file;
+//   2. scan each chunk into its own TokenStream, with its own NameTable;
+//   3. copy the chunk streams, in order, into one packed array, renumbering identifiers from
+//      each chunk's name ids to ids in one NameTable for the file. The names are entered in
+//      chunk order, so they get the same ids a single Scanner would have given them.
+// Lexical errors are recorded in a Diagnostics for each chunk, and added to the caller's in
+//  chunk order once the scan is over. If a chunk's scanner fails (as it does on a non-ASCII
+//  character), the errors of the chunks before it are added and its failure is thrown, just
+//  as a single Scanner would have recorded the errors before the failure and then thrown it.
+// Files smaller than two chunks, and files too big to map, are scanned by a single Scanner.
+
+class ParallelLexer {
+	static final int MIN_CHUNK = 1 << 20;		// smallest chunk worth a thread of its own (bytes)
+
+	private static final ExecutorService pool = Executors.newFixedThreadPool(
+		Runtime.getRuntime().availableProcessors(), new ThreadFactory() {
+			public Thread newThread(Runnable r) {
+				Thread t = new Thread(r, "ParallelLexer");
+				t.setDaemon(true);
+				return t;
+			}
+		});
+
+	// Scan file, in parallel if it is large enough to be worth it, recording lexical errors
+	//  in diagnostics
+	static TokenStream scan(File file, Diagnostics diagnostics) throws IOException {
+		int threads = Runtime.getRuntime().availableProcessors();
+		long size = file.length();
+		int chunks = (int) Math.min(4L*threads, size / MIN_CHUNK);
+		return scan(file, chunks, diagnostics);
+	}
+
+	// Scan file in (about) the given number of chunks
+	static TokenStream scan(File file, int chunks, Diagnostics diagnostics) throws IOException {
+		ByteBuffer bytes;
+		RandomAccessFile raf = new RandomAccessFile(file, "r");
+		try {
+			FileChannel channel = raf.getChannel();
+			long size = channel.size();
+			if (chunks < 2 || size > Integer.MAX_VALUE) {
+				Scanner scanner = new Scanner(file);
+				scanner.reportErrorsTo(diagnostics);
+				return scanner.scanAll();
+			}
+			bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+		} finally {
+			raf.close();
+		}
+		final ByteBuffer[] pieces = split(bytes, chunks);
+		int n = pieces.length;
+
+		// Pass 1: the line each chunk begins on
+		final int[] firstLine = new int[n+1];
+		ArrayList<Future<?>> counts = new ArrayList<Future<?>>();
+		for (int i = 0; i < n; i++) {
+			final int c = i;
+			counts.add(pool.submit(new Runnable() {
+				public void run() { firstLine[c+1] = newlines(pieces[c]); }
+			}));
+		}
+		await(counts);
+		firstLine[0] = 1;
+		for (int i = 1; i <= n; i++)
+			firstLine[i] += firstLine[i-1];
+
+		// Pass 2: scan the chunks
+		final TokenStream[] streams = new TokenStream[n];
+		final Diagnostics[] errors = new Diagnostics[n];
+		final RuntimeException[] failures = new RuntimeException[n];
+		ArrayList<Future<?>> scans = new ArrayList<Future<?>>();
+		for (int i = 0; i < n; i++) {
+			final int c = i;
+			scans.add(pool.submit(new Callable<Void>() {
+				public Void call() throws IOException {
+					Scanner scanner = new Scanner(new MappedAsciiReader(pieces[c]));
+					scanner.firstLine(firstLine[c]);
+					errors[c] = scanner.diagnostics();
+					try {
+						streams[c] = scanner.scanAll();
+					} catch (RuntimeException e) {
+						failures[c] = e;
+					}
+					return null;
+				}
+			}));
+		}
+		await(scans);
+		for (int i = 0; i < n; i++) {
+			diagnostics.addAll(errors[i]);
+			if (failures[i] != null)
+				throw failures[i];
+		}
+
+		// Pass 3: stitch them together. Each chunk's EOF is dropped but the last one's.
+		NameTable names = new NameTable();
+		final int[][] nameMaps = new int[n][];
+		final int[] at = new int[n+1];
+		for (int i = 0; i < n; i++) {
+			NameTable local = streams[i].names;
+			nameMaps[i] = new int[local.size()];
+			for (int id = 0; id < local.size(); id++)
+				nameMaps[i][id] = names.intern(local.name(id));
+			at[i+1] = at[i] + streams[i].size() - 1;
+		}
+		final int[] tokens = new int[4*(at[n]+1)];
+		ArrayList<Future<?>> copies = new ArrayList<Future<?>>();
+		for (int i = 0; i < n; i++) {
+			final int c = i, last = (i == n-1) ? 1 : 0;
+			copies.add(pool.submit(new Runnable() {
+				public void run() {
+					streams[c].copyTo(tokens, at[c], streams[c].size() - 1 + last, nameMaps[c]);
+				}
+			}));
+		}
+		await(copies);
+		return new TokenStream(names, tokens, at[n]+1);
+	}
+
+	// Cut bytes into about the given number of pieces, each ending just after a newline
+	//  (but the last, which ends where bytes does)
+	static ByteBuffer[] split(ByteBuffer bytes, int chunks) {
+		ArrayList<ByteBuffer> pieces = new ArrayList<ByteBuffer>();
+		int size = bytes.limit();
+		int start = 0;
+		for (int i = 1; i < chunks && start < size; i++) {
+			int end = Math.max((int) ((long) size*i/chunks), start);
+			while (end < size && bytes.get(end) != '\n')
+				end++;
+			if (end == size)
+				break;
+			pieces.add(slice(bytes, start, end+1));
+			start = end+1;
+		}
+		pieces.add(slice(bytes, start, size));
+		return pieces.toArray(new ByteBuffer[pieces.size()]);
+	}
+
+	private static ByteBuffer slice(ByteBuffer bytes, int start, int end) {
+		ByteBuffer piece = bytes.duplicate();
+		piece.limit(end).position(start);
+		return piece.slice();
+	}
+
+	private static int newlines(ByteBuffer piece) {
+		int count = 0;
+		for (int i = piece.position(), end = piece.limit(); i < end; i++)
+			if (piece.get(i) == '\n')
+				count++;
+		return count;
+	}
+
+	// Check that scanning in 1 to 7 chunks gives the same tokens and lexical errors, at the
+	//  same positions, as one Scanner does: for some small programs with errors at or just
+	//  after the places they are cut, and for each file named on the command line. A program
+	//  with a non-ASCII character must fail the same way, after the same errors, both ways.
+	public static void main(String args[]) throws IOException {
+		String[] programs = {
+			"{int a;\n a = 1;\n$ a = 2;\n a = 3;\n}",
+			"{int a;\n$\n$ a = 2;\n# a = 3;\n@}\n",
+			"{int a; // comment\n a = 99999999999;\n 12345678901 a = 2;\n\n a = b + c;\n}\n",
+			"\n\n  ?bool b;\n\tb = 1 == 2; // ?\n  if (b) a = 1;\n ~\n",
+			"{int a;\n$ a = 1;\n a = 2; \u00e9\n a = 3; #\n}\n",
+		};
+		ArrayList<File> files = new ArrayList<File>();
+		for (String program : programs){
+			File file = File.createTempFile("chunks", ".lite");
+			file.deleteOnExit();
+			Writer out = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+			out.write(program);
+			out.close();
+			files.add(file);
+		}
+		for (String name : args)
+			files.add(new File(name));
+
+		int failures = 0;
+		for (File file : files){
+			String expected = describe(file, 0);
+			for (int chunks = 1; chunks <= 7; chunks++){
+				String found = describe(file, chunks);
+				if (!found.equals(expected)){
+					failures++;
+					System.out.println(file + " in " + chunks + " chunks: scanned differently!\n"
+						+ "one scanner:\n" + expected + "chunks:\n" + found);
+				}
+			}
+		}
+		System.out.println(files.size() + " files scanned in 1 to 7 chunks: "
+			+ (failures == 0 ? "all the same as one scanner" : failures + " differences"));
+	}
+
+	// Scan file in the given number of chunks (or, given 0, with one Scanner), and describe
+	//  the tokens and errors
+	private static String describe(File file, int chunks) throws IOException {
+		Diagnostics errors = new Diagnostics();
+		TokenStream tokens = null;
+		try {
+			if (chunks == 0){
+				Scanner scanner = new Scanner(file);
+				scanner.reportErrorsTo(errors);
+				tokens = scanner.scanAll();
+			} else
+				tokens = scan(file, chunks, errors);
+		} catch (RuntimeException e) {
+			errors.scannerFailed(e);
+		}
+		return describe(tokens, errors);
+	}
+
+	// The tokens (kinds, positions, and names or values) and errors, one per line
+	private static String describe(TokenStream tokens, Diagnostics errors){
+		StringBuilder s = new StringBuilder();
+		for (int i = 0; tokens != null && i < tokens.size(); i++){
+			s.append(tokens.kind(i)).append(' ').append(tokens.line(i)).append(' ').append(tokens.col(i)).append(' ');
+			s.append(tokens.kind(i) == sym.IDENTIFIER ? tokens.names.name(tokens.value(i))
+				: String.valueOf(tokens.value(i))).append('\n');
+		}
+		ByteArrayOutputStream report = new ByteArrayOutputStream();
+		errors.flush("", true, new PrintStream(report));
+		return s.append(report).toString();
+	}
+
+	// Wait for every task to finish, passing on the first failure
+	private static void await(List<Future<?>> tasks) throws IOException {
+		try {
+			for (Future<?> task : tasks)
+				task.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof IOException)
+				throw (IOException) e.getCause();
+			if (e.getCause() instanceof RuntimeException)
+				throw (RuntimeException) e.getCause();
+			throw new Error("Parallel scan failed", e.getCause());
+		}
+	}
+}
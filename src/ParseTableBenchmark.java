@@ -0,0 +1,162 @@
+import java.io.*;
+import java.util.*;
+import java_cup.runtime.comb_table;
+
+// ParseTableBenchmark compares the parser's two ways of looking up its action and reduce-goto
+//  tables: searching each state's row of (symbol, entry) pairs, and indexing the row-displacement
+//  tables CUP generates with -dense (see java_cup.runtime.comb_table).
+// It times whole parses with the CSX Lite cross-reference grammar (xrefParser) on each file named
+//  on the command line, and table lookups alone with a larger grammar, CUP's own (java_cup.parser),
+//  whose rows are long enough for the action table to be binary searched.
+
+public class ParseTableBenchmark {
+
+	// xrefParser made to search its sparse tables, as it did before -dense
+	static class SparseXrefParser extends xrefParser {
+		SparseXrefParser(TokenStream tokens, SymbolTable symbols){
+			super(tokens, symbols);
+		}
+		public comb_table action_comb_table(){ return null; }
+		public comb_table reduce_comb_table(){ return null; }
+	}
+
+	// CUP's own parser tables, looked up through lr_parser with and without packed tables
+	static class CupTables extends java_cup.parser {
+		CupTables(){
+			action_tab = action_table();
+			reduce_tab = reduce_table();
+		}
+
+		void useComb(boolean packed){
+			action_comb = packed ? comb_table.pack(action_tab) : null;
+			reduce_comb = packed ? comb_table.pack(reduce_tab) : null;
+		}
+
+		int states(){
+			return action_tab.length;
+		}
+
+		int[] actionPairs(){
+			return pairs(action_tab);
+		}
+
+		int[] gotoPairs(){
+			return pairs(reduce_tab);
+		}
+
+		// Every (state, symbol) pair with an explicit entry: the lookups a parse makes
+		private int[] pairs(short[][] table){
+			int n = 0;
+			for (short[] row : table)
+				n += row.length/2 - 1;
+			int[] pairs = new int[2*n];
+			int at = 0;
+			for (int state = 0; state < table.length; state++)
+				for (int i = 0; i+2 < table[state].length; i += 2){
+					pairs[at++] = state;
+					pairs[at++] = table[state][i];
+				}
+			return pairs;
+		}
+
+		long lookups(int[] actions, int[] gotos, int rounds){
+			long sum = 0;
+			for (int r = 0; r < rounds; r++){
+				for (int i = 0; i < actions.length; i += 2)
+					sum += get_action(actions[i], actions[i+1]);
+				for (int i = 0; i < gotos.length; i += 2)
+					sum += get_reduce(gotos[i], gotos[i+1]);
+			}
+			return sum;
+		}
+
+		// Check the packed tables give the same entry as the sparse ones everywhere
+		boolean agree(){
+			int symbols = 0;
+			for (short[] row : action_tab)
+				for (int i = 0; i < row.length; i += 2)
+					symbols = Math.max(symbols, row[i]+1);
+			for (short[] row : reduce_tab)
+				for (int i = 0; i < row.length; i += 2)
+					symbols = Math.max(symbols, row[i]+1);
+			comb_table actions = comb_table.pack(action_tab), gotos = comb_table.pack(reduce_tab);
+			useComb(false);
+			for (int state = 0; state < action_tab.length; state++)
+				for (int sym = 0; sym < symbols; sym++){
+					short action = get_action(state, sym), target = get_reduce(state, sym);
+					if (actions.get(state, sym) != action || gotos.get(state, sym) != target)
+						return false;
+				}
+			return true;
+		}
+	}
+
+	public static void main(String args[]) throws Exception {
+		for (String name : args){
+			TokenStream tokens = new Scanner(new File(name)).scanAll().identifierValuesOnly();
+			long sparse = Long.MAX_VALUE, dense = Long.MAX_VALUE;
+			String sparseOut = null, denseOut = null;
+			for (int run = 0; run < 10; run++){	// the early runs warm up the JIT
+				SymbolTable symbols = new SymbolTable();
+				tokens.rewind();
+				long start = System.nanoTime();
+				new SparseXrefParser(tokens, symbols).parse();
+				sparse = Math.min(sparse, System.nanoTime() - start);
+				sparseOut = report(symbols);
+
+				symbols = new SymbolTable();
+				tokens.rewind();
+				start = System.nanoTime();
+				new xrefParser(tokens, symbols).parse();
+				dense = Math.min(dense, System.nanoTime() - start);
+				denseOut = report(symbols);
+			}
+			if (!sparseOut.equals(denseOut))
+				System.out.println(name + ": the two tables parsed differently!");
+			System.out.println(name + ": " + tokens.size() + " tokens; parse with sparse tables "
+				+ sparse/1000000 + " ms, packed " + dense/1000000 + " ms");
+		}
+
+		CupTables cup = new CupTables();
+		if (!cup.agree())
+			System.out.println("CUP grammar: the packed tables disagree with the sparse ones!");
+		int[] actions = cup.actionPairs(), gotos = cup.gotoPairs();
+		shuffle(actions);
+		shuffle(gotos);
+		int rounds = 20000000 / (actions.length/2 + gotos.length/2);
+		long sparse = Long.MAX_VALUE, dense = Long.MAX_VALUE;
+		for (int run = 0; run < 10; run++){
+			cup.useComb(false);
+			long start = System.nanoTime();
+			long check = cup.lookups(actions, gotos, rounds);
+			sparse = Math.min(sparse, System.nanoTime() - start);
+			cup.useComb(true);
+			start = System.nanoTime();
+			if (cup.lookups(actions, gotos, rounds) != check)
+				System.out.println("CUP grammar: the two tables looked up differently!");
+			dense = Math.min(dense, System.nanoTime() - start);
+		}
+		long lookups = (long) rounds * (actions.length/2 + gotos.length/2);
+		System.out.println("CUP grammar: " + cup.states() + " states; " + lookups
+			+ " lookups with sparse tables " + sparse/1000000 + " ms, packed " + dense/1000000 + " ms");
+	}
+
+	private static String report(SymbolTable symbols) throws IOException {
+		StringBuilder out = new StringBuilder();
+		symbols.printTo(out);
+		return out.toString();
+	}
+
+	// Shuffle (state, symbol) pairs, so lookups do not run through the tables in order
+	private static void shuffle(int[] pairs){
+		Random random = new Random(1);
+		for (int i = pairs.length/2 - 1; i > 0; i--){
+			int j = random.nextInt(i+1);
+			int state = pairs[2*i], sym = pairs[2*i+1];
+			pairs[2*i] = pairs[2*j];
+			pairs[2*i+1] = pairs[2*j+1];
+			pairs[2*j] = state;
+			pairs[2*j+1] = sym;
+		}
+	}
+}
@@ -0,0 +1,26 @@
+import java.io.IOException;
+
+// Something that writes itself out as text: a cross-reference report, or one line of one.
+//  It writes to an Appendable so that a large report can be streamed rather than built in
+//  memory. appendTo and text are for callers that do want the text in memory; they write
+//  to a StringBuilder, which never throws, so the IOException is dealt with here once.
+
+interface Printable {
+	void printTo(Appendable out) throws IOException;
+
+	// Append p's text to s
+	static void appendTo(StringBuilder s, Printable p) {
+		try {
+			p.printTo(s);
+		} catch (IOException e) {
+			throw new Error(e);		// a StringBuilder does not throw
+		}
+	}
+
+	// p's text as a String
+	static String text(Printable p) {
+		StringBuilder s = new StringBuilder();
+		appendTo(s, p);
+		return s.toString();
+	}
+}
@@ -0,0 +1,52 @@
+import java.util.Arrays;
+
+// ScopeArena holds every ScopeInfo node of a program, in order of appearance of the scopes.
+// Scopes get their numbers from a counter as they are opened (the whole program is Scope 1),
+//  and scope number n is stored at index n-1, so adding a scope is an O(1) append at the
+//  tail and any scope can be found from its number without walking a list.
+// Each ScopeInfo records the number of its enclosing scope, so the nesting of blocks is
+//  kept as parent links into the same array.
+
+public class ScopeArena {
+	private ScopeInfo[] scopes = new ScopeInfo[8];
+	private int count = 0;	// number of scopes opened so far
+
+	// Create the next scope, beginning at line l and nested in parent (null for the
+	//  whole program), and append it to the arena.
+	ScopeInfo open(int l, ScopeInfo parent){
+		if (count == scopes.length)
+			scopes = Arrays.copyOf(scopes, 2*count);
+		ScopeInfo scope = new ScopeInfo(count+1, l, (parent == null) ? 0 : parent.number);
+		scopes[count++] = scope;
+		return scope;
+	}
+
+	// Remove every scope, so numbering starts again from 1
+	void clear(){
+		Arrays.fill(scopes, 0, count, null);
+		count = 0;
+	}
+
+	// Number of scopes in the arena
+	int size(){
+		return count;
+	}
+
+	// Return the scope with the given number (1 to size())
+	ScopeInfo get(int number){
+		return scopes[number-1];
+	}
+
+	// Return the scope enclosing the given one, or null for the whole program
+	ScopeInfo parentOf(ScopeInfo scope){
+		return (scope.parent == 0) ? null : scopes[scope.parent-1];
+	}
+
+	// This method converts the arena into string form, one line per scope in order.
+	public String toString() {
+		StringBuilder s = new StringBuilder();
+		for (int i = 0; i < count; i++)
+			s.append(scopes[i].toString());
+		return s.toString();
+	}
+}
@@ -0,0 +1,140 @@
+import java.util.Arrays;
+
+// SymbolTable is a block-structured symbol table used by the cross-reference analysis.
+// Every declaration is given a dense integer id (0, 1, 2, ...) in order of appearance, and
+//  its identifierInfo is stored at that index of declarations. Uses are then recorded by id,
+//  which is a single array index with no searching.
+// Names are identified by their NameTable id, as assigned by the scanner. visible maps each
+//  name id to the id of its innermost visible declaration. The declaration
+//  it hides (if any) is remembered in shadowed, so the visible declarations of a name form a
+//  stack threaded through that array. Opening a block marks the top of the undo stack;
+//  closing it pops every declaration made since the mark, so outer declarations that were
+//  shadowed become visible again.
+
+public class SymbolTable {
+	private int[] visible = new int[0];		// name id -> id of innermost visible declaration, or -1
+	private identifierInfo[] declarations = new identifierInfo[16];		// declaration id -> its information
+	private int[] declaredName = new int[16];		// declaration id -> name id
+	private int[] shadowed = new int[16];			// declaration id -> id of the declaration it hides, or -1
+	private int declarationCount = 0;
+	private int[] undo = new int[16];				// ids of visible declarations, in order they were made
+	private int undoTop = 0;
+	private int[] scopeMarks = new int[8];			// undoTop at the start of each open scope, innermost last
+	private int scopeDepth = 0;
+	final ScopeArena scopes = new ScopeArena();		// every scope (program and blocks) seen so far
+	boolean keepUnbound = false;					// note the uses that bind to no declaration?
+	private int[] unbound = new int[0];				// (name id, line) pairs of those uses, in order
+	private int unboundLength = 0;					// counts ints, not pairs
+
+	// Open a new innermost scope (at the start of the program or of a block)
+	void openScope(){
+		if (scopeDepth == scopeMarks.length)
+			scopeMarks = Arrays.copyOf(scopeMarks, 2*scopeDepth);
+		scopeMarks[scopeDepth++] = undoTop;
+	}
+
+	// Close the innermost scope, removing the declarations made in it from view
+	void closeScope(){
+		int mark = scopeMarks[--scopeDepth];
+		while (undoTop > mark){
+			int id = undo[--undoTop];
+			visible[declaredName[id]] = shadowed[id];
+		}
+	}
+
+	// Enter a declaration in the innermost scope and return its id. A later declaration
+	//  of the same name shadows earlier ones until the scope it was made in is closed.
+	int declare(identifierInfo identifier, int nameId){
+		int id = declarationCount++;
+		if (id == declarations.length){
+			declarations = Arrays.copyOf(declarations, 2*id);
+			declaredName = Arrays.copyOf(declaredName, 2*id);
+			shadowed = Arrays.copyOf(shadowed, 2*id);
+		}
+		declarations[id] = identifier;
+		declaredName[id] = nameId;
+		reserve(nameId);
+		shadowed[id] = visible[nameId];
+		visible[nameId] = id;
+		if (undoTop == undo.length)
+			undo = Arrays.copyOf(undo, 2*undoTop);
+		undo[undoTop++] = id;
+		return id;
+	}
+
+	// Return the id of the declaration a use of the name binds to, or -1 if it is undeclared
+	int lookup(int nameId){
+		return (nameId < visible.length) ? visible[nameId] : -1;
+	}
+
+	// Record a use, on the given line, of the declaration with the given id
+	void recordUse(int id, int line){
+		declarations[id].setLineInfo(line);
+	}
+
+	// Note a use, on the given line, of a name with no visible declaration (if keepUnbound
+	//  is set; otherwise the use is ignored)
+	void recordUnbound(int nameId, int line){
+		if (!keepUnbound)
+			return;
+		if (unboundLength == unbound.length)
+			unbound = Arrays.copyOf(unbound, Math.max(16, 2*unboundLength));
+		unbound[unboundLength++] = nameId;
+		unbound[unboundLength++] = line;
+	}
+
+	// Number of unbound uses noted; the name id and line of use i are unboundName(i) and
+	//  unboundLine(i)
+	int unboundUses(){
+		return unboundLength/2;
+	}
+
+	int unboundName(int i){
+		return unbound[2*i];
+	}
+
+	int unboundLine(int i){
+		return unbound[2*i+1];
+	}
+
+	// Number of declarations made so far; ids run from 0 to declarationCount()-1
+	int declarationCount(){
+		return declarationCount;
+	}
+
+	// Return the information for the declaration with the given id
+	identifierInfo declaration(int id){
+		return declarations[id];
+	}
+
+	// Return the name id of the declaration with the given id
+	int nameOf(int id){
+		return declaredName[id];
+	}
+
+	// Forget every declaration, scope and unbound use, keeping the arrays (and the table of
+	//  visible names, which is as big as the highest name id seen) for the next program
+	void clear(){
+		while (scopeDepth > 0)
+			closeScope();
+		Arrays.fill(declarations, 0, declarationCount, null);
+		declarationCount = 0;
+		unboundLength = 0;
+		scopes.clear();
+	}
+
+	// Write the cross-reference report, one line per declaration in program order, to out
+	void printTo(Appendable out) throws java.io.IOException {
+		for (int id = 0; id < declarationCount; id++)
+			declarations[id].printTo(out);
+	}
+
+	// Make sure visible has an entry for the given name id
+	private void reserve(int nameId){
+		if (nameId < visible.length)
+			return;
+		int oldLength = visible.length;
+		visible = Arrays.copyOf(visible, Math.max(2*oldLength, nameId+16));
+		Arrays.fill(visible, oldLength, visible.length, -1);
+	}
+}
@@ -0,0 +1,161 @@
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.security.*;
+
+// TokenCache keeps the scanner's output for source files in a directory of binary token
+//  files, so a file that has not changed since it was last analyzed is not scanned again.
+// A token file is named after the SHA-256 hash of the source's contents. It holds the
+//  scanner's identity, the file's identifier names (in name id order) and its packed tokens
+//  (see TokenStream), and it is read back through a memory mapping with one bulk copy.
+// The scanner's identity is a hash of the Yylex class, so regenerating the scanner from a
+//  changed lite.jlex invalidates every token file made by the old one. A file the scanner
+//  reported lexical errors in is not cached, so its errors are reported on every run.
+// Several threads (or processes) may share a cache directory: token files are written
+//  to a temporary name and then renamed into place.
+
+class TokenCache {
+	private static final int MAGIC = 0x4c544f4b;	// "LTOK"
+	private static final int FORMAT = 1;			// layout of the token file
+	private static final byte[] SCANNER = scannerIdentity();
+
+	private final File directory;
+
+	TokenCache(File directory){
+		this.directory = directory;
+	}
+
+	// Return file's tokens, from the cache if they are there, or by scanning it (and
+	//  caching the result) if not. Lexical errors found by scanning are recorded in diagnostics.
+	TokenStream tokens(File file, Diagnostics diagnostics) throws IOException {
+		File cached = new File(directory, toHex(contentHash(file)) + ".tok");
+		TokenStream stream = read(cached);
+		if (stream != null)
+			return stream;
+		Scanner scanner = new Scanner(file);
+		scanner.reportErrorsTo(diagnostics);
+		stream = scanner.scanAll();
+		if (scanner.lexicalErrors() == 0)
+			write(stream, cached);
+		return stream;
+	}
+
+	// Read a token file, or return null if there is none or it was made by another scanner
+	private static TokenStream read(File cached) throws IOException {
+		if (!cached.isFile())
+			return null;
+		ByteBuffer in;
+		RandomAccessFile raf = new RandomAccessFile(cached, "r");
+		try {
+			FileChannel channel = raf.getChannel();
+			in = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		} finally {
+			raf.close();
+		}
+		try {
+			if (in.getInt() != MAGIC || in.getInt() != FORMAT)
+				return null;
+			byte[] scanner = new byte[SCANNER.length];
+			in.get(scanner);
+			if (!MessageDigest.isEqual(scanner, SCANNER))
+				return null;
+			NameTable names = new NameTable();
+			char[] name = new char[64];
+			for (int n = in.getInt(); n > 0; n--){
+				int length = in.getInt();
+				if (length > name.length)
+					name = new char[length];
+				for (int i = 0; i < length; i++)
+					name[i] = (char) in.get();
+				names.intern(name, 0, length);
+			}
+			int count = in.getInt();
+			if (count < 0 || in.remaining() / 16 < count)
+				return null;
+			int[] tokens = new int[4*count];
+			in.asIntBuffer().get(tokens);
+			return new TokenStream(names, tokens, count);
+		} catch (BufferUnderflowException truncated) {
+			return null;	// treat a damaged token file as missing; it will be rewritten
+		}
+	}
+
+	private void write(TokenStream stream, File cached) throws IOException {
+		NameTable names = stream.names;
+		int size = 4*4 + SCANNER.length + 4*stream.size()*4;
+		for (int id = 0; id < names.size(); id++)
+			size += 4 + names.name(id).length();
+		ByteBuffer out = ByteBuffer.allocate(size);
+		out.putInt(MAGIC).putInt(FORMAT).put(SCANNER);
+		out.putInt(names.size());
+		for (int id = 0; id < names.size(); id++){
+			String name = names.name(id);
+			out.putInt(name.length());
+			for (int i = 0; i < name.length(); i++)
+				out.put((byte) name.charAt(i));	// identifiers are letters and digits only
+		}
+		out.putInt(stream.size());
+		for (int i = 0; i < stream.size(); i++)
+			out.putInt(stream.kind(i)).putInt(stream.line(i)).putInt(stream.col(i)).putInt(stream.value(i));
+
+		directory.mkdirs();
+		File temp = File.createTempFile("tok", ".tmp", directory);
+		try {
+			Files.write(temp.toPath(), out.array());
+			Files.move(temp.toPath(), cached.toPath(),
+				StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			temp.delete();
+		}
+	}
+
+	// Hash of the Yylex class file
+	private static byte[] scannerIdentity(){
+		try {
+			InputStream in = Yylex.class.getResourceAsStream("Yylex.class");
+			if (in == null)
+				throw new Error("Yylex.class not found");
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			try {
+				byte[] buf = new byte[8192];
+				for (int n; (n = in.read(buf)) > 0; )
+					digest.update(buf, 0, n);
+			} finally {
+				in.close();
+			}
+			return digest.digest();
+		} catch (IOException e) {
+			throw new Error("Unable to read Yylex.class", e);
+		} catch (NoSuchAlgorithmException e) {
+			throw new Error(e);
+		}
+	}
+
+	// SHA-256 hash of file's contents, read through memory mappings of it
+	private static byte[] contentHash(File file) throws IOException {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new Error(e);
+		}
+		RandomAccessFile raf = new RandomAccessFile(file, "r");
+		try {
+			FileChannel channel = raf.getChannel();
+			long size = channel.size();
+			for (long at = 0; at < size; at += Integer.MAX_VALUE)
+				digest.update(channel.map(FileChannel.MapMode.READ_ONLY, at, Math.min(size-at, Integer.MAX_VALUE)));
+		} finally {
+			raf.close();
+		}
+		return digest.digest();
+	}
+
+	private static String toHex(byte[] bytes){
+		StringBuilder hex = new StringBuilder(2*bytes.length);
+		for (byte b : bytes)
+			hex.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+		return hex.toString();
+	}
+}
@@ -0,0 +1,275 @@
+import java.io.*;
+import java.util.concurrent.locks.LockSupport;
+import java_cup.runtime.Symbol;
+
+// TokenPipeline runs a Scanner on a thread of its own, so that reading and decoding the
+//  input and running the scanner's DFA overlap with parsing rather than taking turns with it
+//  on one core. As a TokenSource it hands the parser the tokens in order.
+// The scanner thread scans tokens in batches into a TokenStream (making no objects for them)
+//  and publishes each batch into a bounded ring buffer with one producer (the scanner thread)
+//  and one consumer (the parser). The ring holds tokens as four ints each, as TokenStream does,
+//  plus each identifier's name, since the scanner's NameTable is not safe to read while the
+//  scanner is adding to it. The two threads share only two counters: published, advanced by
+//  the scanner once a batch is in the ring, and consumed, advanced by the parser every batch
+//  it takes. Each side waits (spinning briefly, then parking) only when the ring is full or
+//  empty. Once consumed passes a slot the scanner may write over it, so the parser reads
+//  everything it needs from a slot before advancing consumed.
+// Lexical errors are recorded in the scanner's own Diagnostics, and handed over by finish()
+//  once the scanner thread is done with them. If the scanner fails (as it does on a non-ASCII
+//  character), the parser gets the failure as it reaches the tokens that were never scanned,
+//  and finish() records it as one more lexical error.
+
+class TokenPipeline implements TokenSource {
+	static final int BATCH = 256;			// tokens published at a time (a power of two)
+	static final int CAPACITY = 64*BATCH;	// tokens the ring holds by default (a power of two)
+	private static final int KIND = 0, LINE = 1, COL = 2, VALUE = 3, WIDTH = 4;
+
+	private final int capacity;				// tokens this ring holds (a power of two, at least BATCH)
+	private final int[] ring;
+	private final String[] ringNames;		// the name of each identifier in the ring
+	private volatile long published = 0;		// tokens the scanner has put in the ring
+	private volatile long consumed = 0;			// tokens the parser has finished with
+	private volatile boolean draining = false;	// the parser is done; scan the rest, publishing nothing
+	private volatile Throwable failure = null;	// what stopped the scanner thread, if it failed
+
+	private final Scanner scanner;
+	private final Thread thread;
+	private long next = 0;			// the token the parser takes next
+	private long available = 0;		// tokens the parser has seen published
+
+	private TokenPipeline(Scanner scanner, int capacity){
+		if (capacity < BATCH || (capacity & (capacity-1)) != 0)
+			throw new IllegalArgumentException("Ring capacity " + capacity + " is not a power of two of at least " + BATCH);
+		this.scanner = scanner;
+		this.capacity = capacity;
+		ring = new int[WIDTH*capacity];
+		ringNames = new String[capacity];
+		thread = new Thread(new Runnable() {
+			public void run() { produce(); }
+		}, "TokenPipeline");
+		thread.setDaemon(true);
+	}
+
+	// Start scanning file on a thread of its own. The file is opened here, so a file that
+	//  cannot be opened is reported here rather than by the parse.
+	static TokenPipeline start(File file) throws IOException {
+		return start(file, CAPACITY);
+	}
+
+	// Start scanning file into a ring of the given capacity (a small one is used to test
+	//  the pipeline with its ring full most of the time)
+	static TokenPipeline start(File file, int capacity) throws IOException {
+		TokenPipeline pipeline = new TokenPipeline(new Scanner(file), capacity);
+		pipeline.thread.start();
+		return pipeline;
+	}
+
+	// The scanner thread: scan batches and publish them until the input is used up
+	private void produce(){
+		try {
+			TokenStream batch = new TokenStream(scanner.names());
+			boolean more;
+			do {
+				batch.clear();
+				more = scanner.scan(batch, BATCH);
+				if (!draining)
+					publish(batch);
+			} while (more);
+		} catch (Throwable t) {		// an IOException, or the DFA failing on a non-ASCII character
+			failure = t;
+		}
+	}
+
+	// Copy batch into the ring, once there is room for it, and make it visible to the parser
+	private void publish(TokenStream batch){
+		int n = batch.size();
+		long at = published;
+		for (int spins = 0; at + n - consumed > capacity; spins++){
+			if (draining)
+				return;
+			pause(spins);
+		}
+		NameTable names = scanner.names();
+		for (int i = 0; i < n; i++){
+			int slot = (int) (at+i) & (capacity-1);
+			int kind = batch.kind(i), value = batch.value(i);
+			ring[WIDTH*slot+KIND] = kind;
+			ring[WIDTH*slot+LINE] = batch.line(i);
+			ring[WIDTH*slot+COL] = batch.col(i);
+			ring[WIDTH*slot+VALUE] = value;
+			ringNames[slot] = (kind == sym.IDENTIFIER) ? names.name(value) : null;
+		}
+		published = at + n;
+	}
+
+	public Symbol next_token() throws IOException {
+		if (next == available)
+			refill();
+		int slot = (int) next & (capacity-1);
+		int at = WIDTH*slot;
+		int kind = ring[at+KIND], line = ring[at+LINE], col = ring[at+COL], value = ring[at+VALUE];
+		String name = ringNames[slot];
+		if (kind != sym.EOF && (++next & (BATCH-1)) == 0)	// after EOF, keep returning EOF
+			consumed = next;	// the slot may be overwritten from here on
+		switch (kind){
+		case sym.IDENTIFIER:
+			return new Symbol(kind, line, col, new CSXIdentifierToken(name, value, line, col));
+		case sym.INTLIT:
+			return new Symbol(kind, line, col, new CSXIntLitToken(value, line, col));
+		default:
+			return new Symbol(kind, line, col, new CSXToken(line, col));
+		}
+	}
+
+	// Wait for the scanner to publish more tokens, handing back the room taken by those used
+	private void refill() throws IOException {
+		consumed = next;
+		for (int spins = 0; (available = published) == next; spins++){
+			if (failure != null)
+				rethrow(failure);
+			pause(spins);
+		}
+	}
+
+	// The parse is over: let the scanner run through the rest of the input without
+	//  publishing it (so that every lexical error is still found), wait for it to end, and
+	//  add its lexical errors to diagnostics, ending with the scanner's failure if it failed
+	void finish(Diagnostics diagnostics) throws IOException {
+		draining = true;
+		try {
+			thread.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException();
+		}
+		diagnostics.addAll(scanner.diagnostics());
+		if (failure instanceof RuntimeException)
+			diagnostics.scannerFailed((RuntimeException) failure);
+		else if (failure != null)
+			rethrow(failure);
+	}
+
+	private static void pause(int spins){
+		if (spins < 64)
+			Thread.onSpinWait();
+		else if (spins < 128)
+			Thread.yield();
+		else
+			LockSupport.parkNanos(20000);
+	}
+
+	private static void rethrow(Throwable failure) throws IOException {
+		if (failure instanceof IOException)
+			throw (IOException) failure;
+		if (failure instanceof RuntimeException)
+			throw (RuntimeException) failure;
+		if (failure instanceof Error)
+			throw (Error) failure;
+		throw new Error("Scanner thread failed", failure);
+	}
+
+	// Time parsing each file named on the command line with its tokens from a Scanner on the
+	//  parser's thread, from ParallelLexer (scanning the whole file first), and from a
+	//  TokenPipeline, and check that the last two parse the same way and find the same errors.
+	//  (A Scanner on the parser's thread stops where the parse gives up, so it can find fewer
+	//  lexical errors.) The pipeline can only gain where there is a core free for its scanner.
+	// First, each file (or, given none, a generated program) is read through a ring of only
+	//  BATCH tokens, so that the scanner waits on a full ring and writes each slot as soon as
+	//  the parser lets it go, and the tokens are checked against a Scanner's.
+	public static void main(String args[]) throws Exception {
+		if (args.length == 0){
+			File file = File.createTempFile("pipeline", ".lite");
+			file.deleteOnExit();
+			Writer out = new BufferedWriter(new FileWriter(file));
+			out.write("{ int a; bool b;\n");
+			for (int i = 0; i < 100000; i++)
+				out.write(" x" + (i % 1000) + " = a + " + i + "; $ // " + i + "\n");
+			out.write("}\n");
+			out.close();
+			checkFullRing(file, 20);
+			return;
+		}
+		for (String name : args)
+			checkFullRing(new File(name), 5);
+		for (String name : args){
+			File file = new File(name);
+			long direct = Long.MAX_VALUE, parallel = Long.MAX_VALUE, piped = Long.MAX_VALUE;
+			String parallelOut = null, pipedOut = null;
+			for (int run = 0; run < 10; run++){		// the early runs warm up the JIT
+				long start = System.nanoTime();
+				Scanner scanner = new Scanner(file);
+				parse(scanner, scanner.diagnostics());
+				direct = Math.min(direct, System.nanoTime() - start);
+
+				start = System.nanoTime();
+				Diagnostics diagnostics = new Diagnostics();
+				parallelOut = parse(ParallelLexer.scan(file, diagnostics), diagnostics) + " " + diagnostics.size();
+				parallel = Math.min(parallel, System.nanoTime() - start);
+
+				start = System.nanoTime();
+				TokenPipeline pipeline = start(file);
+				Diagnostics syntaxErrors = new Diagnostics();
+				String result = parse(pipeline, syntaxErrors);
+				diagnostics = new Diagnostics();
+				pipeline.finish(diagnostics);
+				diagnostics.addAll(syntaxErrors);
+				pipedOut = result + " " + diagnostics.size();
+				piped = Math.min(piped, System.nanoTime() - start);
+			}
+			if (!parallelOut.equals(pipedOut))
+				System.out.println(name + ": the token sources parsed differently!");
+			System.out.println(name + ": " + file.length() + " bytes; scan and parse on one thread "
+				+ direct/1000000 + " ms, parallel scan then parse " + parallel/1000000
+				+ " ms, pipelined " + piped/1000000 + " ms");
+		}
+	}
+
+	// Read file through a ring of BATCH tokens runs times, and check that every token has
+	//  the kind, position and value a Scanner gives it
+	private static void checkFullRing(File file, int runs) throws IOException {
+		long tokens = 0;
+		for (int run = 0; run < runs; run++){
+			TokenPipeline pipeline = start(file, BATCH);
+			Scanner scanner = new Scanner(file);
+			for (long i = 0; ; i++){
+				Symbol piped = pipeline.next_token(), direct = scanner.next_token();
+				String found = describe(piped), expected = describe(direct);
+				if (!found.equals(expected)){
+					System.out.println(file + ": token " + i + " through a full ring is " + found
+						+ ", not " + expected + "!");
+					break;
+				}
+				if (direct.sym == sym.EOF){
+					tokens += i+1;
+					break;
+				}
+			}
+			pipeline.finish(new Diagnostics());
+		}
+		System.out.println(file + ": " + tokens + " tokens read through a full ring in " + runs + " runs");
+	}
+
+	private static String describe(Symbol token){
+		String value = "";
+		if (token.value instanceof CSXIdentifierToken)
+			value = ((CSXIdentifierToken) token.value).identifierText;
+		else if (token.value instanceof CSXIntLitToken)
+			value = String.valueOf(((CSXIntLitToken) token.value).intValue);
+		return token.sym + " " + token.left + " " + token.right + " " + value;
+	}
+
+	// Parse tokens, and describe the outcome by the number of statements in the program
+	private static String parse(TokenSource tokens, Diagnostics diagnostics){
+		parser p = new parser(tokens);
+		p.diagnostics = diagnostics;
+		try {
+			csxLiteNode root = (csxLiteNode) p.parse().value;
+			int statements = 0;
+			for (stmtsOption s = root.progStmts; !s.isNull(); s = ((stmtsNode) s).moreStmts)
+				statements++;
+			return "parsed " + statements;
+		} catch (Exception e) {
+			return "failed";
+		}
+	}
+}
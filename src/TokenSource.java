@@ -0,0 +1,8 @@
+import java_cup.runtime.Symbol;
+
+// A TokenSource supplies the tokens a parser reads, one Symbol at a time, ending with an
+//  EOF token. A Scanner is one (it scans as it goes); a TokenStream is another (it replays
+//  tokens already scanned into a packed array).
+interface TokenSource {
+	Symbol next_token() throws java.io.IOException;
+}
@@ -0,0 +1,127 @@
+import java.util.Arrays;
+import java_cup.runtime.Symbol;
+
+// TokenStream holds a whole file's tokens packed into one int array, four ints per token:
+//  its kind (a sym constant), line, column, and a value: the name id (in names) of an
+//  identifier, or the value of an integer literal. It is filled by Scanner.scanAll with no
+//  per-token objects, and the last token is always EOF.
+// As a TokenSource it replays the tokens in order. It makes a Symbol for each token only
+//  as the parser asks for it, with the token's line and column in left and right. With
+//  valuesForAll cleared, only identifiers are given a value, and every use of one name
+//  shares the same CSXIdentifierToken (whose line and column mean nothing); that suits a
+//  parser whose actions read only identifiers' names and take positions from the Symbols,
+//  such as xrefParser. The Symbols themselves can't be shared: the parser keeps them on its
+//  stack (and sets their parse_state), and may hold several lookahead tokens at once.
+
+class TokenStream implements TokenSource {
+	private static final int KIND = 0, LINE = 1, COL = 2, VALUE = 3, WIDTH = 4;
+
+	private int[] tokens = new int[WIDTH*1024];
+	private int count = 0;		// number of tokens held
+	private int next = 0;		// index of the token next_token() returns next
+	final NameTable names;		// the table identifier values index into
+	boolean valuesForAll = true;
+	private CSXIdentifierToken[] nameTokens = new CSXIdentifierToken[0];	// shared values, by name id
+
+	TokenStream(NameTable names){
+		this.names = names;
+	}
+
+	// A stream holding count tokens already packed in tokens (as read back by TokenCache)
+	TokenStream(NameTable names, int[] tokens, int count){
+		this.names = names;
+		this.tokens = tokens;
+		this.count = count;
+	}
+
+	// From now on give identifiers alone values (see above), and return this stream. Only
+	//  identifier tokens' values are read by xrefParser, so a stream meant for it can skip the
+	//  rest; it must not then be replayed to parser, whose syntax_error reads every token's value.
+	TokenStream identifierValuesOnly(){
+		valuesForAll = false;
+		return this;
+	}
+
+	// Append a token
+	void add(int kind, int line, int col, int value){
+		int at = WIDTH*count;
+		if (at == tokens.length)
+			tokens = Arrays.copyOf(tokens, 2*at);
+		tokens[at+KIND] = kind;
+		tokens[at+LINE] = line;
+		tokens[at+COL] = col;
+		tokens[at+VALUE] = value;
+		count++;
+	}
+
+	// Number of tokens held, including the final EOF
+	int size(){
+		return count;
+	}
+
+	int kind(int i){
+		return tokens[WIDTH*i+KIND];
+	}
+
+	int line(int i){
+		return tokens[WIDTH*i+LINE];
+	}
+
+	int col(int i){
+		return tokens[WIDTH*i+COL];
+	}
+
+	int value(int i){
+		return tokens[WIDTH*i+VALUE];
+	}
+
+	// Copy this stream's first n tokens into dest, as tokens at, at+1, ... of a packed
+	//  array, giving each identifier the id nameMap[id] in place of its own name id
+	void copyTo(int[] dest, int at, int n, int[] nameMap){
+		System.arraycopy(tokens, 0, dest, WIDTH*at, WIDTH*n);
+		for (int i = WIDTH*at, end = WIDTH*(at+n); i < end; i += WIDTH)
+			if (dest[i+KIND] == sym.IDENTIFIER)
+				dest[i+VALUE] = nameMap[dest[i+VALUE]];
+	}
+
+	// Replay the tokens from the first one again
+	void rewind(){
+		next = 0;
+	}
+
+	// Drop every token, keeping the array for the next ones added (as TokenPipeline does
+	//  with each batch)
+	void clear(){
+		count = 0;
+		next = 0;
+	}
+
+	// The value shared by every identifier token with name id id
+	private CSXIdentifierToken nameToken(int id){
+		if (id >= nameTokens.length)
+			nameTokens = Arrays.copyOf(nameTokens, Math.max(id+1, 2*nameTokens.length));
+		CSXIdentifierToken token = nameTokens[id];
+		if (token == null)
+			token = nameTokens[id] = new CSXIdentifierToken(names.name(id), id, 0, 0);
+		return token;
+	}
+
+	public Symbol next_token(){
+		int i = (next < count) ? next++ : count-1;	// after the end, keep returning EOF
+		int at = WIDTH*i;
+		int kind = tokens[at+KIND], line = tokens[at+LINE], col = tokens[at+COL];
+		switch (kind){
+		case sym.IDENTIFIER:
+			int id = tokens[at+VALUE];
+			if (!valuesForAll)
+				return new Symbol(kind, line, col, nameToken(id));
+			return new Symbol(kind, line, col, new CSXIdentifierToken(names.name(id), id, line, col));
+		case sym.INTLIT:
+			if (!valuesForAll)
+				return new Symbol(kind, line, col);
+			return new Symbol(kind, line, col, new CSXIntLitToken(tokens[at+VALUE], line, col));
+		default:
+			return new Symbol(kind, line, col, valuesForAll ? new CSXToken(line, col) : null);
+		}
+	}
+}
@@ -35,18 +35,28 @@ public class Unparsing extends Visitor {
 	}
    // unparse.visit((csxLiteNode) root.value,0);
 	
+	// Declaration and statement lists are unparsed with a loop, not by recursing on
+	//  the rest of the list, so long lists can't overflow the Java stack.
 	void visit(fieldDeclsNode n,int indent){
 		//System.out.println ("In fieldDeclsNode\n");
 		
-			this.visit(n.thisField,indent);
-			this.visit(n.moreFields,indent);
+			fieldDeclsOption fields = n;
+			while (!fields.isNull()){
+				fieldDeclsNode node = (fieldDeclsNode) fields;
+				this.visit(node.thisField,indent);
+				fields = node.moreFields;
+			}
 	}
 	void visit(nullFieldDeclsNode n,int indent){}
 
 	void visit(stmtsNode n,int indent){
 		  //System.out.println ("In stmtsNode\n");
-		  this.visit(n.thisStmt,indent);
-		  this.visit(n.moreStmts,indent);
+		  stmtsOption stmts = n;
+		  while (!stmts.isNull()){
+			  stmtsNode node = (stmtsNode) stmts;
+			  this.visit(node.thisStmt,indent);
+			  stmts = node.moreStmts;
+		  }
 
 	}
 	void visit(nullStmtsNode n,int indent){}
@@ -119,4 +129,43 @@ public class Unparsing extends Visitor {
 	}
 
 
+//  This is used only to test this class (during development or modification).
+//  It builds a block with tens of thousands of declarations and statements, as a long
+//   program would give, and checks that unparsing it and building its cross-references
+//   don't overflow the Java stack.
+	public static void  main(String args[]) throws java.io.IOException {
+		final int count = 50000;
+		System.out.println("Begin test of Unparsing");
+		fieldDeclsOption decls = fieldDeclsNode.NULL;
+		stmtsOption stmts = stmtsNode.NULL;
+		for (int i = count; i >= 1; i--){	// lists are built back to front, as the parser does
+			decls = new fieldDeclsNode(new varDeclNode(new identNode("v"+i, i, i+1, 5),
+				new intTypeNode(i+1, 1), exprNode.NULL, i+1, 1), decls, i+1, 1);
+			stmts = new stmtsNode(new asgNode(new identNode("v"+i, i, count+i+1, 1),
+				new intLitNode(i, count+i+1, 5), count+i+1, 1), stmts, count+i+1, 1);
+		}
+		csxLiteNode root = new csxLiteNode(fieldDeclsNode.NULL,
+			new stmtsNode(new blockNode(decls, stmts, 1, 1), stmtsNode.NULL, 1, 1), 1, 1);
+
+		java.io.PrintStream out = System.out;
+		java.io.ByteArrayOutputStream unparsed = new java.io.ByteArrayOutputStream();
+		System.setOut(new java.io.PrintStream(unparsed));
+		try {
+			new Unparsing().visit(root, 0);
+		} finally {
+			System.setOut(out);
+		}
+		int lines = 0;
+		for (byte b : unparsed.toByteArray())
+			if (b == '\n') lines++;
+		System.out.println("Unparsed " + lines + " lines (expected " + (2*count + 4) + ")");
+
+		StringBuilder report = new StringBuilder();
+		root.buildCrossReferences(report);
+		int entries = 0;
+		for (int i = 0; i < report.length(); i++)
+			if (report.charAt(i) == '\n') entries++;
+		System.out.println("Cross-referenced " + entries + " identifiers (expected " + count + ")");
+		System.out.println("End test of Unparsing");
+	}
 }
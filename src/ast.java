@@ -37,7 +37,7 @@ abstract class ASTNode {
 
 	// default action on an AST node is to record no declarations and no identifier uses
 	 
-	 void buildCrossReferences(ScopeInfo currentScope, ArrayList<identifierInfo> identifiers){ 				//*RAS
+	 void buildCrossReferences(ScopeInfo currentScope, SymbolTable symbols){ 				//*RAS
 		return;
 	}
 
@@ -49,7 +49,7 @@ class csxLiteNode extends ASTNode {
 	
    	public final fieldDeclsOption	progDecls;
 	public final stmtsOption 	progStmts;
-	private ScopeInfo  		 scopeList;
+	private ScopeArena  		 scopeList;
 	String[] UsageArray;
 	
 	csxLiteNode(fieldDeclsOption decls, stmtsOption stmts, int line, int col){      
@@ -66,22 +66,27 @@ class csxLiteNode extends ASTNode {
 	//  It first creates a ScopeInfo node for the entire program.
 	//  It then passes this ScopeInfo node to the declarations subtree and then
 	//   the statements subtree. Visiting these two subtrees causes all identifier uses and
-	//     declarations to be recognized and recorded in the list rooted by the ScopeInfo node.
-	//  Finally, the information stored in the ScopeInfo list is converted to string form
+	//     declarations to be recognized and recorded in the symbol table and its ScopeArena.
+	//  Finally, the information stored in the symbol table is converted to string form
 	//   and returned to the caller of the analysis.
 	 
-	 String buildCrossReferences(){													//*RAS Here is where we kick things off, building cross references
-		 String returnString="";													//*RAS for the AST before printing their information.
-		 scopeList = new ScopeInfo(1,linenum);
-		 ArrayList<identifierInfo> identifiers = new ArrayList<identifierInfo>();
-		 //identifierInfo[] identifiers = new identifierInfo[1];
-		 progDecls.buildCrossReferences(scopeList, identifiers);
-		 //identifierInfo[] identifiers = new identifierInfo[scopeList.hashTablesSize()];
-		 progStmts.buildCrossReferences(scopeList, identifiers);
-		 //return scopeList.myToString(identifiers);
-		 for (identifierInfo identifier : identifiers)
-			 returnString = returnString + identifier.printString();
-		 return returnString;
+	 String buildCrossReferences(){													//*RAS This returns the whole report as a string; it is
+		 return Printable.text(new Printable(){										//*RAS only meant for small programs. Large ones should
+			 public void printTo(Appendable out) throws java.io.IOException {		//*RAS stream the report to a Writer instead.
+				 buildCrossReferences(out);
+			 }
+		 });
+	}
+
+	 void buildCrossReferences(Appendable out) throws java.io.IOException {		//*RAS Here is where we kick things off, building cross references
+		 SymbolTable symbols = new SymbolTable();									//*RAS for the AST and then writing one line per identifier to out.
+		 scopeList = symbols.scopes;
+		 ScopeInfo programScope = scopeList.open(linenum, null);
+		 symbols.openScope();
+		 progDecls.buildCrossReferences(programScope, symbols);
+		 progStmts.buildCrossReferences(programScope, symbols);
+		 symbols.closeScope();
+		 symbols.printTo(out);
 	}
 
 };
@@ -108,10 +113,13 @@ class fieldDeclsNode extends fieldDeclsOption {
 
 	void accept(Visitor u, int indent){ u.visit(this,indent);}
 	
-	void buildCrossReferences(ScopeInfo currentScope, ArrayList<identifierInfo> identifiers){		//*RAS Build cross-references for this field and more fields
-		thisField.buildCrossReferences(currentScope, identifiers);
-		moreFields.buildCrossReferences(currentScope, identifiers);
-		return;
+	void buildCrossReferences(ScopeInfo currentScope, SymbolTable symbols){		//*RAS Build cross-references for this field and more fields.
+		fieldDeclsOption fields = this;												//*RAS The list is walked with a loop rather than recursion, so
+		while (!fields.isNull()){													//*RAS a long run of declarations can't overflow the Java stack.
+			fieldDeclsNode node = (fieldDeclsNode) fields;
+			node.thisField.buildCrossReferences(currentScope, symbols);
+			fields = node.moreFields;
+		}
 	}
 };
 
@@ -123,7 +131,7 @@ class nullFieldDeclsNode extends fieldDeclsOption {
 
 	void accept(Visitor u, int indent){ u.visit(this,indent);}
 
-	void buildCrossReferences(ScopeInfo currentScope, ArrayList<identifierInfo> identifiers){		//*RAS
+	void buildCrossReferences(ScopeInfo currentScope, SymbolTable symbols){		//*RAS
 			return;
 	}
 };
@@ -140,6 +148,7 @@ class varDeclNode extends declNode {
 	public final	identNode	varName;
 	public final	typeNode 	varType;
 	public final	exprOption 	initValue;
+	int				declId = -1;	// dense id given by the symbol table when declared
 	
 	varDeclNode(identNode id, typeNode t, exprOption e,
 			int line, int col){
@@ -152,16 +161,15 @@ class varDeclNode extends declNode {
 	void accept(Visitor u, int indent){ u.visit(this,indent);}
 
 
-	void buildCrossReferences(ScopeInfo currentScope, ArrayList<identifierInfo> identifiers){
+	void buildCrossReferences(ScopeInfo currentScope, SymbolTable symbols){
 		String typeString;															//*RAS Here we decorate an identifier that's been declared with
-		currentScope.ident.put(varName.idname, linenum);							//*RAS information about its name, type, the scope in which it's
 		identifierInfo identifier = new identifierInfo();							//*RAS information about its name, type, the scope in which it's
-		identifier.identifierName = varName.idname;									//*RAS been declared, and the line number on which it was declared.
-		identifier.declaredLine = linenum;
+		identifier.identifierName = varName.idname;									//*RAS been declared, and the line number on which it was declared,
+		identifier.declaredLine = linenum;											//*RAS and enter it in the innermost scope of the symbol table.
 		identifier.declaredScope = currentScope;
 		typeString = varType.toString();
 		identifier.identifierType = identifier.getName(typeString);
-		identifiers.add(identifier);
+		declId = symbols.declare(identifier, varName.nameId);
 	}
 	
 	
@@ -191,7 +199,7 @@ class intTypeNode extends typeNode {
 
 	void accept(Visitor u, int indent){ u.visit(this,indent); }
 	
-	void buildCrossReferences(ScopeInfo currentScope, ArrayList<identifierInfo> identifiers){					//*RAS
+	void buildCrossReferences(ScopeInfo currentScope, SymbolTable symbols){					//*RAS
 		return;
 	}
 };
@@ -223,7 +231,7 @@ class nullStmtNode extends stmtOption {
 	nullStmtNode(){};
 	boolean   isNull(){return true;};
 	void accept(Visitor u, int indent){ u.visit(this,indent);}
-	void buildCrossReferences(ScopeInfo currentScope, ArrayList<identifierInfo> identifiers){return;}			//*RAS
+	void buildCrossReferences(ScopeInfo currentScope, SymbolTable symbols){return;}			//*RAS
 };
 
 abstract class stmtsOption extends ASTNode{
@@ -247,10 +255,15 @@ class stmtsNode extends stmtsOption {
 	
 	void accept(Visitor u, int indent){ u.visit(this,indent);}
 	
-	void buildCrossReferences(ScopeInfo currentScope, ArrayList<identifierInfo> identifiers){
-		//Build cross-references in both subtrees:
-			 thisStmt.buildCrossReferences(currentScope, identifiers);
-			 moreStmts.buildCrossReferences(currentScope, identifiers);
+	void buildCrossReferences(ScopeInfo currentScope, SymbolTable symbols){
+		//Build cross-references in each statement of the list. The list is walked with a loop
+		// rather than recursion, so stack depth depends only on how deeply blocks are nested.
+			 stmtsOption stmts = this;
+			 while (!stmts.isNull()){
+				 stmtsNode node = (stmtsNode) stmts;
+				 node.thisStmt.buildCrossReferences(currentScope, symbols);
+				 stmts = node.moreStmts;
+			 }
 			}
 };
 
@@ -261,7 +274,7 @@ class nullStmtsNode extends stmtsOption {
 
 	void accept(Visitor u, int indent){ u.visit(this,indent);}
 	
-	void buildCrossReferences(ScopeInfo currentScope, ArrayList<identifierInfo> identifiers){return;}			//*RAS
+	void buildCrossReferences(ScopeInfo currentScope, SymbolTable symbols){return;}			//*RAS
 
 };
 
@@ -278,22 +291,10 @@ class asgNode extends stmtNode {
 	
 	void accept(Visitor u, int indent){ u.visit(this,indent);}
 	
-	void buildCrossReferences(ScopeInfo currentScope, ArrayList<identifierInfo> identifiers){					//*RAS Here we collect a usage instance
-		int currentVarDeclaredLine = 0;																			//*RAS for an identifier. We loop through
-		if (currentScope.ident.get(target.idname) != null){														//*RAS scopes to find the right scope for
-		currentVarDeclaredLine = currentScope.ident.get(target.idname);											//*RAS the current identifier (using the
-		}																										//*RAS scope attribute I created for the
-		else for (identifierInfo identifier : identifiers){														//*RAS identifierInfo object).
-			if (identifier.declaredScope.ident.get(target.idname) != null){
-				currentVarDeclaredLine = identifier.declaredScope.ident.get(target.idname);						//*RAS setLineInfo is the call to add
-				}																								//*RAS a usage occurrence for a given line
-		}																										//*RAS to the arraylist tracking this information.
-		for (identifierInfo identifier : identifiers)
-		    if (currentVarDeclaredLine == identifier.declaredLine){
-		    	identifier.setLineInfo(linenum);															
-		    }
-		source.buildCrossReferences(currentScope, identifiers);													//*RAS Build cross-references for the
-		}																										//*RAS source of the assignment
+	void buildCrossReferences(ScopeInfo currentScope, SymbolTable symbols){					//*RAS The target of an assignment is a use
+		target.buildCrossReferences(currentScope, symbols);										//*RAS of an identifier on this line, so
+		source.buildCrossReferences(currentScope, symbols);										//*RAS we record it and then build
+		}																						//*RAS cross-references for the source.
 };
 
 
@@ -312,11 +313,11 @@ class ifThenNode extends stmtNode {
 	
 	void accept(Visitor u, int indent){ u.visit(this,indent);}
 	
-	void buildCrossReferences(ScopeInfo currentScope, ArrayList<identifierInfo> identifiers){
+	void buildCrossReferences(ScopeInfo currentScope, SymbolTable symbols){
 		// build cross-references in control expression and then statement.
 		// In CSX Lite the else statement is always null
-		condition.buildCrossReferences(currentScope, identifiers);
-		thenPart.buildCrossReferences(currentScope, identifiers);
+		condition.buildCrossReferences(currentScope, symbols);
+		thenPart.buildCrossReferences(currentScope, symbols);
 		}
 };
 
@@ -334,11 +335,12 @@ class blockNode extends stmtNode {
 	
 	 void accept(Visitor u, int indent){ u.visit(this,indent);}
 	 
-	 void buildCrossReferences(ScopeInfo currentScope, ArrayList<identifierInfo> identifiers){			//*RAS - new ScopeInfo nodes are created with
-		 ScopeInfo  localScope = new ScopeInfo(linenum);												//*RAS - new blocks, just like with countDeclsAndUses.
-		 ScopeInfo.append(currentScope,localScope);														//*RAS - We use scopes to associate with hashtables,
-		 decls.buildCrossReferences(localScope, identifiers);											//*RAS - which we use down at leaf nodes to match
-		 stmts.buildCrossReferences(localScope, identifiers);											//*RAS - identifier uses with their declarations.
+	 void buildCrossReferences(ScopeInfo currentScope, SymbolTable symbols){						//*RAS - new ScopeInfo nodes are created with
+		 ScopeInfo  localScope = symbols.scopes.open(linenum, currentScope);							//*RAS - new blocks, just like with countDeclsAndUses.
+		 symbols.openScope();																			//*RAS - Each block also opens a scope in the symbol
+		 decls.buildCrossReferences(localScope, symbols);												//*RAS - table, which is closed again on the way out
+		 stmts.buildCrossReferences(localScope, symbols);												//*RAS - so the block's declarations stop hiding
+		 symbols.closeScope();																			//*RAS - outer ones once the block ends.
 	}
 };
 
@@ -378,38 +380,30 @@ class binaryOpNode extends exprNode {
 
 	void accept(Visitor u, int indent){ u.visit(this,indent);}
 	 
-		void buildCrossReferences(ScopeInfo currentScope, ArrayList<identifierInfo> identifiers){				//*RAS Build cross-references for left and
-			leftOperand.buildCrossReferences(currentScope, identifiers);										//*RAS right operands.
-			rightOperand.buildCrossReferences(currentScope, identifiers);
+		void buildCrossReferences(ScopeInfo currentScope, SymbolTable symbols){				//*RAS Build cross-references for left and
+			leftOperand.buildCrossReferences(currentScope, symbols);										//*RAS right operands.
+			rightOperand.buildCrossReferences(currentScope, symbols);
 };
 }
 
 class identNode extends exprNode {
 	
 	public final String 	idname;
+	public final int 		nameId;	// id of idname in the scanner's NameTable
 	
-	identNode(String identname, int line, int col){
+	identNode(String identname, int id, int line, int col){
 		super(line,col);
 		idname   = identname;
+		nameId   = id;
 	};
 
 	void accept(Visitor u, int indent){ u.visit(this,indent);}
 	
-	void buildCrossReferences(ScopeInfo currentScope, ArrayList<identifierInfo> identifiers){					//*RAS Here we collect a usage instance
-		int currentVarDeclaredLine = 0;																			//*RAS for an identifier. We loop through
-		if (currentScope.ident.get(idname) != null){															//*RAS scopes to find the right scope for
-			currentVarDeclaredLine = currentScope.ident.get(idname);											//*RAS the current identifier (using the
-			}																									//*RAS scope attribute I created for the
-		else for (identifierInfo identifier : identifiers){														//*RAS identifierInfo object).
-			if (identifier.declaredScope.ident.get(idname) != null){
-				currentVarDeclaredLine = identifier.declaredScope.ident.get(idname);							//*RAS setLineInfo is the call to add
-				}																								//*RAS a usage occurrence for a given line
-		}																										//*RAS to the arraylist tracking this information.
-		for (identifierInfo identifier : identifiers)
-		    if (currentVarDeclaredLine == identifier.declaredLine){
-		    	identifier.setLineInfo(linenum);
-		    }
-		}
+	void buildCrossReferences(ScopeInfo currentScope, SymbolTable symbols){					//*RAS Here we collect a usage instance
+		int declId = symbols.lookup(nameId);													//*RAS for an identifier. The symbol table
+		if (declId >= 0)																		//*RAS gives us the id of the innermost
+			symbols.recordUse(declId, linenum);													//*RAS visible declaration; uses of
+		}																						//*RAS undeclared names are ignored.
 };
 
 
@@ -31,6 +31,11 @@ import java.io.*;
  *   <dd> number of conflicts expected/allowed [default 0]
  *   <dt> -compact_red   
  *   <dd> compact tables by defaulting to most frequent reduce
+ *   <dt> -dense         
+ *   <dd> also emit the tables packed for constant time lookup
+ *   <dt> -binary        
+ *   <dd> write the tables to a binary resource read when the parser 
+ *        class is loaded, rather than into array initializers
  *   <dt> -nowarn        
  *   <dd> don't warn about useless productions, etc.
  *   <dt> -nosummary     
@@ -225,6 +230,8 @@ public class Main {
 "    -nonterms      put non terminals in symbol constant class\n" + 
 "    -expect #      number of conflicts expected/allowed [default 0]\n" + 
 "    -compact_red   compact tables by defaulting to most frequent reduce\n" +
+"    -dense         also emit the tables packed for constant time lookup\n" +
+"    -binary        write the tables to a resource, not array initializers\n" +
 "    -nowarn        don't warn about useless productions, etc.\n" +
 "    -nosummary     don't print the usual summary of parse states, etc.\n" +
 "    -nopositions   don't propagate the left and right token position values\n" +
@@ -304,6 +311,8 @@ public class Main {
 	  else if (argv[i].equals("-compact_red"))  opt_compact_red = true;
 	  else if (argv[i].equals("-nosummary"))    no_summary = true;
 	  else if (argv[i].equals("-nowarn"))       emit.nowarn = true;
+	  else if (argv[i].equals("-dense"))        emit.dense_tables = true;
+	  else if (argv[i].equals("-binary"))       emit.binary_tables = true;
 	  else if (argv[i].equals("-dump_states"))  opt_dump_states = true;
 	  else if (argv[i].equals("-dump_tables"))  opt_dump_tables = true; 
 	  else if (argv[i].equals("-progress"))     print_progress = true;
@@ -553,12 +562,27 @@ public class Main {
 
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
 
-  /** Call the emit routines necessary to write out the generated parser. */
-  protected static void emit_parser() throws internal_error
+  /** Call the emit routines necessary to write out the generated parser
+   *  (and, with -binary, its table resource). 
+   */
+  protected static void emit_parser() 
+    throws internal_error, java.io.IOException
     {
       emit.symbols(symbol_class_file, include_non_terms);
       emit.parser(parser_class_file, action_table, reduce_table, 
 		  start_state.index(), emit.start_production, opt_compact_red);
+
+      if (emit.binary_tables)
+	{
+	  DataOutputStream table_file = new DataOutputStream(
+	    new BufferedOutputStream(new FileOutputStream(
+	      emit.parser_class_name + ".tables"), 4096));
+	  try {
+	    emit.tables(table_file);
+	  } finally {
+	    table_file.close();
+	  }
+	}
     }
 
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
@@ -623,8 +647,13 @@ public class Main {
 
       /* code location */
       if (output_produced)
-	System.err.println("  Code written to \"" + emit.parser_class_name + 
+	{
+	  System.err.println("  Code written to \"" + emit.parser_class_name + 
 	        ".java\", and \"" + emit.symbol_const_class_name + ".java\".");
+	  if (emit.binary_tables)
+	    System.err.println("  Tables written to \"" + 
+		emit.parser_class_name + ".tables\".");
+	}
       else
 	System.err.println("  No code produced.");
 
@@ -1,6 +1,8 @@
 package java_cup;
 
 import java.io.PrintWriter;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.util.Stack;
 import java.util.Enumeration;
 import java.util.Date;
@@ -57,6 +59,7 @@ import java.util.Date;
 /* Major externally callable routines here include:
      symbols               - emit the symbol constant class 
      parser                - emit the parser class
+     tables                - write the binary table resource (for -binary)
 
    In addition the following major internal routines are provided:
      emit_package          - emit a package declaration
@@ -64,6 +67,8 @@ import java.util.Date;
      emit_production_table - emit declaration and init for the production table
      do_action_table       - emit declaration and init for the action table
      do_reduce_table       - emit declaration and init for the reduce-goto table
+     do_comb_table         - emit declaration and init for a packed table
+     emit_table_loader     - emit init of the tables from the table resource
 
    Finally, this class uses a number of public instance variables to communicate
    optional parameters and flags used to control how code is generated,
@@ -87,6 +92,8 @@ import java.util.Date;
    import_list             - list of imports for use with action class.
    num_conflicts           - number of conflicts detected. 
    nowarn                  - true if we are not to issue warning messages.
+   dense_tables            - true if we also emit packed tables.
+   binary_tables           - true if the tables go in a binary resource.
    not_reduced             - count of number of productions that never reduce.
    unused_term             - count of unused terminal symbols.
    unused_non_term         - count of unused non terminal symbols.
@@ -168,6 +175,40 @@ public class emit {
 
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
 
+  /** Do we also emit the action and reduce-goto tables packed for constant
+   *  time lookup (see java_cup.runtime.comb_table)? 
+   */
+  public static boolean dense_tables = false;
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Do we write the tables to a binary resource (parser class name plus
+   *  ".tables"), to be read when the parser class is loaded, rather than
+   *  into array initializers (see java_cup.runtime.lr_parser#load_tables)?
+   */
+  public static boolean binary_tables = false;
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /* The tables as emitted, kept for tables() when writing a resource. */
+
+  /** Production table, as (lhs, rhs size) rows. */
+  protected static short[][] production_rows;
+
+  /** Action table, in sparse form. */
+  protected static short[][] action_rows;
+
+  /** Reduce-goto table, in sparse form. */
+  protected static short[][] reduce_rows;
+
+  /** Packed action table (null unless dense_tables). */
+  protected static java_cup.runtime.comb_table action_comb;
+
+  /** Packed reduce-goto table (null unless dense_tables). */
+  protected static java_cup.runtime.comb_table reduce_comb;
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
   /** Count of the number on non-reduced productions found. */
   public static int not_reduced = 0;
 
@@ -219,6 +260,12 @@ public class emit {
    */
   protected static String pre(String str) {return prefix + str;}
 
+  /** Name of the non-public class holding the action code.  It includes the
+   *  parser class name, so that several parsers can live in one package.
+   */
+  protected static String actions_class_name() 
+    {return pre(parser_class_name + "$actions");}
+
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
 
   /** Emit a package spec if the user wants one. 
@@ -313,7 +360,7 @@ public class emit {
       out.println(
        "/** Cup generated class to encapsulate user supplied action code.*/"
       );  
-      out.println("class " +  pre("actions") + " {");
+      out.println("class " +  actions_class_name() + " {");
 
       /* user supplied code */
       if (action_code != null)
@@ -325,7 +372,7 @@ public class emit {
       /* constructor */
       out.println();
       out.println("  /** Constructor */");
-      out.println("  " + pre("actions") + "() { }");
+      out.println("  " + actions_class_name() + "() { }");
 
       /* action method head */
       out.println();
@@ -334,7 +381,7 @@ public class emit {
 		     pre("do_action") + "(");
       out.println("    int                        " + pre("act_num,"));
       out.println("    java_cup.runtime.lr_parser " + pre("parser,"));
-      out.println("    java.util.Stack            " + pre("stack,"));
+      out.println("    java_cup.runtime.Symbol[]  " + pre("stack,"));
       out.println("    int                        " + pre("top)"));
       out.println("    throws java.lang.Exception");
       out.println("    {");
@@ -387,14 +434,14 @@ public class emit {
 	    int loffset;
 	    String leftstring, rightstring;
 	    int roffset = 0;
-	    rightstring = "((java_cup.runtime.Symbol)" + emit.pre("stack") + ".elementAt(" + 
-	      emit.pre("top") + "-" + roffset + ")).right";	  
+	    rightstring = emit.pre("stack") + "[" + 
+	      emit.pre("top") + "-" + roffset + "].right";	  
 	    if (prod.rhs_length() == 0) 
 	      leftstring = rightstring;
 	    else {
 	      loffset = prod.rhs_length() - 1;
-	      leftstring = "((java_cup.runtime.Symbol)" + emit.pre("stack") + ".elementAt(" + 
-		emit.pre("top") + "-" + loffset + ")).left";	  
+	      leftstring = emit.pre("stack") + "[" + 
+		emit.pre("top") + "-" + loffset + "].left";	  
 	    }
 	    out.println("              " + pre("result") + " = new java_cup.runtime.Symbol(" + 
 			prod.lhs().the_symbol().index() + "/*" +
@@ -452,11 +499,6 @@ public class emit {
 
       long start_time = System.currentTimeMillis();
 
-      /* do the top of the table */
-      out.println();
-      out.println("  /** production table */");
-      out.println("  protected static final short _production_table[][] = {"); 
-
       /* collect up the productions in order */
       all_prods = new production[production.number()];
       for (Enumeration p = production.all(); p.hasMoreElements(); )
@@ -465,19 +507,55 @@ public class emit {
 	  all_prods[prod.index()] = prod;
 	}
 
-      /* do one entry per production */
-      out.print("    ");
+      /* make one entry per production */
+      production_rows = new short[production.number()][];
       for (int i = 0; i<production.number(); i++)
+	production_rows[i] = new short[] {
+	  /* lhs symbol # */ (short)all_prods[i].lhs().the_symbol().index(), 
+	  /* rhs size */     (short)all_prods[i].rhs_length()};
+
+      out.println();
+      out.println("  /** production table */");
+      if (binary_tables)
 	{
-	  prod = all_prods[i];
+	  /* declare it, for emit_table_loader() to fill in */
+	  out.println("  protected static final short _production_table[][];");
+	}
+      else
+	{
+	  emit_production_rows(out);
+	}
 
+      /* do the public accessor method */
+      out.println();
+      out.println("  /** access to production table */");
+      out.println("  public short[][] production_table() " + 
+						 "{return _production_table;}");
+
+      production_table_time = System.currentTimeMillis() - start_time;
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Emit the production table with its initializer, 5 entries per line. 
+   * @param out stream to produce output on.
+   */
+  protected static void emit_production_rows(PrintWriter out)
+    {
+      /* do the top of the table */
+      out.println("  protected static final short _production_table[][] = {"); 
+
+      /* do one entry per production */
+      out.print("    ");
+      for (int i = 0; i<production_rows.length; i++)
+	{
 	  /* make the table entry */
 	  out.print("    {");
-	  out.print(/* lhs symbol # */ prod.lhs().the_symbol().index() + ", ");
-	  out.print(/* rhs size */     prod.rhs_length() + "}");
+	  out.print(production_rows[i][0] + ", ");
+	  out.print(production_rows[i][1] + "}");
 
 	  /* put in a comma if we aren't at the end */
-	  if (i < production.number()-1) out.print(", ");
+	  if (i < production_rows.length-1) out.print(", ");
 
 	  /* 5 entries per line */
 	  if ((i+1) % 5 == 0) 
@@ -489,14 +567,6 @@ public class emit {
 
       /* finish off the table initializer */
       out.println("  };");
-
-      /* do the public accessor method */
-      out.println();
-      out.println("  /** access to production table */");
-      out.println("  public short[][] production_table() " + 
-						 "{return _production_table;}");
-
-      production_table_time = System.currentTimeMillis() - start_time;
     }
 
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
@@ -515,13 +585,12 @@ public class emit {
       parse_action_row row;
       parse_action     act;
       int              red;
+      short[][]        rows = new short[act_tab.num_states()][];
+      short[]          entries;
+      int              n;
 
       long start_time = System.currentTimeMillis();
 
-      out.println();
-      out.println("  /** parse action table */");
-      out.println("  protected static final short[][] _action_table = {"); 
-
       /* do each state (row) of the action table */
       for (int i = 0; i < act_tab.num_states(); i++)
 	{
@@ -534,7 +603,8 @@ public class emit {
 	  else
 	    row.default_reduce = -1;
 
-	  out.print("    /*" + i + "*/{");
+	  entries = new short[2*parse_action_row.size()+2];
+	  n = 0;
 
 	  /* do each column */
 	  for (int j = 0; j < row.size(); j++)
@@ -550,8 +620,9 @@ public class emit {
 		  /* shifts get positive entries of state number + 1 */
 		  if (act.kind() == parse_action.SHIFT)
 		    {
-		      out.print(j + "," + 
-				(((shift_action)act).shift_to().index() + 1) + ",");
+		      entries[n++] = (short)j;
+		      entries[n++] = 
+			(short)(((shift_action)act).shift_to().index() + 1);
 		    }
 
 		  /* reduce actions get negated entries of production# + 1 */
@@ -560,7 +631,10 @@ public class emit {
 		      /* if its the default entry let it get defaulted out */
 		      red = ((reduce_action)act).reduce_with().index();
 		      if (red != row.default_reduce)
-		        out.print(j + "," + (-(red+1)) + ",");
+			{
+			  entries[n++] = (short)j;
+			  entries[n++] = (short)(-(red+1));
+			}
 		    } else if (act.kind() == parse_action.NONASSOC)
 		      {
 			/* do nothing, since we just want a syntax error */
@@ -573,20 +647,38 @@ public class emit {
 	    }
 
 	  /* finish off the row with a default entry */
+	  entries[n++] = -1;
 	  if (row.default_reduce != -1)
-	    out.println("-1," + (-(row.default_reduce+1)) + "},");
+	    entries[n++] = (short)(-(row.default_reduce+1));
 	  else
-	    out.println("-1,0},");
+	    entries[n++] = 0;
+
+	  rows[i] = new short[n];
+	  System.arraycopy(entries, 0, rows[i], 0, n);
 	}
 
-      /* finish off the init of the table */
-      out.println("  };");
+      action_rows = rows;
+
+      out.println();
+      out.println("  /** parse action table */");
+      if (binary_tables)
+	out.println("  protected static final short[][] _action_table;"); 
+      else
+	{
+	  out.println("  protected static final short[][] _action_table = {"); 
+	  emit_rows(out, rows);
+	  out.println("  };");
+	}
 
       /* do the public accessor method */
       out.println();
       out.println("  /** access to parse action table */");
       out.println("  public short[][] action_table() {return _action_table;}");
 
+      action_comb = null;
+      if (dense_tables)
+	action_comb = do_comb_table(out, "action", "parse action table", rows);
+
       action_table_time = System.currentTimeMillis() - start_time;
     }
 
@@ -602,17 +694,17 @@ public class emit {
     {
       lalr_state       goto_st;
       parse_action     act;
+      short[][]        rows = new short[red_tab.num_states()][];
+      short[]          entries;
+      int              n;
 
       long start_time = System.currentTimeMillis();
 
-      out.println();
-      out.println("  /** reduce_goto table */");
-      out.println("  protected static final short[][] _reduce_table = {"); 
-
       /* do each row of the reduce-goto table */
       for (int i=0; i<red_tab.num_states(); i++)
 	{
-	  out.print("    /*" + i + "*/{");
+	  entries = new short[2*parse_reduce_row.size()+2];
+	  n = 0;
 
 	  /* do each entry in the row */
 	  for (int j=0; j<red_tab.under_state[i].size(); j++)
@@ -624,21 +716,40 @@ public class emit {
 	      if (goto_st != null)
 		{
 		  /* make entries for the index and the value */
-		  out.print(j + "," + goto_st.index() + ",");
+		  entries[n++] = (short)j;
+		  entries[n++] = (short)goto_st.index();
 		}
 	    }
 
 	  /* end row with default value */
-	  out.println("-1,-1},");
+	  entries[n++] = -1;
+	  entries[n++] = -1;
+
+	  rows[i] = new short[n];
+	  System.arraycopy(entries, 0, rows[i], 0, n);
 	}
 
-      /* finish off the init of the table */
-      out.println("  };");
+      reduce_rows = rows;
+
+      out.println();
+      out.println("  /** reduce_goto table */");
+      if (binary_tables)
+	out.println("  protected static final short[][] _reduce_table;"); 
+      else
+	{
+	  out.println("  protected static final short[][] _reduce_table = {"); 
+	  emit_rows(out, rows);
+	  out.println("  };");
+	}
 
       /* do the public accessor method */
       out.println();
       out.println("  /** access to reduce_goto table */");
       out.println("  public short[][] reduce_table() {return _reduce_table;}");
+
+      reduce_comb = null;
+      if (dense_tables)
+	reduce_comb = do_comb_table(out, "reduce", "reduce_goto table", rows);
       out.println();
 
       goto_table_time = System.currentTimeMillis() - start_time;
@@ -646,6 +757,208 @@ public class emit {
 
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
 
+  /** Emit the rows of a table in sparse form, one row per line. 
+   * @param out  stream to produce output on.
+   * @param rows the rows, as (index, entry) pairs ending with a default.
+   */
+  protected static void emit_rows(PrintWriter out, short[][] rows)
+    {
+      for (int i = 0; i < rows.length; i++)
+	{
+	  out.print("    /*" + i + "*/{");
+	  for (int j = 0; j < rows[i].length; j++)
+	    {
+	      out.print(rows[i][j]);
+	      if (j < rows[i].length-1) out.print(",");
+	    }
+	  out.println("},");
+	}
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Emit a table packed by java_cup.runtime.comb_table, and the method
+   *  that hands it to lr_parser in place of the sparse table.  Returns the
+   *  packed table. 
+   * @param out  stream to produce output on.
+   * @param name name of the table ("action" or "reduce").
+   * @param desc description of the table for comments.
+   * @param rows the sparse rows of the table.
+   */
+  protected static java_cup.runtime.comb_table do_comb_table(
+    PrintWriter out, 
+    String      name,
+    String      desc,
+    short[][]   rows)
+    {
+      java_cup.runtime.comb_table comb = java_cup.runtime.comb_table.pack(rows);
+
+      if (binary_tables)
+	{
+	  out.println();
+	  out.println("  /** " + desc + ", packed for constant time lookup */");
+	  out.println("  protected static final java_cup.runtime.comb_table _" + 
+		      name + "_comb;");
+	  emit_comb_accessor(out, name, desc);
+	  return comb;
+	}
+
+      int[] check = new int[comb.check.length];
+      int[] next  = new int[comb.next.length];
+      int[] deflt = new int[comb.deflt.length];
+
+      for (int i = 0; i < check.length; i++) check[i] = comb.check[i];
+      for (int i = 0; i < next.length; i++)  next[i]  = comb.next[i];
+      for (int i = 0; i < deflt.length; i++) deflt[i] = comb.deflt[i];
+
+      out.println();
+      out.println("  /** " + desc + ", packed for constant time lookup */");
+      out.println("  protected static final java_cup.runtime.comb_table _" + 
+		  name + "_comb = new java_cup.runtime.comb_table(");
+      emit_array(out, "int", comb.base);
+      out.println(",");
+      emit_array(out, "short", check);
+      out.println(",");
+      emit_array(out, "short", next);
+      out.println(",");
+      emit_array(out, "short", deflt);
+      out.println(");");
+
+      emit_comb_accessor(out, name, desc);
+      return comb;
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Emit the public accessor method for a packed table. 
+   * @param out  stream to produce output on.
+   * @param name name of the table ("action" or "reduce").
+   * @param desc description of the table for comments.
+   */
+  protected static void emit_comb_accessor(
+    PrintWriter out, 
+    String      name,
+    String      desc)
+    {
+      out.println();
+      out.println("  /** access to packed " + desc + " */");
+      out.println("  public java_cup.runtime.comb_table " + name + 
+		  "_comb_table() {return _" + name + "_comb;}");
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Emit an array initializer, 16 entries per line. 
+   * @param out  stream to produce output on.
+   * @param type element type of the array.
+   * @param vals the entries.
+   */
+  protected static void emit_array(PrintWriter out, String type, int[] vals)
+    {
+      out.print("    new " + type + "[] {");
+      for (int i = 0; i < vals.length; i++)
+	{
+	  if (i % 16 == 0) { out.println(); out.print("      "); }
+	  out.print(vals[i]);
+	  if (i < vals.length-1) out.print(",");
+	}
+      out.print("}");
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Emit the class initializer that reads the tables from the binary
+   *  resource written by tables(), in the order they were written. 
+   * @param out stream to produce output on.
+   */
+  protected static void emit_table_loader(PrintWriter out)
+    {
+      String res = parser_class_name + ".tables";
+
+      out.println("  /** read the tables from the resource " + res + " */");
+      out.println("  static");
+      out.println("    {");
+      out.println("      java.nio.ByteBuffer tables = load_tables(" + 
+		  parser_class_name + ".class, \"" + res + "\");");
+      out.println("      _production_table = read_table(tables);");
+      out.println("      _action_table     = read_table(tables);");
+      out.println("      _reduce_table     = read_table(tables);");
+      if (dense_tables)
+	{
+	  out.println("      _action_comb      = read_comb_table(tables);");
+	  out.println("      _reduce_comb      = read_comb_table(tables);");
+	}
+      out.println("    }");
+      out.println();
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Write the tables emitted by parser() as a binary table resource, in 
+   *  the format read by java_cup.runtime.lr_parser#load_tables. 
+   * @param out stream to write the resource to.
+   */
+  public static void tables(DataOutputStream out) throws IOException
+    {
+      out.writeInt(java_cup.runtime.lr_parser.TABLE_MAGIC);
+      out.writeShort(java_cup.runtime.lr_parser.TABLE_VERSION);
+      out.writeShort(action_comb != null ? 1 : 0);
+      write_table(out, production_rows);
+      write_table(out, action_rows);
+      write_table(out, reduce_rows);
+      if (action_comb != null)
+	{
+	  write_comb_table(out, action_comb);
+	  write_comb_table(out, reduce_comb);
+	}
+      out.flush();
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Write a sparse table: the number of rows and of shorts to follow, 
+   *  then each row's length and entries. 
+   * @param out  stream to write to.
+   * @param rows the rows of the table.
+   */
+  protected static void write_table(DataOutputStream out, short[][] rows)
+    throws IOException
+    {
+      int total = 0;
+      for (int i = 0; i < rows.length; i++) total += 1 + rows[i].length;
+
+      out.writeInt(rows.length);
+      out.writeInt(total);
+      for (int i = 0; i < rows.length; i++)
+	{
+	  out.writeShort(rows[i].length);
+	  for (int j = 0; j < rows[i].length; j++)
+	    out.writeShort(rows[i][j]);
+	}
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Write a packed table: the bases, the check and next vectors, and the
+   *  defaults. 
+   * @param out  stream to write to.
+   * @param comb the packed table.
+   */
+  protected static void write_comb_table(
+    DataOutputStream            out, 
+    java_cup.runtime.comb_table comb)
+    throws IOException
+    {
+      out.writeInt(comb.base.length);
+      for (int i = 0; i < comb.base.length; i++)  out.writeInt(comb.base[i]);
+      out.writeInt(comb.check.length);
+      for (int i = 0; i < comb.check.length; i++) out.writeShort(comb.check[i]);
+      for (int i = 0; i < comb.next.length; i++)  out.writeShort(comb.next[i]);
+      for (int i = 0; i < comb.deflt.length; i++) out.writeShort(comb.deflt[i]);
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
   /** Emit the parser subclass with embedded tables. 
    * @param out             stream to produce output on.
    * @param action_table    internal representation of the action table.
@@ -693,17 +1006,19 @@ public class emit {
       emit_production_table(out);
       do_action_table(out, action_table, compact_reduces);
       do_reduce_table(out, reduce_table);
+      if (binary_tables)
+	emit_table_loader(out);
 
       /* instance of the action encapsulation class */
       out.println("  /** instance of action encapsulation class */");
-      out.println("  protected " + pre("actions") + " action_obj;");
+      out.println("  protected " + actions_class_name() + " action_obj;");
       out.println();
 
       /* action object initializer */
       out.println("  /** action encapsulation object initializer */");
       out.println("  protected void init_actions()");
       out.println("    {");
-      out.println("      action_obj = new " + pre("actions") + "();");
+      out.println("      action_obj = new " + actions_class_name() + "();");
       out.println("    }");
       out.println();
 
@@ -712,7 +1027,7 @@ public class emit {
       out.println("  public java_cup.runtime.Symbol do_action(");
       out.println("    int                        act_num,");
       out.println("    java_cup.runtime.lr_parser parser,");
-      out.println("    java.util.Stack            stack,");
+      out.println("    java_cup.runtime.Symbol[]  stack,");
       out.println("    int                        top)");
       out.println("    throws java.lang.Exception");
       out.println("  {");
@@ -1,7 +1,7 @@
 
 //----------------------------------------------------
-// The following code was generated by CUP v0.10e
-// Sun Dec 07 10:13:42 EST 1997
+// The following code was generated by CUP v0.10f
+// Sat Oct 17 04:15:33 UTC 2026
 //----------------------------------------------------
 
 package java_cup;
@@ -39,152 +39,152 @@ public class parser extends java_cup.runtime.lr_parser {
 
   /** parse action table */
   protected static final short[][] _action_table = {
-    /*0*/{1,4,2,-2,3,-2,5,-2,6,-2,7,-2,8,-2,9,-2,10,-2,-1,0},
+    /*0*/{1,3,2,-2,3,-2,5,-2,6,-2,7,-2,8,-2,9,-2,10,-2,-1,0},
     /*1*/{0,147,-1,0},
-    /*2*/{2,103,3,-83,5,-83,6,-83,7,-83,8,-83,9,-83,10,-83,-1,0},
-    /*3*/{7,5,8,8,-1,0},
-    /*4*/{1,90,25,89,-1,0},
-    /*5*/{1,-22,7,-22,8,-22,12,-22,20,-22,25,-22,-1,0},
-    /*6*/{1,-83,7,5,8,8,12,-83,20,27,25,-83,-1,0},
-    /*7*/{7,9,-1,0},
-    /*8*/{1,14,25,12,-1,0},
-    /*9*/{13,-33,14,23,-1,0},
-    /*10*/{13,-38,14,-38,-1,0},
-    /*11*/{13,-79,14,-79,16,-74,25,-74,-1,0},
-    /*12*/{1,-26,7,-26,8,-26,12,-26,20,-26,25,-26,-1,0},
-    /*13*/{13,-29,-1,0},
-    /*14*/{25,19,-1,0},
-    /*15*/{16,17,25,-77,-1,0},
-    /*16*/{25,18,-1,0},
-    /*17*/{13,-73,16,-73,25,-73,-1,0},
-    /*18*/{13,-79,14,-79,-1,0},
-    /*19*/{1,-25,7,-25,8,-25,12,-25,20,-25,25,-25,-1,0},
-    /*20*/{13,22,-1,0},
-    /*21*/{1,-30,7,-30,8,-30,12,-30,20,-30,25,-30,-1,0},
-    /*22*/{25,19,-1,0},
-    /*23*/{13,25,-1,0},
-    /*24*/{1,-34,7,-34,8,-34,12,-34,20,-34,25,-34,-1,0},
-    /*25*/{13,-37,14,-37,-1,0},
-    /*26*/{21,72,22,73,23,71,-1,0},
-    /*27*/{1,-21,7,-21,8,-21,12,-21,20,-21,25,-21,-1,0},
-    /*28*/{1,-40,12,-40,25,-40,-1,0},
-    /*29*/{1,-39,12,-39,20,27,25,-39,-1,0},
-    /*30*/{1,-83,12,35,25,-83,-1,0},
-    /*31*/{1,-42,12,-42,20,-42,25,-42,-1,0},
-    /*32*/{1,-55,25,-55,-1,0},
-    /*33*/{1,41,25,37,-1,0},
-    /*34*/{11,36,-1,0},
-    /*35*/{25,37,-1,0},
-    /*36*/{13,-80,18,-80,-1,0},
-    /*37*/{13,-53,-1,0},
-    /*38*/{13,40,-1,0},
-    /*39*/{1,-54,25,-54,-1,0},
-    /*40*/{13,-61,-1,0},
-    /*41*/{18,-58,-1,0},
-    /*42*/{0,-4,1,41,25,37,-1,0},
-    /*43*/{0,-57,1,-57,25,-57,-1,0},
-    /*44*/{0,-56,1,-56,25,-56,-1,0},
-    /*45*/{18,47,-1,0},
-    /*46*/{13,-59,19,-59,24,-59,25,-59,26,-59,-1,0},
-    /*47*/{13,-83,19,-83,24,-83,25,-83,26,-83,-1,0},
-    /*48*/{13,-68,19,-68,24,-68,25,-68,26,-68,-1,0},
-    /*49*/{13,-66,19,-66,24,57,25,58,26,56,-1,0},
-    /*50*/{13,-64,19,-64,-1,0},
-    /*51*/{13,53,19,54,-1,0},
-    /*52*/{0,-60,1,-60,25,-60,-1,0},
-    /*53*/{13,-83,19,-83,24,-83,25,-83,26,-83,-1,0},
-    /*54*/{13,-63,19,-63,-1,0},
-    /*55*/{13,-70,19,-70,24,-70,25,-70,26,-70,-1,0},
-    /*56*/{25,58,-1,0},
-    /*57*/{13,-81,14,-81,17,-81,19,-81,24,-81,25,-81,26,-81,-1,0},
-    /*58*/{13,-83,17,63,19,-83,24,-83,25,-83,26,-83,-1,0},
-    /*59*/{13,-67,19,-67,24,-67,25,-67,26,-67,-1,0},
-    /*60*/{13,-72,19,-72,24,-72,25,-72,26,-72,-1,0},
-    /*61*/{13,-69,19,-69,24,-69,25,-69,26,-69,-1,0},
+    /*2*/{7,31,8,33,-1,0},
+    /*3*/{2,7,3,-83,5,-83,6,-83,7,-83,8,-83,9,-83,10,-83,-1,0},
+    /*4*/{3,-83,5,-83,6,-83,7,-83,8,-83,9,-83,10,-83,-1,0},
+    /*5*/{3,-7,5,-7,6,-7,7,-7,8,-7,9,-7,10,-7,-1,0},
+    /*6*/{25,8,-1,0},
+    /*7*/{13,-74,16,-74,-1,0},
+    /*8*/{13,-5,16,11,-1,0},
+    /*9*/{13,13,-1,0},
+    /*10*/{25,12,-1,0},
+    /*11*/{13,-73,16,-73,25,-73,-1,0},
+    /*12*/{3,-6,5,-6,6,-6,7,-6,8,-6,9,-6,10,-6,-1,0},
+    /*13*/{3,17,5,18,6,-83,7,-83,8,-83,9,-83,10,-83,-1,0},
+    /*14*/{3,-9,5,-9,6,-9,7,-9,8,-9,9,-9,10,-9,-1,0},
+    /*15*/{3,-8,5,-8,6,-8,7,-8,8,-8,9,-8,10,-8,-1,0},
+    /*16*/{25,8,-1,0},
+    /*17*/{4,134,-1,0},
+    /*18*/{6,129,7,-83,8,-83,9,-83,10,-83,-1,0},
+    /*19*/{6,-14,7,-14,8,-14,9,-14,10,-14,-1,0},
+    /*20*/{7,-83,8,-83,9,22,10,-83,-1,0},
+    /*21*/{11,125,-1,0},
+    /*22*/{7,-83,8,-83,10,26,-1,0},
+    /*23*/{7,-18,8,-18,10,-18,-1,0},
+    /*24*/{7,31,8,33,-1,0},
+    /*25*/{11,28,-1,0},
+    /*26*/{7,-20,8,-20,-1,0},
+    /*27*/{26,29,-1,0},
+    /*28*/{13,30,-1,0},
+    /*29*/{7,-19,8,-19,-1,0},
+    /*30*/{1,112,25,111,-1,0},
+    /*31*/{1,-22,7,-22,8,-22,12,-22,20,-22,25,-22,-1,0},
+    /*32*/{7,95,-1,0},
+    /*33*/{1,-83,7,31,8,33,12,-83,20,36,25,-83,-1,0},
+    /*34*/{1,-83,12,62,25,-83,-1,0},
+    /*35*/{21,42,22,43,23,44,-1,0},
+    /*36*/{1,-21,7,-21,8,-21,12,-21,20,-21,25,-21,-1,0},
+    /*37*/{1,-40,12,-40,25,-40,-1,0},
+    /*38*/{1,-39,12,-39,20,36,25,-39,-1,0},
+    /*39*/{1,-42,12,-42,20,-42,25,-42,-1,0},
+    /*40*/{1,-41,12,-41,20,-41,25,-41,-1,0},
+    /*41*/{25,-43,-1,0},
+    /*42*/{25,-45,-1,0},
+    /*43*/{25,-47,-1,0},
+    /*44*/{25,46,-1,0},
+    /*45*/{13,-81,14,-81,17,-81,19,-81,24,-81,25,-81,26,-81,-1,0},
+    /*46*/{13,-52,14,-52,19,-52,-1,0},
+    /*47*/{13,-51,14,-51,-1,0},
+    /*48*/{13,52,14,51,-1,0},
+    /*49*/{13,-50,14,-50,-1,0},
+    /*50*/{25,46,-1,0},
+    /*51*/{1,-48,12,-48,20,-48,25,-48,-1,0},
+    /*52*/{13,-49,14,-49,-1,0},
+    /*53*/{25,46,-1,0},
+    /*54*/{13,56,14,51,-1,0},
+    /*55*/{1,-46,12,-46,20,-46,25,-46,-1,0},
+    /*56*/{25,46,-1,0},
+    /*57*/{13,59,14,51,-1,0},
+    /*58*/{1,-44,12,-44,20,-44,25,-44,-1,0},
+    /*59*/{1,68,25,64,-1,0},
+    /*60*/{1,-55,25,-55,-1,0},
+    /*61*/{11,63,-1,0},
     /*62*/{25,64,-1,0},
-    /*63*/{13,-82,19,-82,24,-82,25,-82,26,-82,-1,0},
-    /*64*/{13,-71,19,-71,24,-71,25,-71,26,-71,-1,0},
-    /*65*/{13,-52,14,-52,19,-52,-1,0},
-    /*66*/{13,-65,19,-65,-1,0},
-    /*67*/{13,69,-1,0},
-    /*68*/{0,-62,1,-62,25,-62,-1,0},
-    /*69*/{1,-41,12,-41,20,-41,25,-41,-1,0},
-    /*70*/{25,-47,-1,0},
-    /*71*/{25,-43,-1,0},
-    /*72*/{25,-45,-1,0},
-    /*73*/{25,58,-1,0},
-    /*74*/{13,-51,14,-51,-1,0},
-    /*75*/{13,78,14,79,-1,0},
-    /*76*/{13,-50,14,-50,-1,0},
-    /*77*/{1,-46,12,-46,20,-46,25,-46,-1,0},
-    /*78*/{25,58,-1,0},
-    /*79*/{13,-49,14,-49,-1,0},
-    /*80*/{25,58,-1,0},
-    /*81*/{13,83,14,79,-1,0},
-    /*82*/{1,-44,12,-44,20,-44,25,-44,-1,0},
-    /*83*/{25,58,-1,0},
-    /*84*/{13,86,14,79,-1,0},
-    /*85*/{1,-48,12,-48,20,-48,25,-48,-1,0},
-    /*86*/{13,-31,14,98,-1,0},
-    /*87*/{13,-36,14,-36,-1,0},
-    /*88*/{13,-78,14,-78,16,-74,25,-74,-1,0},
-    /*89*/{13,-27,-1,0},
-    /*90*/{1,-24,7,-24,8,-24,12,-24,20,-24,25,-24,-1,0},
-    /*91*/{25,93,-1,0},
-    /*92*/{13,-78,14,-78,-1,0},
-    /*93*/{1,-23,7,-23,8,-23,12,-23,20,-23,25,-23,-1,0},
-    /*94*/{13,96,-1,0},
-    /*95*/{1,-28,7,-28,8,-28,12,-28,20,-28,25,-28,-1,0},
-    /*96*/{13,100,-1,0},
-    /*97*/{25,93,-1,0},
-    /*98*/{13,-35,14,-35,-1,0},
-    /*99*/{1,-32,7,-32,8,-32,12,-32,20,-32,25,-32,-1,0},
-    /*100*/{3,-7,5,-7,6,-7,7,-7,8,-7,9,-7,10,-7,-1,0},
-    /*101*/{3,-83,5,-83,6,-83,7,-83,8,-83,9,-83,10,-83,-1,0},
-    /*102*/{25,104,-1,0},
-    /*103*/{13,-74,16,-74,-1,0},
-    /*104*/{13,-5,16,17,-1,0},
-    /*105*/{13,107,-1,0},
-    /*106*/{3,-6,5,-6,6,-6,7,-6,8,-6,9,-6,10,-6,-1,0},
-    /*107*/{3,114,5,111,6,-83,7,-83,8,-83,9,-83,10,-83,-1,0},
-    /*108*/{3,-9,5,-9,6,-9,7,-9,8,-9,9,-9,10,-9,-1,0},
-    /*109*/{6,-14,7,-14,8,-14,9,-14,10,-14,-1,0},
-    /*110*/{4,144,-1,0},
-    /*111*/{6,140,7,-83,8,-83,9,-83,10,-83,-1,0},
-    /*112*/{3,-8,5,-8,6,-8,7,-8,8,-8,9,-8,10,-8,-1,0},
-    /*113*/{25,104,-1,0},
-    /*114*/{7,-83,8,-83,9,118,10,-83,-1,0},
-    /*115*/{7,-18,8,-18,10,-18,-1,0},
-    /*116*/{7,-83,8,-83,10,124,-1,0},
-    /*117*/{11,119,-1,0},
-    /*118*/{26,120,-1,0},
+    /*63*/{13,-80,18,-80,-1,0},
+    /*64*/{13,-53,-1,0},
+    /*65*/{13,67,-1,0},
+    /*66*/{1,-54,25,-54,-1,0},
+    /*67*/{13,-61,-1,0},
+    /*68*/{18,-58,-1,0},
+    /*69*/{0,-57,1,-57,25,-57,-1,0},
+    /*70*/{0,-3,1,68,25,64,-1,0},
+    /*71*/{0,-56,1,-56,25,-56,-1,0},
+    /*72*/{18,74,-1,0},
+    /*73*/{13,-59,19,-59,24,-59,25,-59,26,-59,-1,0},
+    /*74*/{13,-83,19,-83,24,-83,25,-83,26,-83,-1,0},
+    /*75*/{13,91,19,90,-1,0},
+    /*76*/{13,-68,19,-68,24,-68,25,-68,26,-68,-1,0},
+    /*77*/{13,-66,19,-66,24,82,25,46,26,80,-1,0},
+    /*78*/{13,-64,19,-64,-1,0},
+    /*79*/{13,-70,19,-70,24,-70,25,-70,26,-70,-1,0},
+    /*80*/{13,-83,17,85,19,-83,24,-83,25,-83,26,-83,-1,0},
+    /*81*/{25,46,-1,0},
+    /*82*/{13,-67,19,-67,24,-67,25,-67,26,-67,-1,0},
+    /*83*/{13,-65,19,-65,-1,0},
+    /*84*/{25,88,-1,0},
+    /*85*/{13,-72,19,-72,24,-72,25,-72,26,-72,-1,0},
+    /*86*/{13,-69,19,-69,24,-69,25,-69,26,-69,-1,0},
+    /*87*/{13,-82,19,-82,24,-82,25,-82,26,-82,-1,0},
+    /*88*/{13,-71,19,-71,24,-71,25,-71,26,-71,-1,0},
+    /*89*/{13,-83,19,-83,24,-83,25,-83,26,-83,-1,0},
+    /*90*/{0,-60,1,-60,25,-60,-1,0},
+    /*91*/{13,-63,19,-63,-1,0},
+    /*92*/{13,94,-1,0},
+    /*93*/{0,-62,1,-62,25,-62,-1,0},
+    /*94*/{1,100,25,96,-1,0},
+    /*95*/{13,-79,14,-79,16,-74,25,-74,-1,0},
+    /*96*/{1,-26,7,-26,8,-26,12,-26,20,-26,25,-26,-1,0},
+    /*97*/{13,-33,14,107,-1,0},
+    /*98*/{13,-38,14,-38,-1,0},
+    /*99*/{13,-29,-1,0},
+    /*100*/{16,11,25,-77,-1,0},
+    /*101*/{25,104,-1,0},
+    /*102*/{1,-25,7,-25,8,-25,12,-25,20,-25,25,-25,-1,0},
+    /*103*/{13,-79,14,-79,-1,0},
+    /*104*/{13,106,-1,0},
+    /*105*/{1,-30,7,-30,8,-30,12,-30,20,-30,25,-30,-1,0},
+    /*106*/{25,104,-1,0},
+    /*107*/{13,109,-1,0},
+    /*108*/{1,-34,7,-34,8,-34,12,-34,20,-34,25,-34,-1,0},
+    /*109*/{13,-37,14,-37,-1,0},
+    /*110*/{13,-78,14,-78,16,-74,25,-74,-1,0},
+    /*111*/{13,-27,-1,0},
+    /*112*/{13,-36,14,-36,-1,0},
+    /*113*/{1,-24,7,-24,8,-24,12,-24,20,-24,25,-24,-1,0},
+    /*114*/{13,-31,14,119,-1,0},
+    /*115*/{25,117,-1,0},
+    /*116*/{13,-78,14,-78,-1,0},
+    /*117*/{1,-23,7,-23,8,-23,12,-23,20,-23,25,-23,-1,0},
+    /*118*/{25,117,-1,0},
     /*119*/{13,121,-1,0},
-    /*120*/{7,-17,8,-17,10,-17,-1,0},
-    /*121*/{7,-20,8,-20,-1,0},
-    /*122*/{7,5,8,8,-1,0},
-    /*123*/{11,125,-1,0},
+    /*120*/{1,-32,7,-32,8,-32,12,-32,20,-32,25,-32,-1,0},
+    /*121*/{13,-35,14,-35,-1,0},
+    /*122*/{13,124,-1,0},
+    /*123*/{1,-28,7,-28,8,-28,12,-28,20,-28,25,-28,-1,0},
     /*124*/{26,126,-1,0},
     /*125*/{13,127,-1,0},
-    /*126*/{7,-19,8,-19,-1,0},
-    /*127*/{1,-83,7,5,8,8,12,-83,20,27,25,-83,-1,0},
-    /*128*/{1,-83,12,35,25,-83,-1,0},
-    /*129*/{1,41,25,37,-1,0},
-    /*130*/{0,-3,1,41,25,37,-1,0},
-    /*131*/{13,-10,-1,0},
-    /*132*/{13,-76,16,134,-1,0},
-    /*133*/{15,135,25,18,-1,0},
-    /*134*/{13,-75,-1,0},
-    /*135*/{13,137,-1,0},
-    /*136*/{3,-11,5,-11,6,-11,7,-11,8,-11,9,-11,10,-11,-1,0},
-    /*137*/{7,-16,8,-16,9,-16,10,-16,-1,0},
-    /*138*/{7,-12,8,-12,9,-12,10,-12,-1,0},
-    /*139*/{4,141,-1,0},
-    /*140*/{26,142,-1,0},
-    /*141*/{13,143,-1,0},
-    /*142*/{7,-15,8,-15,9,-15,10,-15,-1,0},
-    /*143*/{26,145,-1,0},
-    /*144*/{13,146,-1,0},
-    /*145*/{6,-13,7,-13,8,-13,9,-13,10,-13,-1,0},
+    /*126*/{7,-17,8,-17,10,-17,-1,0},
+    /*127*/{7,-16,8,-16,9,-16,10,-16,-1,0},
+    /*128*/{4,131,-1,0},
+    /*129*/{7,-12,8,-12,9,-12,10,-12,-1,0},
+    /*130*/{26,132,-1,0},
+    /*131*/{13,133,-1,0},
+    /*132*/{7,-15,8,-15,9,-15,10,-15,-1,0},
+    /*133*/{26,135,-1,0},
+    /*134*/{13,136,-1,0},
+    /*135*/{6,-13,7,-13,8,-13,9,-13,10,-13,-1,0},
+    /*136*/{13,-76,16,141,-1,0},
+    /*137*/{13,-10,-1,0},
+    /*138*/{13,140,-1,0},
+    /*139*/{3,-11,5,-11,6,-11,7,-11,8,-11,9,-11,10,-11,-1,0},
+    /*140*/{15,142,25,12,-1,0},
+    /*141*/{13,-75,-1,0},
+    /*142*/{1,-83,7,31,8,33,12,-83,20,36,25,-83,-1,0},
+    /*143*/{1,-83,12,62,25,-83,-1,0},
+    /*144*/{1,68,25,64,-1,0},
+    /*145*/{0,-4,1,68,25,64,-1,0},
     /*146*/{0,-1,-1,0},
   };
 
@@ -193,152 +193,152 @@ public class parser extends java_cup.runtime.lr_parser {
 
   /** reduce_goto table */
   protected static final short[][] _reduce_table = {
-    /*0*/{1,1,39,2,-1,-1},
+    /*0*/{1,1,39,3,-1,-1},
     /*1*/{-1,-1},
-    /*2*/{2,101,26,100,-1,-1},
-    /*3*/{7,6,15,5,-1,-1},
-    /*4*/{10,15,16,91,17,86,22,87,31,90,-1,-1},
+    /*2*/{7,142,15,31,-1,-1},
+    /*3*/{2,4,26,5,-1,-1},
+    /*4*/{3,13,26,14,-1,-1},
     /*5*/{-1,-1},
-    /*6*/{15,27,26,28,27,30,28,31,30,29,-1,-1},
+    /*6*/{10,8,-1,-1},
     /*7*/{-1,-1},
-    /*8*/{10,15,16,14,18,9,23,10,32,12,-1,-1},
-    /*9*/{45,23,-1,-1},
+    /*8*/{40,9,-1,-1},
+    /*9*/{-1,-1},
     /*10*/{-1,-1},
     /*11*/{-1,-1},
     /*12*/{-1,-1},
-    /*13*/{43,20,-1,-1},
-    /*14*/{18,9,23,10,32,19,-1,-1},
+    /*13*/{4,20,5,18,11,15,26,19,-1,-1},
+    /*14*/{-1,-1},
     /*15*/{-1,-1},
-    /*16*/{-1,-1},
+    /*16*/{10,136,12,137,-1,-1},
     /*17*/{-1,-1},
-    /*18*/{-1,-1},
+    /*18*/{6,129,26,127,-1,-1},
     /*19*/{-1,-1},
-    /*20*/{-1,-1},
+    /*20*/{13,22,26,23,-1,-1},
     /*21*/{-1,-1},
-    /*22*/{23,25,-1,-1},
+    /*22*/{14,24,26,26,-1,-1},
     /*23*/{-1,-1},
-    /*24*/{-1,-1},
+    /*24*/{7,33,15,31,-1,-1},
     /*25*/{-1,-1},
     /*26*/{-1,-1},
     /*27*/{-1,-1},
     /*28*/{-1,-1},
-    /*29*/{28,69,-1,-1},
-    /*30*/{8,33,26,32,-1,-1},
+    /*29*/{-1,-1},
+    /*30*/{10,100,16,115,17,114,22,112,31,113,-1,-1},
     /*31*/{-1,-1},
     /*32*/{-1,-1},
-    /*33*/{9,42,19,43,33,41,-1,-1},
-    /*34*/{-1,-1},
-    /*35*/{33,37,-1,-1},
+    /*33*/{15,36,26,37,27,34,28,39,30,38,-1,-1},
+    /*34*/{8,59,26,60,-1,-1},
+    /*35*/{-1,-1},
     /*36*/{-1,-1},
-    /*37*/{49,38,-1,-1},
-    /*38*/{-1,-1},
+    /*37*/{-1,-1},
+    /*38*/{28,40,-1,-1},
     /*39*/{-1,-1},
-    /*40*/{52,67,-1,-1},
-    /*41*/{50,45,-1,-1},
-    /*42*/{19,44,33,41,-1,-1},
-    /*43*/{-1,-1},
-    /*44*/{-1,-1},
+    /*40*/{-1,-1},
+    /*41*/{46,56,-1,-1},
+    /*42*/{47,53,-1,-1},
+    /*43*/{48,44,-1,-1},
+    /*44*/{29,48,34,46,37,49,38,47,-1,-1},
     /*45*/{-1,-1},
-    /*46*/{51,47,-1,-1},
-    /*47*/{20,49,24,51,25,50,26,48,-1,-1},
+    /*46*/{-1,-1},
+    /*47*/{-1,-1},
     /*48*/{-1,-1},
-    /*49*/{21,59,34,58,-1,-1},
-    /*50*/{-1,-1},
+    /*49*/{-1,-1},
+    /*50*/{34,46,37,52,38,47,-1,-1},
     /*51*/{-1,-1},
     /*52*/{-1,-1},
-    /*53*/{20,49,25,54,26,48,-1,-1},
+    /*53*/{29,54,34,46,37,49,38,47,-1,-1},
     /*54*/{-1,-1},
     /*55*/{-1,-1},
-    /*56*/{34,65,38,66,-1,-1},
+    /*56*/{29,57,34,46,37,49,38,47,-1,-1},
     /*57*/{-1,-1},
-    /*58*/{26,60,36,61,-1,-1},
-    /*59*/{-1,-1},
+    /*58*/{-1,-1},
+    /*59*/{9,70,19,69,33,68,-1,-1},
     /*60*/{-1,-1},
     /*61*/{-1,-1},
-    /*62*/{35,64,-1,-1},
+    /*62*/{33,64,-1,-1},
     /*63*/{-1,-1},
-    /*64*/{-1,-1},
+    /*64*/{49,65,-1,-1},
     /*65*/{-1,-1},
     /*66*/{-1,-1},
-    /*67*/{-1,-1},
-    /*68*/{-1,-1},
+    /*67*/{52,92,-1,-1},
+    /*68*/{50,72,-1,-1},
     /*69*/{-1,-1},
-    /*70*/{48,83,-1,-1},
-    /*71*/{46,80,-1,-1},
-    /*72*/{47,73,-1,-1},
-    /*73*/{29,75,34,65,37,76,38,74,-1,-1},
-    /*74*/{-1,-1},
+    /*70*/{19,71,33,68,-1,-1},
+    /*71*/{-1,-1},
+    /*72*/{-1,-1},
+    /*73*/{51,74,-1,-1},
+    /*74*/{20,77,24,75,25,78,26,76,-1,-1},
     /*75*/{-1,-1},
     /*76*/{-1,-1},
-    /*77*/{-1,-1},
-    /*78*/{34,65,37,79,38,74,-1,-1},
+    /*77*/{21,82,34,80,-1,-1},
+    /*78*/{-1,-1},
     /*79*/{-1,-1},
-    /*80*/{29,81,34,65,37,76,38,74,-1,-1},
-    /*81*/{-1,-1},
+    /*80*/{26,85,36,86,-1,-1},
+    /*81*/{34,46,38,83,-1,-1},
     /*82*/{-1,-1},
-    /*83*/{29,84,34,65,37,76,38,74,-1,-1},
-    /*84*/{-1,-1},
+    /*83*/{-1,-1},
+    /*84*/{35,88,-1,-1},
     /*85*/{-1,-1},
-    /*86*/{44,96,-1,-1},
+    /*86*/{-1,-1},
     /*87*/{-1,-1},
     /*88*/{-1,-1},
-    /*89*/{42,94,-1,-1},
+    /*89*/{20,77,25,91,26,76,-1,-1},
     /*90*/{-1,-1},
-    /*91*/{17,86,22,87,31,93,-1,-1},
+    /*91*/{-1,-1},
     /*92*/{-1,-1},
     /*93*/{-1,-1},
-    /*94*/{-1,-1},
+    /*94*/{10,100,16,101,18,97,23,98,32,96,-1,-1},
     /*95*/{-1,-1},
     /*96*/{-1,-1},
-    /*97*/{22,98,-1,-1},
+    /*97*/{45,107,-1,-1},
     /*98*/{-1,-1},
-    /*99*/{-1,-1},
+    /*99*/{43,104,-1,-1},
     /*100*/{-1,-1},
-    /*101*/{3,107,26,108,-1,-1},
-    /*102*/{10,104,-1,-1},
+    /*101*/{18,97,23,98,32,102,-1,-1},
+    /*102*/{-1,-1},
     /*103*/{-1,-1},
-    /*104*/{40,105,-1,-1},
+    /*104*/{-1,-1},
     /*105*/{-1,-1},
-    /*106*/{-1,-1},
-    /*107*/{4,114,5,111,11,112,26,109,-1,-1},
+    /*106*/{23,109,-1,-1},
+    /*107*/{-1,-1},
     /*108*/{-1,-1},
     /*109*/{-1,-1},
     /*110*/{-1,-1},
-    /*111*/{6,138,26,137,-1,-1},
+    /*111*/{42,122,-1,-1},
     /*112*/{-1,-1},
-    /*113*/{10,132,12,131,-1,-1},
-    /*114*/{13,116,26,115,-1,-1},
-    /*115*/{-1,-1},
-    /*116*/{14,122,26,121,-1,-1},
+    /*113*/{-1,-1},
+    /*114*/{44,119,-1,-1},
+    /*115*/{17,114,22,112,31,117,-1,-1},
+    /*116*/{-1,-1},
     /*117*/{-1,-1},
-    /*118*/{-1,-1},
+    /*118*/{22,121,-1,-1},
     /*119*/{-1,-1},
     /*120*/{-1,-1},
     /*121*/{-1,-1},
-    /*122*/{7,127,15,5,-1,-1},
+    /*122*/{-1,-1},
     /*123*/{-1,-1},
     /*124*/{-1,-1},
     /*125*/{-1,-1},
     /*126*/{-1,-1},
-    /*127*/{15,27,26,28,27,128,28,31,30,29,-1,-1},
-    /*128*/{8,129,26,32,-1,-1},
-    /*129*/{9,130,19,43,33,41,-1,-1},
-    /*130*/{19,44,33,41,-1,-1},
-    /*131*/{41,135,-1,-1},
+    /*127*/{-1,-1},
+    /*128*/{-1,-1},
+    /*129*/{-1,-1},
+    /*130*/{-1,-1},
+    /*131*/{-1,-1},
     /*132*/{-1,-1},
     /*133*/{-1,-1},
     /*134*/{-1,-1},
     /*135*/{-1,-1},
     /*136*/{-1,-1},
-    /*137*/{-1,-1},
+    /*137*/{41,138,-1,-1},
     /*138*/{-1,-1},
     /*139*/{-1,-1},
     /*140*/{-1,-1},
     /*141*/{-1,-1},
-    /*142*/{-1,-1},
-    /*143*/{-1,-1},
-    /*144*/{-1,-1},
-    /*145*/{-1,-1},
+    /*142*/{15,36,26,37,27,143,28,39,30,38,-1,-1},
+    /*143*/{8,144,26,60,-1,-1},
+    /*144*/{9,145,19,69,33,68,-1,-1},
+    /*145*/{19,71,33,68,-1,-1},
     /*146*/{-1,-1},
   };
 
@@ -346,19 +346,19 @@ public class parser extends java_cup.runtime.lr_parser {
   public short[][] reduce_table() {return _reduce_table;}
 
   /** instance of action encapsulation class */
-  protected CUP$actions action_obj;
+  protected CUP$parser$actions action_obj;
 
   /** action encapsulation object initializer */
   protected void init_actions()
     {
-      action_obj = new CUP$actions();
+      action_obj = new CUP$parser$actions();
     }
 
   /** invoke a user supplied parse action */
   public java_cup.runtime.Symbol do_action(
     int                        act_num,
     java_cup.runtime.lr_parser parser,
-    java.util.Stack            stack,
+    java_cup.runtime.Symbol[]  stack,
     int                        top)
     throws java.lang.Exception
   {
@@ -413,7 +413,7 @@ public class parser extends java_cup.runtime.lr_parser {
 }
 
 /** Cup generated class to encapsulate user supplied action code.*/
-class CUP$actions {
+class CUP$parser$actions {
 
 
   /** helper routine to clone a new production part adding a given label */
@@ -506,13 +506,13 @@ class CUP$actions {
 
 
   /** Constructor */
-  CUP$actions() { }
+  CUP$parser$actions() { }
 
   /** Method with the actual generated action code. */
   public final java_cup.runtime.Symbol CUP$do_action(
     int                        CUP$act_num,
     java_cup.runtime.lr_parser CUP$parser,
-    java.util.Stack            CUP$stack,
+    java_cup.runtime.Symbol[]  CUP$stack,
     int                        CUP$top)
     throws java.lang.Exception
     {
@@ -527,7 +527,7 @@ class CUP$actions {
             {
               Object RESULT = null;
 
-              CUP$result = new java_cup.runtime.Symbol(26/*empty*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(26/*empty*/, CUP$stack[CUP$top-0].right, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -535,11 +535,11 @@ class CUP$actions {
           case 81: // label_id ::= ID 
             {
               String RESULT = null;
-		int the_idleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left;
-		int the_idright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right;
-		String the_id = (String)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-0)).value;
+		int the_idleft = CUP$stack[CUP$top-0].left;
+		int the_idright = CUP$stack[CUP$top-0].right;
+		String the_id = (String)CUP$stack[CUP$top-0].value;
 		 RESULT = the_id; 
-              CUP$result = new java_cup.runtime.Symbol(35/*label_id*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(35/*label_id*/, CUP$stack[CUP$top-0].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -547,11 +547,11 @@ class CUP$actions {
           case 80: // symbol_id ::= ID 
             {
               String RESULT = null;
-		int the_idleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left;
-		int the_idright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right;
-		String the_id = (String)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-0)).value;
+		int the_idleft = CUP$stack[CUP$top-0].left;
+		int the_idright = CUP$stack[CUP$top-0].right;
+		String the_id = (String)CUP$stack[CUP$top-0].value;
 		 RESULT = the_id; 
-              CUP$result = new java_cup.runtime.Symbol(34/*symbol_id*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(34/*symbol_id*/, CUP$stack[CUP$top-0].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -559,11 +559,11 @@ class CUP$actions {
           case 79: // nt_id ::= ID 
             {
               String RESULT = null;
-		int the_idleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left;
-		int the_idright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right;
-		String the_id = (String)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-0)).value;
+		int the_idleft = CUP$stack[CUP$top-0].left;
+		int the_idright = CUP$stack[CUP$top-0].right;
+		String the_id = (String)CUP$stack[CUP$top-0].value;
 		 RESULT = the_id; 
-              CUP$result = new java_cup.runtime.Symbol(33/*nt_id*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(33/*nt_id*/, CUP$stack[CUP$top-0].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -571,9 +571,9 @@ class CUP$actions {
           case 78: // new_non_term_id ::= ID 
             {
               Object RESULT = null;
-		int non_term_idleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left;
-		int non_term_idright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right;
-		String non_term_id = (String)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-0)).value;
+		int non_term_idleft = CUP$stack[CUP$top-0].left;
+		int non_term_idright = CUP$stack[CUP$top-0].right;
+		String non_term_id = (String)CUP$stack[CUP$top-0].value;
 		 
 	  /* see if this non terminal has been declared before */
 	  if (symbols.get(non_term_id) != null)
@@ -598,7 +598,7 @@ class CUP$actions {
 	      symbols.put(non_term_id, new symbol_part(this_nt));
 	    }
 	
-              CUP$result = new java_cup.runtime.Symbol(23/*new_non_term_id*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(23/*new_non_term_id*/, CUP$stack[CUP$top-0].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -606,9 +606,9 @@ class CUP$actions {
           case 77: // new_term_id ::= ID 
             {
               Object RESULT = null;
-		int term_idleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left;
-		int term_idright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right;
-		String term_id = (String)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-0)).value;
+		int term_idleft = CUP$stack[CUP$top-0].left;
+		int term_idright = CUP$stack[CUP$top-0].right;
+		String term_id = (String)CUP$stack[CUP$top-0].value;
 		 
 	  /* see if this terminal has been declared before */
 	  if (symbols.get(term_id) != null)
@@ -628,7 +628,7 @@ class CUP$actions {
 	        new symbol_part(new terminal(term_id, multipart_name)));
 	    }
 	
-              CUP$result = new java_cup.runtime.Symbol(22/*new_term_id*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(22/*new_term_id*/, CUP$stack[CUP$top-0].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -637,7 +637,7 @@ class CUP$actions {
             {
               Object RESULT = null;
 
-              CUP$result = new java_cup.runtime.Symbol(16/*type_id*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(16/*type_id*/, CUP$stack[CUP$top-0].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -646,7 +646,7 @@ class CUP$actions {
             {
               Object RESULT = null;
 
-              CUP$result = new java_cup.runtime.Symbol(12/*import_id*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(12/*import_id*/, CUP$stack[CUP$top-0].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -655,7 +655,7 @@ class CUP$actions {
             {
               Object RESULT = null;
 		 append_multipart("*"); 
-              CUP$result = new java_cup.runtime.Symbol(12/*import_id*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(12/*import_id*/, CUP$stack[CUP$top-2].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -663,11 +663,11 @@ class CUP$actions {
           case 73: // multipart_id ::= ID 
             {
               Object RESULT = null;
-		int an_idleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left;
-		int an_idright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right;
-		String an_id = (String)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-0)).value;
+		int an_idleft = CUP$stack[CUP$top-0].left;
+		int an_idright = CUP$stack[CUP$top-0].right;
+		String an_id = (String)CUP$stack[CUP$top-0].value;
 		 append_multipart(an_id); 
-              CUP$result = new java_cup.runtime.Symbol(10/*multipart_id*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(10/*multipart_id*/, CUP$stack[CUP$top-0].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -675,11 +675,11 @@ class CUP$actions {
           case 72: // multipart_id ::= multipart_id DOT ID 
             {
               Object RESULT = null;
-		int another_idleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left;
-		int another_idright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right;
-		String another_id = (String)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-0)).value;
+		int another_idleft = CUP$stack[CUP$top-0].left;
+		int another_idright = CUP$stack[CUP$top-0].right;
+		String another_id = (String)CUP$stack[CUP$top-0].value;
 		 append_multipart(another_id); 
-              CUP$result = new java_cup.runtime.Symbol(10/*multipart_id*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(10/*multipart_id*/, CUP$stack[CUP$top-2].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -688,7 +688,7 @@ class CUP$actions {
             {
               String RESULT = null;
 		 RESULT = null; 
-              CUP$result = new java_cup.runtime.Symbol(36/*opt_label*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(36/*opt_label*/, CUP$stack[CUP$top-0].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -696,11 +696,11 @@ class CUP$actions {
           case 70: // opt_label ::= COLON label_id 
             {
               String RESULT = null;
-		int labidleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left;
-		int labidright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right;
-		String labid = (String)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-0)).value;
+		int labidleft = CUP$stack[CUP$top-0].left;
+		int labidright = CUP$stack[CUP$top-0].right;
+		String labid = (String)CUP$stack[CUP$top-0].value;
 		 RESULT = labid; 
-              CUP$result = new java_cup.runtime.Symbol(36/*opt_label*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-1)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(36/*opt_label*/, CUP$stack[CUP$top-1].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -708,14 +708,14 @@ class CUP$actions {
           case 69: // prod_part ::= CODE_STRING 
             {
               Object RESULT = null;
-		int code_strleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left;
-		int code_strright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right;
-		String code_str = (String)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-0)).value;
+		int code_strleft = CUP$stack[CUP$top-0].left;
+		int code_strright = CUP$stack[CUP$top-0].right;
+		String code_str = (String)CUP$stack[CUP$top-0].value;
 		 
 	  /* add a new production part */
 	  add_rhs_part(new action_part(code_str));
 	
-              CUP$result = new java_cup.runtime.Symbol(21/*prod_part*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(21/*prod_part*/, CUP$stack[CUP$top-0].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -723,12 +723,12 @@ class CUP$actions {
           case 68: // prod_part ::= symbol_id opt_label 
             {
               Object RESULT = null;
-		int symidleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-1)).left;
-		int symidright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-1)).right;
-		String symid = (String)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-1)).value;
-		int labidleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left;
-		int labidright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right;
-		String labid = (String)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-0)).value;
+		int symidleft = CUP$stack[CUP$top-1].left;
+		int symidright = CUP$stack[CUP$top-1].right;
+		String symid = (String)CUP$stack[CUP$top-1].value;
+		int labidleft = CUP$stack[CUP$top-0].left;
+		int labidright = CUP$stack[CUP$top-0].right;
+		String labid = (String)CUP$stack[CUP$top-0].value;
 		 
 	  /* try to look up the id */
 	  production_part symb = (production_part)symbols.get(symid);
@@ -746,7 +746,7 @@ class CUP$actions {
 	      add_rhs_part(add_lab(symb, labid));
 	    }
 	
-              CUP$result = new java_cup.runtime.Symbol(21/*prod_part*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-1)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(21/*prod_part*/, CUP$stack[CUP$top-1].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -755,7 +755,7 @@ class CUP$actions {
             {
               Object RESULT = null;
 
-              CUP$result = new java_cup.runtime.Symbol(20/*prod_part_list*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(20/*prod_part_list*/, CUP$stack[CUP$top-0].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -764,7 +764,7 @@ class CUP$actions {
             {
               Object RESULT = null;
 
-              CUP$result = new java_cup.runtime.Symbol(20/*prod_part_list*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-1)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(20/*prod_part_list*/, CUP$stack[CUP$top-1].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -799,7 +799,7 @@ class CUP$actions {
 	  /* reset the rhs accumulation in any case */
 	  new_rhs();
 	
-              CUP$result = new java_cup.runtime.Symbol(25/*rhs*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(25/*rhs*/, CUP$stack[CUP$top-0].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -807,9 +807,9 @@ class CUP$actions {
           case 64: // rhs ::= prod_part_list PERCENT_PREC term_id 
             {
               Object RESULT = null;
-		int term_nameleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left;
-		int term_nameright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right;
-		String term_name = (String)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-0)).value;
+		int term_nameleft = CUP$stack[CUP$top-0].left;
+		int term_nameright = CUP$stack[CUP$top-0].right;
+		String term_name = (String)CUP$stack[CUP$top-0].value;
 		
 	  java_cup.symbol sym = null;
 	  if (lhs_nt != null) 
@@ -861,7 +861,7 @@ class CUP$actions {
 	  /* reset the rhs accumulation in any case */
 	  new_rhs();
 	
-              CUP$result = new java_cup.runtime.Symbol(25/*rhs*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(25/*rhs*/, CUP$stack[CUP$top-2].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -870,7 +870,7 @@ class CUP$actions {
             {
               Object RESULT = null;
 
-              CUP$result = new java_cup.runtime.Symbol(24/*rhs_list*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(24/*rhs_list*/, CUP$stack[CUP$top-0].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -879,7 +879,7 @@ class CUP$actions {
             {
               Object RESULT = null;
 
-              CUP$result = new java_cup.runtime.Symbol(24/*rhs_list*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(24/*rhs_list*/, CUP$stack[CUP$top-2].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -888,7 +888,7 @@ class CUP$actions {
             {
               Object RESULT = null;
 
-              CUP$result = new java_cup.runtime.Symbol(19/*production*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(19/*production*/, CUP$stack[CUP$top-2].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -897,7 +897,7 @@ class CUP$actions {
             {
               Object RESULT = null;
  lexer.emit_error("Syntax Error"); 
-              CUP$result = new java_cup.runtime.Symbol(52/*NT$13*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(52/*NT$13*/, CUP$stack[CUP$top-0].right, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -905,11 +905,11 @@ class CUP$actions {
           case 59: // production ::= nt_id NT$11 COLON_COLON_EQUALS NT$12 rhs_list SEMI 
             {
               Object RESULT = null;
-		int lhs_idleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-5)).left;
-		int lhs_idright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-5)).right;
-		String lhs_id = (String)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-5)).value;
+		int lhs_idleft = CUP$stack[CUP$top-5].left;
+		int lhs_idright = CUP$stack[CUP$top-5].right;
+		String lhs_id = (String)CUP$stack[CUP$top-5].value;
 
-              CUP$result = new java_cup.runtime.Symbol(19/*production*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-5)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(19/*production*/, CUP$stack[CUP$top-5].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -917,11 +917,11 @@ class CUP$actions {
           case 58: // NT$12 ::= 
             {
               Object RESULT = null;
-		int lhs_idleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).left;
-		int lhs_idright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).right;
-		String lhs_id = (String)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-2)).value;
+		int lhs_idleft = CUP$stack[CUP$top-2].left;
+		int lhs_idright = CUP$stack[CUP$top-2].right;
+		String lhs_id = (String)CUP$stack[CUP$top-2].value;
  
-              CUP$result = new java_cup.runtime.Symbol(51/*NT$12*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(51/*NT$12*/, CUP$stack[CUP$top-0].right, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -929,9 +929,9 @@ class CUP$actions {
           case 57: // NT$11 ::= 
             {
               Object RESULT = null;
-		int lhs_idleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left;
-		int lhs_idright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right;
-		String lhs_id = (String)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-0)).value;
+		int lhs_idleft = CUP$stack[CUP$top-0].left;
+		int lhs_idright = CUP$stack[CUP$top-0].right;
+		String lhs_id = (String)CUP$stack[CUP$top-0].value;
 
 	  /* lookup the lhs nt */
 	  lhs_nt = (non_terminal)non_terms.get(lhs_id);
@@ -947,7 +947,7 @@ class CUP$actions {
 	  /* reset the rhs accumulation */
 	  new_rhs();
 	
-              CUP$result = new java_cup.runtime.Symbol(50/*NT$11*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(50/*NT$11*/, CUP$stack[CUP$top-0].right, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -956,7 +956,7 @@ class CUP$actions {
             {
               Object RESULT = null;
 
-              CUP$result = new java_cup.runtime.Symbol(9/*production_list*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(9/*production_list*/, CUP$stack[CUP$top-0].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -965,7 +965,7 @@ class CUP$actions {
             {
               Object RESULT = null;
 
-              CUP$result = new java_cup.runtime.Symbol(9/*production_list*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-1)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(9/*production_list*/, CUP$stack[CUP$top-1].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -974,7 +974,7 @@ class CUP$actions {
             {
               Object RESULT = null;
 
-              CUP$result = new java_cup.runtime.Symbol(8/*start_spec*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(8/*start_spec*/, CUP$stack[CUP$top-0].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -982,11 +982,11 @@ class CUP$actions {
           case 53: // start_spec ::= START WITH nt_id NT$10 SEMI 
             {
               Object RESULT = null;
-		int start_nameleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).left;
-		int start_nameright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).right;
-		String start_name = (String)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-2)).value;
+		int start_nameleft = CUP$stack[CUP$top-2].left;
+		int start_nameright = CUP$stack[CUP$top-2].right;
+		String start_name = (String)CUP$stack[CUP$top-2].value;
 
-              CUP$result = new java_cup.runtime.Symbol(8/*start_spec*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-4)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(8/*start_spec*/, CUP$stack[CUP$top-4].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -994,9 +994,9 @@ class CUP$actions {
           case 52: // NT$10 ::= 
             {
               Object RESULT = null;
-		int start_nameleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left;
-		int start_nameright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right;
-		String start_name = (String)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-0)).value;
+		int start_nameleft = CUP$stack[CUP$top-0].left;
+		int start_nameright = CUP$stack[CUP$top-0].right;
+		String start_name = (String)CUP$stack[CUP$top-0].value;
  
 	  /* verify that the name has been declared as a non terminal */
 	  non_terminal nt = (non_terminal)non_terms.get(start_name);
@@ -1020,7 +1020,7 @@ class CUP$actions {
 	      new_rhs();
 	    }
 	
-              CUP$result = new java_cup.runtime.Symbol(49/*NT$10*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(49/*NT$10*/, CUP$stack[CUP$top-0].right, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -1028,9 +1028,9 @@ class CUP$actions {
           case 51: // term_id ::= symbol_id 
             {
               String RESULT = null;
-		int symleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left;
-		int symright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right;
-		String sym = (String)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-0)).value;
+		int symleft = CUP$stack[CUP$top-0].left;
+		int symright = CUP$stack[CUP$top-0].right;
+		String sym = (String)CUP$stack[CUP$top-0].value;
 		
 	  /* check that the symbol_id is a terminal */
 	  if (symbols.get(sym) == null)
@@ -1041,7 +1041,7 @@ class CUP$actions {
 	    }
           RESULT = sym;
          
-              CUP$result = new java_cup.runtime.Symbol(38/*term_id*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(38/*term_id*/, CUP$stack[CUP$top-0].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -1049,14 +1049,14 @@ class CUP$actions {
           case 50: // terminal_id ::= term_id 
             {
               String RESULT = null;
-		int symleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left;
-		int symright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right;
-		String sym = (String)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-0)).value;
+		int symleft = CUP$stack[CUP$top-0].left;
+		int symright = CUP$stack[CUP$top-0].right;
+		String sym = (String)CUP$stack[CUP$top-0].value;
 			
 	  add_precedence(sym);
 	  RESULT = sym;
 	
-              CUP$result = new java_cup.runtime.Symbol(37/*terminal_id*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(37/*terminal_id*/, CUP$stack[CUP$top-0].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -1065,7 +1065,7 @@ class CUP$actions {
             {
               Object RESULT = null;
 
-              CUP$result = new java_cup.runtime.Symbol(29/*terminal_list*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(29/*terminal_list*/, CUP$stack[CUP$top-0].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -1074,7 +1074,7 @@ class CUP$actions {
             {
               Object RESULT = null;
 
-              CUP$result = new java_cup.runtime.Symbol(29/*terminal_list*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(29/*terminal_list*/, CUP$stack[CUP$top-2].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -1083,7 +1083,7 @@ class CUP$actions {
             {
               Object RESULT = null;
 
-              CUP$result = new java_cup.runtime.Symbol(28/*preced*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-4)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(28/*preced*/, CUP$stack[CUP$top-4].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -1094,7 +1094,7 @@ class CUP$actions {
 
 	  update_precedence(assoc.nonassoc);
 	
-              CUP$result = new java_cup.runtime.Symbol(48/*NT$9*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(48/*NT$9*/, CUP$stack[CUP$top-0].right, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -1103,7 +1103,7 @@ class CUP$actions {
             {
               Object RESULT = null;
 
-              CUP$result = new java_cup.runtime.Symbol(28/*preced*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-4)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(28/*preced*/, CUP$stack[CUP$top-4].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -1114,7 +1114,7 @@ class CUP$actions {
 
 	  update_precedence(assoc.right);
 	
-              CUP$result = new java_cup.runtime.Symbol(47/*NT$8*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(47/*NT$8*/, CUP$stack[CUP$top-0].right, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -1123,7 +1123,7 @@ class CUP$actions {
             {
               Object RESULT = null;
 
-              CUP$result = new java_cup.runtime.Symbol(28/*preced*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-4)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(28/*preced*/, CUP$stack[CUP$top-4].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -1134,7 +1134,7 @@ class CUP$actions {
 
 	  update_precedence(assoc.left);
 	
-              CUP$result = new java_cup.runtime.Symbol(46/*NT$7*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(46/*NT$7*/, CUP$stack[CUP$top-0].right, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -1143,7 +1143,7 @@ class CUP$actions {
             {
               Object RESULT = null;
 
-              CUP$result = new java_cup.runtime.Symbol(30/*precedence_l*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(30/*precedence_l*/, CUP$stack[CUP$top-0].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -1152,7 +1152,7 @@ class CUP$actions {
             {
               Object RESULT = null;
 
-              CUP$result = new java_cup.runtime.Symbol(30/*precedence_l*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-1)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(30/*precedence_l*/, CUP$stack[CUP$top-1].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -1161,7 +1161,7 @@ class CUP$actions {
             {
               Object RESULT = null;
 
-              CUP$result = new java_cup.runtime.Symbol(27/*precedence_list*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(27/*precedence_list*/, CUP$stack[CUP$top-0].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -1170,7 +1170,7 @@ class CUP$actions {
             {
               Object RESULT = null;
 
-              CUP$result = new java_cup.runtime.Symbol(27/*precedence_list*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(27/*precedence_list*/, CUP$stack[CUP$top-0].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -1179,7 +1179,7 @@ class CUP$actions {
             {
               Object RESULT = null;
 
-              CUP$result = new java_cup.runtime.Symbol(18/*non_term_name_list*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(18/*non_term_name_list*/, CUP$stack[CUP$top-0].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -1188,7 +1188,7 @@ class CUP$actions {
             {
               Object RESULT = null;
 
-              CUP$result = new java_cup.runtime.Symbol(18/*non_term_name_list*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(18/*non_term_name_list*/, CUP$stack[CUP$top-2].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -1197,7 +1197,7 @@ class CUP$actions {
             {
               Object RESULT = null;
 
-              CUP$result = new java_cup.runtime.Symbol(17/*term_name_list*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(17/*term_name_list*/, CUP$stack[CUP$top-0].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -1206,7 +1206,7 @@ class CUP$actions {
             {
               Object RESULT = null;
 
-              CUP$result = new java_cup.runtime.Symbol(17/*term_name_list*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(17/*term_name_list*/, CUP$stack[CUP$top-2].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -1215,7 +1215,7 @@ class CUP$actions {
             {
               Object RESULT = null;
 
-              CUP$result = new java_cup.runtime.Symbol(32/*declares_non_term*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(32/*declares_non_term*/, CUP$stack[CUP$top-2].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -1227,7 +1227,7 @@ class CUP$actions {
 	  /* reset the accumulated multipart name */
 	  multipart_name = new String();
 	
-              CUP$result = new java_cup.runtime.Symbol(45/*NT$6*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(45/*NT$6*/, CUP$stack[CUP$top-0].right, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -1236,7 +1236,7 @@ class CUP$actions {
             {
               Object RESULT = null;
 
-              CUP$result = new java_cup.runtime.Symbol(31/*declares_term*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(31/*declares_term*/, CUP$stack[CUP$top-2].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -1248,7 +1248,7 @@ class CUP$actions {
 	  /* reset the accumulated multipart name */
 	  multipart_name = new String();
 	
-              CUP$result = new java_cup.runtime.Symbol(44/*NT$5*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(44/*NT$5*/, CUP$stack[CUP$top-0].right, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -1257,7 +1257,7 @@ class CUP$actions {
             {
               Object RESULT = null;
 
-              CUP$result = new java_cup.runtime.Symbol(15/*symbol*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-4)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(15/*symbol*/, CUP$stack[CUP$top-4].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -1269,7 +1269,7 @@ class CUP$actions {
 	  /* reset the accumulated multipart name */
 	  multipart_name = new String();
 	
-              CUP$result = new java_cup.runtime.Symbol(43/*NT$4*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(43/*NT$4*/, CUP$stack[CUP$top-0].right, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -1278,7 +1278,7 @@ class CUP$actions {
             {
               Object RESULT = null;
 
-              CUP$result = new java_cup.runtime.Symbol(15/*symbol*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-3)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(15/*symbol*/, CUP$stack[CUP$top-3].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -1290,7 +1290,7 @@ class CUP$actions {
 	  /* reset the accumulated multipart name */
 	  multipart_name = new String();
 	
-              CUP$result = new java_cup.runtime.Symbol(42/*NT$3*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(42/*NT$3*/, CUP$stack[CUP$top-0].right, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -1299,7 +1299,7 @@ class CUP$actions {
             {
               Object RESULT = null;
 
-              CUP$result = new java_cup.runtime.Symbol(15/*symbol*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(15/*symbol*/, CUP$stack[CUP$top-2].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -1308,7 +1308,7 @@ class CUP$actions {
             {
               Object RESULT = null;
 
-              CUP$result = new java_cup.runtime.Symbol(15/*symbol*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-3)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(15/*symbol*/, CUP$stack[CUP$top-3].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -1317,7 +1317,7 @@ class CUP$actions {
             {
               Object RESULT = null;
 
-              CUP$result = new java_cup.runtime.Symbol(15/*symbol*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-1)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(15/*symbol*/, CUP$stack[CUP$top-1].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -1326,7 +1326,7 @@ class CUP$actions {
             {
               Object RESULT = null;
 
-              CUP$result = new java_cup.runtime.Symbol(15/*symbol*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(15/*symbol*/, CUP$stack[CUP$top-2].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -1335,7 +1335,7 @@ class CUP$actions {
             {
               Object RESULT = null;
 
-              CUP$result = new java_cup.runtime.Symbol(7/*symbol_list*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(7/*symbol_list*/, CUP$stack[CUP$top-0].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -1344,7 +1344,7 @@ class CUP$actions {
             {
               Object RESULT = null;
 
-              CUP$result = new java_cup.runtime.Symbol(7/*symbol_list*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-1)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(7/*symbol_list*/, CUP$stack[CUP$top-1].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -1353,7 +1353,7 @@ class CUP$actions {
             {
               Object RESULT = null;
 
-              CUP$result = new java_cup.runtime.Symbol(14/*scan_code*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(14/*scan_code*/, CUP$stack[CUP$top-0].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -1361,14 +1361,14 @@ class CUP$actions {
           case 18: // scan_code ::= SCAN WITH CODE_STRING SEMI 
             {
               Object RESULT = null;
-		int user_codeleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-1)).left;
-		int user_coderight = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-1)).right;
-		String user_code = (String)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-1)).value;
+		int user_codeleft = CUP$stack[CUP$top-1].left;
+		int user_coderight = CUP$stack[CUP$top-1].right;
+		String user_code = (String)CUP$stack[CUP$top-1].value;
 		 
 	  /* save the user code */
 	  emit.scan_code = user_code;
 	
-              CUP$result = new java_cup.runtime.Symbol(14/*scan_code*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-3)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(14/*scan_code*/, CUP$stack[CUP$top-3].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -1377,7 +1377,7 @@ class CUP$actions {
             {
               Object RESULT = null;
 
-              CUP$result = new java_cup.runtime.Symbol(13/*init_code*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(13/*init_code*/, CUP$stack[CUP$top-0].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -1385,14 +1385,14 @@ class CUP$actions {
           case 16: // init_code ::= INIT WITH CODE_STRING SEMI 
             {
               Object RESULT = null;
-		int user_codeleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-1)).left;
-		int user_coderight = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-1)).right;
-		String user_code = (String)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-1)).value;
+		int user_codeleft = CUP$stack[CUP$top-1].left;
+		int user_coderight = CUP$stack[CUP$top-1].right;
+		String user_code = (String)CUP$stack[CUP$top-1].value;
 		 
 	  /* save the user code */
 	  emit.init_code = user_code;
 	
-              CUP$result = new java_cup.runtime.Symbol(13/*init_code*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-3)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(13/*init_code*/, CUP$stack[CUP$top-3].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -1401,7 +1401,7 @@ class CUP$actions {
             {
               Object RESULT = null;
 
-              CUP$result = new java_cup.runtime.Symbol(6/*parser_code_part*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(6/*parser_code_part*/, CUP$stack[CUP$top-0].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -1409,14 +1409,14 @@ class CUP$actions {
           case 14: // parser_code_part ::= PARSER CODE CODE_STRING SEMI 
             {
               Object RESULT = null;
-		int user_codeleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-1)).left;
-		int user_coderight = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-1)).right;
-		String user_code = (String)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-1)).value;
+		int user_codeleft = CUP$stack[CUP$top-1].left;
+		int user_coderight = CUP$stack[CUP$top-1].right;
+		String user_code = (String)CUP$stack[CUP$top-1].value;
 		
 	  /* save the user included code string */
 	  emit.parser_code = user_code;
 	
-              CUP$result = new java_cup.runtime.Symbol(6/*parser_code_part*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-3)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(6/*parser_code_part*/, CUP$stack[CUP$top-3].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -1425,7 +1425,7 @@ class CUP$actions {
             {
               Object RESULT = null;
 
-              CUP$result = new java_cup.runtime.Symbol(5/*action_code_part*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(5/*action_code_part*/, CUP$stack[CUP$top-0].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -1433,14 +1433,14 @@ class CUP$actions {
           case 12: // action_code_part ::= ACTION CODE CODE_STRING SEMI 
             {
               Object RESULT = null;
-		int user_codeleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-1)).left;
-		int user_coderight = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-1)).right;
-		String user_code = (String)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-1)).value;
+		int user_codeleft = CUP$stack[CUP$top-1].left;
+		int user_coderight = CUP$stack[CUP$top-1].right;
+		String user_code = (String)CUP$stack[CUP$top-1].value;
 		
 	  /* save the user included code string */
 	  emit.action_code = user_code;
 	
-              CUP$result = new java_cup.runtime.Symbol(5/*action_code_part*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-3)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(5/*action_code_part*/, CUP$stack[CUP$top-3].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -1449,7 +1449,7 @@ class CUP$actions {
             {
               Object RESULT = null;
 
-              CUP$result = new java_cup.runtime.Symbol(4/*code_part*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-1)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(4/*code_part*/, CUP$stack[CUP$top-1].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -1458,7 +1458,7 @@ class CUP$actions {
             {
               Object RESULT = null;
 
-              CUP$result = new java_cup.runtime.Symbol(11/*import_spec*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-3)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(11/*import_spec*/, CUP$stack[CUP$top-3].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -1473,7 +1473,7 @@ class CUP$actions {
 	  /* reset the accumulated multipart name */
 	  multipart_name = new String();
 	
-              CUP$result = new java_cup.runtime.Symbol(41/*NT$2*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(41/*NT$2*/, CUP$stack[CUP$top-0].right, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -1482,7 +1482,7 @@ class CUP$actions {
             {
               Object RESULT = null;
 
-              CUP$result = new java_cup.runtime.Symbol(3/*import_list*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(3/*import_list*/, CUP$stack[CUP$top-0].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -1491,7 +1491,7 @@ class CUP$actions {
             {
               Object RESULT = null;
 
-              CUP$result = new java_cup.runtime.Symbol(3/*import_list*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-1)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(3/*import_list*/, CUP$stack[CUP$top-1].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -1500,7 +1500,7 @@ class CUP$actions {
             {
               Object RESULT = null;
 
-              CUP$result = new java_cup.runtime.Symbol(2/*package_spec*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(2/*package_spec*/, CUP$stack[CUP$top-0].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -1509,7 +1509,7 @@ class CUP$actions {
             {
               Object RESULT = null;
 
-              CUP$result = new java_cup.runtime.Symbol(2/*package_spec*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-3)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(2/*package_spec*/, CUP$stack[CUP$top-3].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -1524,7 +1524,7 @@ class CUP$actions {
 	  /* reset the accumulated multipart name */
 	  multipart_name = new String();
 	
-              CUP$result = new java_cup.runtime.Symbol(40/*NT$1*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(40/*NT$1*/, CUP$stack[CUP$top-0].right, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -1533,7 +1533,7 @@ class CUP$actions {
             {
               Object RESULT = null;
 
-              CUP$result = new java_cup.runtime.Symbol(1/*spec*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-4)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(1/*spec*/, CUP$stack[CUP$top-4].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -1542,7 +1542,7 @@ class CUP$actions {
             {
               Object RESULT = null;
 
-              CUP$result = new java_cup.runtime.Symbol(1/*spec*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-9)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(1/*spec*/, CUP$stack[CUP$top-9].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -1557,7 +1557,7 @@ class CUP$actions {
           /* declare start non terminal */
           non_terms.put("$START", non_terminal.START_nt);
 	
-              CUP$result = new java_cup.runtime.Symbol(39/*NT$0*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(39/*NT$0*/, CUP$stack[CUP$top-0].right, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -1565,11 +1565,11 @@ class CUP$actions {
           case 0: // $START ::= spec EOF 
             {
               Object RESULT = null;
-		int start_valleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-1)).left;
-		int start_valright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-1)).right;
-		Object start_val = (Object)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-1)).value;
+		int start_valleft = CUP$stack[CUP$top-1].left;
+		int start_valright = CUP$stack[CUP$top-1].right;
+		Object start_val = (Object)CUP$stack[CUP$top-1].value;
 		RESULT = start_val;
-              CUP$result = new java_cup.runtime.Symbol(0/*$START*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-1)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(0/*$START*/, CUP$stack[CUP$top-1].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           /* ACCEPT */
           CUP$parser.done_parsing();
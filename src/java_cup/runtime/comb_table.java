@@ -0,0 +1,159 @@
+
+package java_cup.runtime;
+
+/** This class holds a parse table (the action table or the reduce-goto
+ *  table) compressed by row displacement, so that any entry can be fetched
+ *  in constant time, rather than by searching its row as get_action() and
+ *  get_reduce() in lr_parser do with the sparse tables.<p>
+ *
+ *  Each state's row is laid over one shared vector, starting at an offset
+ *  (base[state]) chosen so that the row's explicit entries land on slots
+ *  not used by any other row.  For each slot, check[] records the state
+ *  that owns it and next[] the entry.  An entry that is not explicit in
+ *  its row (its slot is owned by another state, or is past the end of the
+ *  vector) is the row's default, kept in deflt[].<p>
+ *
+ *  The tables are built by pack() from the sparse form that CUP generates
+ *  for every parser: one row per state of (symbol index, entry) pairs,
+ *  ending with a (-1, default) pair.  CUP generates packed tables too when
+ *  given the -dense option.
+ *
+ * @see java_cup.runtime.lr_parser#get_action
+ * @see java_cup.runtime.lr_parser#get_reduce
+ */
+public class comb_table {
+
+  /*-----------------------------------------------------------*/
+  /*--- Constructor(s) ----------------------------------------*/
+  /*-----------------------------------------------------------*/
+
+  /** Constructor for tables already packed (as generated by CUP). */
+  public comb_table(int[] b, short[] c, short[] n, short[] d)
+    {
+      base  = b;
+      check = c;
+      next  = n;
+      deflt = d;
+    }
+
+  /*-----------------------------------------------------------*/
+  /*--- (Access to) Instance Variables ------------------------*/
+  /*-----------------------------------------------------------*/
+
+  /** Offset of each state's row in the shared vector. */
+  public final int[] base;
+
+  /** State owning each slot of the shared vector (-1 if none). */
+  public final short[] check;
+
+  /** Entry held in each slot of the shared vector. */
+  public final short[] next;
+
+  /** Default entry of each state's row. */
+  public final short[] deflt;
+
+  /*-----------------------------------------------------------*/
+  /*--- General Methods ---------------------------------------*/
+  /*-----------------------------------------------------------*/
+
+  /** Fetch an entry.
+   *
+   * @param state the state (row) of the entry.
+   * @param sym   the symbol index (column) of the entry.
+   */
+  public final short get(int state, int sym)
+    {
+      int slot = base[state] + sym;
+      if (slot < check.length && check[slot] == state)
+	return next[slot];
+      return deflt[state];
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Pack a sparse table.  Rows are placed largest first, each at the
+   *  lowest offset where all of its explicit entries fit (a "first fit"
+   *  packing).  A null row has no explicit entries and a default of -1.
+   *
+   * @param rows the sparse table, one row of (index, entry) pairs per state.
+   */
+  public static comb_table pack(short[][] rows)
+    {
+      int states = rows.length;
+      int[] b = new int[states];
+      short[] d = new short[states];
+
+      /* order the states by the number of explicit entries, largest first
+	 (and by state number among equals), by sorting keys that hold the
+	 negated count in their high half and the state in their low half */
+      long[] order = new long[states];
+      for (int i = 0; i < states; i++)
+	order[i] = ((long)-entries(rows[i]) << 32) | i;
+      java.util.Arrays.sort(order);
+
+      short[] c = new short[64];
+      short[] n = new short[64];
+      java.util.Arrays.fill(c, (short)-1);
+      int used = 0;	/* length of the vector in use */
+
+      for (int k = 0; k < states; k++)
+	{
+	  int state = (int)order[k];
+	  short[] row = rows[state];
+	  int count = entries(row);
+	  d[state] = (row == null) ? (short)-1 : row[2*count+1];
+
+	  /* find the lowest offset at which every entry lands on a free slot */
+	  int offset = 0;
+	  for (;; offset++)
+	    {
+	      int i;
+	      for (i = 0; i < count; i++)
+		{
+		  int slot = offset + row[2*i];
+		  if (slot < c.length && c[slot] != -1) break;
+		}
+	      if (i == count) break;
+	    }
+
+	  /* lay the row down there */
+	  b[state] = offset;
+	  for (int i = 0; i < count; i++)
+	    {
+	      int slot = offset + row[2*i];
+	      if (slot >= c.length)
+		{
+		  int len = Math.max(2*c.length, slot+1);
+		  short[] c2 = new short[len], n2 = new short[len];
+		  System.arraycopy(c, 0, c2, 0, c.length);
+		  System.arraycopy(n, 0, n2, 0, n.length);
+		  java.util.Arrays.fill(c2, c.length, len, (short)-1);
+		  c = c2;
+		  n = n2;
+		}
+	      c[slot] = (short)state;
+	      n[slot] = row[2*i+1];
+	      if (slot >= used) used = slot+1;
+	    }
+	}
+
+      /* trim the vector to the part in use */
+      short[] c3 = new short[used], n3 = new short[used];
+      System.arraycopy(c, 0, c3, 0, used);
+      System.arraycopy(n, 0, n3, 0, used);
+      return new comb_table(b, c3, n3, d);
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Number of explicit (non default) entries in a sparse row. */
+  protected static int entries(short[] row)
+    {
+      if (row == null) return 0;
+      int i = 0;
+      while (row[2*i] != -1) i++;
+      return i;
+    }
+
+  /*-----------------------------------------------------------*/
+}
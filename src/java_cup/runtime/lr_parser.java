@@ -1,7 +1,6 @@
 				    
 package java_cup.runtime;
 
-import java.util.Stack;
 
 /** This class implements a skeleton table driven LR parser.  In general,
  *  LR parsers are a form of bottom up shift-reduce parsers.  Shift-reduce
@@ -69,7 +68,8 @@ import java.util.Stack;
  *  <dt> void init_actions()
  *  <dd> Code to initialize a special object that encapsulates user supplied
  *       actions (this object is used by do_action() to actually carry out the 
- *       actions).
+ *       actions).  It is called on the first parse only, so that a parser
+ *       reused for many inputs (see reset()) makes the object only once.
  *  <dt> Symbol scan()
  *  <dd> Used to get the next input Symbol from the scanner.
  *  </dl>
@@ -83,6 +83,9 @@ import java.util.Stack;
  *       must be parsed without error in order to consider a recovery to 
  *       be valid.  This defaults to 3.  Values less than 2 are not 
  *       recommended.
+ *  <dt> comb_table action_comb_table() and comb_table reduce_comb_table()
+ *  <dd> Provide the parse tables packed for constant time lookup.  These 
+ *       default to null, meaning the sparse tables are searched instead.
  *  <dt> void report_error(String message, Object info)
  *  <dd> This method is called to report an error.  The default implementation
  *       simply prints a message to System.err and where the error occurred.
@@ -137,6 +140,131 @@ public abstract class lr_parser {
    */
   protected int error_sync_size() {return _error_sync_size; }
 
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** The first four bytes of a table resource: "CUPT". */
+  public final static int TABLE_MAGIC = 0x43555054;
+
+  /** The version of the table resource format read by load_tables(). */
+  public final static int TABLE_VERSION = 1;
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Read the parse tables of a generated parser from the binary resource
+   *  CUP writes with the -binary option, rather than having them built by
+   *  array initializers.  The class initializer of a parser with big
+   *  tables is a large method that runs once, in the interpreter, and a
+   *  big enough grammar makes it larger than a method may be; reading the
+   *  tables from a resource keeps it small.  (Looking up the resource 
+   *  costs a few milliseconds in a JVM that has not looked one up before, 
+   *  so for a small grammar the initializers start up as quickly.)<p>
+   *
+   *  The resource is read whole into a direct ByteBuffer, positioned
+   *  after its header, from which the generated class initializer then
+   *  reads each table in turn with read_table() and read_comb_table().
+   *  The format (all numbers big endian) is: the int TABLE_MAGIC; the
+   *  short TABLE_VERSION; a short of flags (1 if packed tables follow the
+   *  sparse ones); the production, action and reduce-goto tables, each
+   *  written as by read_table(); and, if flagged, the packed action and
+   *  reduce-goto tables, each written as by read_comb_table().
+   *
+   * @param owner the parser class, which the resource is found next to.
+   * @param name  the name of the resource (the parser class name with
+   *              ".tables" added).
+   */
+  protected static java.nio.ByteBuffer load_tables(Class<?> owner, String name)
+    {
+      java.io.InputStream in = owner.getResourceAsStream(name);
+      if (in == null)
+	throw new Error("Parse table resource " + name + " not found");
+
+      try {
+	  /* read it all, growing the array as needed */
+	  byte[] bytes = new byte[Math.max(in.available(), 1024)];
+	  int len = 0, n;
+	  while ((n = in.read(bytes, len, bytes.length - len)) >= 0)
+	    {
+	      len += n;
+	      if (len == bytes.length)
+		{
+		  byte[] bigger = new byte[2*bytes.length];
+		  System.arraycopy(bytes, 0, bigger, 0, len);
+		  bytes = bigger;
+		}
+	    }
+	  java.nio.ByteBuffer buf = java.nio.ByteBuffer.allocateDirect(len);
+	  buf.put(bytes, 0, len).flip();
+
+	  /* check the header */
+	  if (buf.remaining() < 8 || buf.getInt() != TABLE_MAGIC)
+	    throw new Error(name + " is not a parse table resource");
+	  if (buf.getShort() != TABLE_VERSION)
+	    throw new Error(name + " has a parse table format this " +
+			    "runtime does not read");
+	  buf.getShort();	/* flags: the parser was generated knowing them */
+	  return buf;
+	}
+      catch (java.io.IOException e)
+	{
+	  throw new Error("Unable to read parse table resource " + name, e);
+	}
+      finally
+	{
+	  try { in.close(); } catch (java.io.IOException e) { }
+	}
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Read a sparse table from a table resource (see load_tables()): an
+   *  int count of rows and an int count of the shorts that follow, then 
+   *  each row as a short count of entries followed by the entries.  The 
+   *  shorts are fetched from the buffer all at once, which (in a class 
+   *  initializer, run by the interpreter) is much faster than row by row.
+   *
+   * @param buf the resource, positioned at the table.
+   */
+  protected static short[][] read_table(java.nio.ByteBuffer buf)
+    {
+      short[][] rows = new short[buf.getInt()][];
+      short[] all = new short[buf.getInt()];
+      buf.asShortBuffer().get(all);
+      buf.position(buf.position() + 2*all.length);
+
+      for (int i = 0, at = 0; i < rows.length; i++)
+	{
+	  rows[i] = new short[all[at++] & 0xffff];
+	  System.arraycopy(all, at, rows[i], 0, rows[i].length);
+	  at += rows[i].length;
+	}
+      return rows;
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Read a packed table from a table resource (see load_tables()): an
+   *  int count of states, and the int base of each; an int count of slots,
+   *  and the short check and short next entry of each slot; then the short
+   *  default of each state.
+   *
+   * @param buf the resource, positioned at the table.
+   */
+  protected static comb_table read_comb_table(java.nio.ByteBuffer buf)
+    {
+      int[] base = new int[buf.getInt()];
+      buf.asIntBuffer().get(base);
+      buf.position(buf.position() + 4*base.length);
+
+      short[] check = new short[buf.getInt()];
+      short[] next  = new short[check.length];
+      short[] deflt = new short[base.length];
+      java.nio.ShortBuffer shorts = buf.asShortBuffer();
+      shorts.get(check).get(next).get(deflt);
+      buf.position(buf.position() + 2*shorts.position());
+
+      return new comb_table(base, check, next, deflt);
+    }
+
   /*-----------------------------------------------------------*/
   /*--- (Access to) Instance Variables ------------------------*/
   /*-----------------------------------------------------------*/
@@ -187,6 +315,25 @@ public abstract class lr_parser {
 
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
 
+  /** The action table packed for constant time lookup, or null if there 
+   *  is none (in which case get_action() searches action_table()).  
+   *  Generated subclasses supply it when CUP is given the -dense option. 
+   *
+   * @see java_cup.runtime.comb_table
+   */
+  public comb_table action_comb_table() {return null;}
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** The reduce-goto table packed for constant time lookup, or null if 
+   *  there is none (in which case get_reduce() searches reduce_table()). 
+   *
+   * @see java_cup.runtime.comb_table
+   */
+  public comb_table reduce_comb_table() {return null;}
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
   /** The index of the start state (supplied by generated subclass). */
   public abstract int start_state();
 
@@ -238,8 +385,17 @@ public abstract class lr_parser {
 
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
 
-  /** The parse stack itself. */
-  protected Stack stack = new Stack();
+  /** The parse stack itself.  It is kept as two parallel arrays, indexed
+   *  from 0 (the bottom) to tos (the top): the parse states, and the 
+   *  Symbols that were shifted (or reduced to) into those states.  Actions 
+   *  read their right hand side Symbols straight out of symbol_stack, and 
+   *  a reduce pops its whole handle by moving tos.  Both arrays grow as
+   *  needed (see push()).
+   */
+  protected int[] state_stack = new int[64];
+
+  /** The Symbols on the parse stack (see state_stack). */
+  protected Symbol[] symbol_stack = new Symbol[64];
 
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
 
@@ -256,6 +412,35 @@ public abstract class lr_parser {
   /** Direct reference to the reduce-goto table. */
   protected short[][] reduce_tab;
 
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Direct reference to the packed action table (or null). */
+  protected comb_table action_comb;
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Direct reference to the packed reduce-goto table (or null). */
+  protected comb_table reduce_comb;
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** The counters this parser is profiled into, or null (the default) if
+   *  it is not being profiled.
+   */
+  protected parse_profile _profile = null;
+
+  /** Profile this parser's parses into the given counters (which must be 
+   *  sized for this parser, and not used by a parser on another thread), 
+   *  or stop profiling it, given null.  The counts go on adding up over 
+   *  parses until the profile is reset.
+   *
+   * @see java_cup.runtime.parse_profile
+   */
+  public void set_profile(parse_profile profile) {_profile = profile;}
+
+  /** The counters this parser is profiled into (or null). */
+  public parse_profile profile() {return _profile;}
+
   /*-----------------------------------------------------------*/
   /*--- General Methods ---------------------------------------*/
   /*-----------------------------------------------------------*/
@@ -266,13 +451,13 @@ public abstract class lr_parser {
    *
    * @param act_num   the internal index of the action to be performed.
    * @param parser    the parser object we are acting for.
-   * @param stack     the parse stack of that object.
+   * @param stack     the Symbols on the parse stack of that object.
    * @param top       the index of the top element of the parse stack.
    */
   public abstract Symbol do_action(
     int       act_num, 
     lr_parser parser, 
-    Stack     stack, 
+    Symbol[]  stack, 
     int       top) 
     throws java.lang.Exception;
 
@@ -291,12 +476,64 @@ public abstract class lr_parser {
 
   /** Initialize the action object.  This is called before the parser does
    *  any parse actions. This is filled in by generated code to create
-   *  an object that encapsulates all action code. 
+   *  an object that encapsulates all action code.  It is called only once
+   *  for each parser, however many parses it does (see initialize()), so 
+   *  any state kept by action code should be set up in user_init().
    */ 
   protected abstract void init_actions() throws java.lang.Exception;
 
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
 
+  /** Has this parser set up its tables and action object? */
+  protected boolean _initialized = false;
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Set up direct references to the tables that drive the parser and 
+   *  initialize the action object.  This is done on the first parse only: 
+   *  later parses by the same parser reuse them.
+   */
+  protected void initialize() throws java.lang.Exception
+    {
+      if (_initialized) return;
+
+      production_tab = production_table();
+      action_tab     = action_table();
+      reduce_tab     = reduce_table();
+      action_comb    = action_comb_table();
+      reduce_comb    = reduce_comb_table();
+
+      /* initialize the action encapsulation object */
+      init_actions();
+
+      _initialized = true;
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Make this parser ready to parse new input.  This forgets everything 
+   *  about the last parse (so that the parser no longer holds on to any of 
+   *  its Symbols), but keeps the tables, the action object and the parse 
+   *  stack arrays, already grown to the size earlier input needed.  A 
+   *  parser can therefore be reused for input after input, for example one
+   *  kept per thread by a program that parses many files.  Subclasses that 
+   *  read from a scanner should extend this to take the next scanner.  
+   *  (parse() itself starts from an empty stack, so reset() is only needed 
+   *  to let go of the last parse's Symbols between parses.)
+   */
+  public void reset()
+    {
+      java.util.Arrays.fill(symbol_stack, null);
+      if (lookahead != null) java.util.Arrays.fill(lookahead, null);
+      tos            = -1;
+      cur_token      = null;
+      lookahead_pos  = 0;
+      _error_count   = 0;
+      _done_parsing  = false;
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
   /** Get the next Symbol from the input (supplied by generated subclass).
    *  Once end of file has been reached, all subsequent calls to scan 
    *  should return an EOF Symbol (which is Symbol number 0).  This method
@@ -385,7 +622,8 @@ public abstract class lr_parser {
    *  Within each row, a list of index, value pairs are given (as sequential
    *  entries in the table), and the list is terminated by a default entry 
    *  (denoted with a Symbol index of -1).  To find the proper entry in a row 
-   *  we do a linear or binary search (depending on the size of the row).  
+   *  we do a linear or binary search (depending on the size of the row), 
+   *  unless the parser has the table packed, when we index it directly.
    *
    * @param state the state index of the action being accessed.
    * @param sym   the Symbol index of the action being accessed.
@@ -394,7 +632,12 @@ public abstract class lr_parser {
     {
       short tag;
       int first, last, probe;
-      short[] row = action_tab[state];
+      short[] row;
+
+      if (action_comb != null)
+	return action_comb.get(state, sym);
+
+      row = action_tab[state];
 
       /* linear search if we are < 10 entries */
       if (row.length < 20)
@@ -440,7 +683,8 @@ public abstract class lr_parser {
    *  Within each row, a list of index, value pairs are given (as sequential
    *  entries in the table), and the list is terminated by a default entry 
    *  (denoted with a Symbol index of -1).  To find the proper entry in a row 
-   *  we do a linear search.  
+   *  we do a linear search, unless the parser has the table packed, when we 
+   *  index it directly.
    *
    * @param state the state index of the entry being accessed.
    * @param sym   the Symbol index of the entry being accessed.
@@ -448,7 +692,12 @@ public abstract class lr_parser {
   protected final short get_reduce(int state, int sym)
     {
       short tag;
-      short[] row = reduce_tab[state];
+      short[] row;
+
+      if (reduce_comb != null)
+	return reduce_comb.get(state, sym);
+
+      row = reduce_tab[state];
 
       /* if we have a null row we go with the default */
       if (row == null)
@@ -470,6 +719,30 @@ public abstract class lr_parser {
 
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
 
+  /** Push a Symbol, and the state it takes the parser to, on the parse
+   *  stack, growing the stack if it is full.
+   *
+   * @param sym   the Symbol being pushed.
+   * @param state the state on top of the stack once it is pushed.
+   */
+  protected final void push(Symbol sym, int state)
+    {
+      if (++tos == state_stack.length)
+	{
+	  int[] states = new int[2*tos];
+	  Symbol[] syms = new Symbol[2*tos];
+	  System.arraycopy(state_stack, 0, states, 0, tos);
+	  System.arraycopy(symbol_stack, 0, syms, 0, tos);
+	  state_stack = states;
+	  symbol_stack = syms;
+	}
+      sym.parse_state = state;
+      state_stack[tos] = state;
+      symbol_stack[tos] = sym;
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
   /** This method provides the main parsing routine.  It returns only when 
    *  done_parsing() has been called (typically because the parser has 
    *  accepted, or a fatal error has been reported).  See the header 
@@ -487,14 +760,12 @@ public abstract class lr_parser {
       /* information about production being reduced with */
       short handle_size, lhs_sym_num;
 
-      /* set up direct reference to tables to drive the parser */
+      /* the profile's counters, if this parser is being profiled */
+      long[] shift_counts  = (_profile == null) ? null : _profile.shifts;
+      long[] reduce_counts = (_profile == null) ? null : _profile.reductions;
 
-      production_tab = production_table();
-      action_tab     = action_table();
-      reduce_tab     = reduce_table();
-
-      /* initialize the action encapsulation object */
-      init_actions();
+      /* set up the tables and action object, on this parser's first parse */
+      initialize();
 
       /* do user initialization */
       user_init();
@@ -503,8 +774,9 @@ public abstract class lr_parser {
       cur_token = scan(); 
 
       /* push dummy Symbol with start state to get us underway */
-      stack.push(new Symbol(0, start_state()));
-      tos = 0;
+      tos = -1;
+      _error_count = 0;
+      push(new Symbol(0, start_state()), start_state());
 
       /* continue until we are told to stop */
       for (_done_parsing = false; !_done_parsing; )
@@ -512,15 +784,14 @@ public abstract class lr_parser {
 	  /* current state is always on the top of the stack */
 
 	  /* look up action out of the current state with the current input */
-	  act = get_action(((Symbol)stack.peek()).parse_state, cur_token.sym);
+	  act = get_action(state_stack[tos], cur_token.sym);
 
 	  /* decode the action -- > 0 encodes shift */
 	  if (act > 0)
 	    {
 	      /* shift to the encoded state by pushing it on the stack */
-	      cur_token.parse_state = act-1;
-	      stack.push(cur_token);
-	      tos++;
+	      if (shift_counts != null) shift_counts[state_stack[tos]]++;
+	      push(cur_token, act-1);
 
 	      /* advance to the next Symbol */
 	      cur_token = scan();
@@ -529,26 +800,21 @@ public abstract class lr_parser {
 	  else if (act < 0)
 	    {
 	      /* perform the action for the reduce */
-	      lhs_sym = do_action((-act)-1, this, stack, tos);
+	      if (reduce_counts != null) reduce_counts[(-act)-1]++;
+	      lhs_sym = do_action((-act)-1, this, symbol_stack, tos);
 
 	      /* look up information about the production */
 	      lhs_sym_num = production_tab[(-act)-1][0];
 	      handle_size = production_tab[(-act)-1][1];
 
 	      /* pop the handle off the stack */
-	      for (int i = 0; i < handle_size; i++)
-		{
-		  stack.pop();
-		  tos--;
-		}
+	      tos -= handle_size;
 	      
 	      /* look up the state to go to from the one popped back to */
-	      act = get_reduce(((Symbol)stack.peek()).parse_state, lhs_sym_num);
+	      act = get_reduce(state_stack[tos], lhs_sym_num);
 
 	      /* shift to that state */
-	      lhs_sym.parse_state = act;
-	      stack.push(lhs_sym);
-	      tos++;
+	      push(lhs_sym, act);
 	    }
 	  /* finally if the entry is zero, we have an error */
 	  else if (act == 0)
@@ -556,8 +822,10 @@ public abstract class lr_parser {
 	      /* call user syntax error reporting routine */
 	      syntax_error(cur_token);
 
-	      /* try to error recover */
-	      if (!error_recovery(false))
+	      /* try to error recover, unless this parse has already recovered 
+		 from as many errors as it may */
+	      if (_error_count++ >= error_recovery_limit() || 
+		  !error_recovery(false))
 		{
 		  /* if that fails give up with a fatal syntax error */
 		  unrecovered_syntax_error(cur_token);
@@ -565,7 +833,7 @@ public abstract class lr_parser {
 		  /* just in case that wasn't fatal enough, end parse */
 		  done_parsing();
 		} else {
-		  lhs_sym = (Symbol)stack.peek();
+		  lhs_sym = symbol_stack[tos];
 		}
 	    }
 	}
@@ -589,19 +857,19 @@ public abstract class lr_parser {
   /** Dump the parse stack for debugging purposes. */
   public void dump_stack()
     {
-      if (stack == null)
+      if (tos < 0)
 	{
-	  debug_message("# Stack dump requested, but stack is null");
+	  debug_message("# Stack dump requested, but stack is empty");
 	  return;
 	}
 
       debug_message("============ Parse Stack Dump ============");
 
       /* dump the stack */
-      for (int i=0; i<stack.size(); i++)
+      for (int i=0; i<=tos; i++)
 	{
-	  debug_message("Symbol: " + ((Symbol)stack.elementAt(i)).sym +
-			" State: " + ((Symbol)stack.elementAt(i)).parse_state);
+	  debug_message("Symbol: " + symbol_stack[i].sym +
+			" State: " + state_stack[i]);
 	}
       debug_message("==========================================");
     }
@@ -651,15 +919,14 @@ public abstract class lr_parser {
       /* information about production being reduced with */
       short handle_size, lhs_sym_num;
 
-      /* set up direct reference to tables to drive the parser */
-      production_tab = production_table();
-      action_tab     = action_table();
-      reduce_tab     = reduce_table();
+      /* the profile's counters, if this parser is being profiled */
+      long[] shift_counts  = (_profile == null) ? null : _profile.shifts;
+      long[] reduce_counts = (_profile == null) ? null : _profile.reductions;
 
       debug_message("# Initializing parser");
 
-      /* initialize the action encapsulation object */
-      init_actions();
+      /* set up the tables and action object, on this parser's first parse */
+      initialize();
 
       /* do user initialization */
       user_init();
@@ -670,8 +937,9 @@ public abstract class lr_parser {
       debug_message("# Current Symbol is #" + cur_token.sym);
 
       /* push dummy Symbol with start state to get us underway */
-      stack.push(new Symbol(0, start_state()));
-      tos = 0;
+      tos = -1;
+      _error_count = 0;
+      push(new Symbol(0, start_state()), start_state());
 
       /* continue until we are told to stop */
       for (_done_parsing = false; !_done_parsing; )
@@ -679,16 +947,15 @@ public abstract class lr_parser {
 	  /* current state is always on the top of the stack */
 
 	  /* look up action out of the current state with the current input */
-	  act = get_action(((Symbol)stack.peek()).parse_state, cur_token.sym);
+	  act = get_action(state_stack[tos], cur_token.sym);
 
 	  /* decode the action -- > 0 encodes shift */
 	  if (act > 0)
 	    {
 	      /* shift to the encoded state by pushing it on the stack */
-	      cur_token.parse_state = act-1;
+	      if (shift_counts != null) shift_counts[state_stack[tos]]++;
+	      push(cur_token, act-1);
 	      debug_shift(cur_token);
-	      stack.push(cur_token);
-	      tos++;
 
 	      /* advance to the next Symbol */
 	      cur_token = scan();
@@ -698,7 +965,8 @@ public abstract class lr_parser {
 	  else if (act < 0)
 	    {
 	      /* perform the action for the reduce */
-	      lhs_sym = do_action((-act)-1, this, stack, tos);
+	      if (reduce_counts != null) reduce_counts[(-act)-1]++;
+	      lhs_sym = do_action((-act)-1, this, symbol_stack, tos);
 
 	      /* look up information about the production */
 	      lhs_sym_num = production_tab[(-act)-1][0];
@@ -707,19 +975,13 @@ public abstract class lr_parser {
 	      debug_reduce((-act)-1, lhs_sym_num, handle_size);
 
 	      /* pop the handle off the stack */
-	      for (int i = 0; i < handle_size; i++)
-		{
-		  stack.pop();
-		  tos--;
-		}
+	      tos -= handle_size;
 	      
 	      /* look up the state to go to from the one popped back to */
-	      act = get_reduce(((Symbol)stack.peek()).parse_state, lhs_sym_num);
+	      act = get_reduce(state_stack[tos], lhs_sym_num);
 
 	      /* shift to that state */
-	      lhs_sym.parse_state = act;
-	      stack.push(lhs_sym);
-	      tos++;
+	      push(lhs_sym, act);
 
 	      debug_message("# Goto state #" + act);
 	    }
@@ -729,8 +991,10 @@ public abstract class lr_parser {
 	      /* call user syntax error reporting routine */
 	      syntax_error(cur_token);
 
-	      /* try to error recover */
-	      if (!error_recovery(true))
+	      /* try to error recover, unless this parse has already recovered 
+		 from as many errors as it may */
+	      if (_error_count++ >= error_recovery_limit() || 
+		  !error_recovery(true))
 		{
 		  /* if that fails give up with a fatal syntax error */
 		  unrecovered_syntax_error(cur_token);
@@ -738,7 +1002,7 @@ public abstract class lr_parser {
 		  /* just in case that wasn't fatal enough, end parse */
 		  done_parsing();
 		} else {
-		  lhs_sym = (Symbol)stack.peek();
+		  lhs_sym = symbol_stack[tos];
 		}
 	    }
 	}
@@ -749,6 +1013,30 @@ public abstract class lr_parser {
   /* Error recovery code */
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
 
+  /** The most syntax errors one parse will recover from.  At the next one 
+   *  the parse gives up (by calling unrecovered_syntax_error()), just as it 
+   *  does when recovery fails.  Each recovery consumes input, so a limit 
+   *  bounds the time a parse of noisy input can spend in error recovery, 
+   *  while still finding (and reporting through syntax_error()) many errors 
+   *  rather than one.  The default sets no limit; a parser that should stop 
+   *  at its first error, whatever error productions its grammar has, can 
+   *  return 0.
+   */
+  public int error_recovery_limit() {return Integer.MAX_VALUE;}
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Number of syntax errors found so far in this parse. */
+  protected int _error_count = 0;
+
+  /** Number of syntax errors found in this parse (so far, or in all, once
+   *  parse() has returned): a parse that recovered from its errors returns 
+   *  normally, so this tells whether the input had any. 
+   */
+  public int error_count() {return _error_count;}
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
   /** Attempt to recover from a syntax error.  This returns false if recovery 
    *  fails, true if it succeeds.  Recovery happens in 4 steps.  First we
    *  pop the parse stack down to a point at which we have a shift out
@@ -775,6 +1063,7 @@ public abstract class lr_parser {
     throws java.lang.Exception
     {
       if (debug) debug_message("# Attempting error recovery");
+      if (_profile != null) _profile.recoveries++;
 
       /* first pop the stack back into a state that can shift on error and 
 	 do that shift (if that fails, we fail) */
@@ -817,6 +1106,7 @@ public abstract class lr_parser {
       parse_lookahead(debug);
 
       /* we have success */
+      if (_profile != null) _profile.recovered++;
       return true;
     }
 
@@ -828,7 +1118,7 @@ public abstract class lr_parser {
   protected boolean shift_under_error()
     {
       /* is there a shift under error Symbol */
-      return get_action(((Symbol)stack.peek()).parse_state, error_sym()) > 0;
+      return get_action(state_stack[tos], error_sym()) > 0;
     }
 
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
@@ -848,8 +1138,8 @@ public abstract class lr_parser {
       if (debug) debug_message("# Finding recovery state on stack");
 
       /* Remember the right-position of the top symbol on the stack */
-      int right_pos = ((Symbol)stack.peek()).right;
-      int left_pos  = ((Symbol)stack.peek()).left;
+      int right_pos = symbol_stack[tos].right;
+      int left_pos  = symbol_stack[tos].left;
 
       /* pop down until we can shift under error Symbol */
       while (!shift_under_error())
@@ -857,12 +1147,11 @@ public abstract class lr_parser {
 	  /* pop the stack */
 	  if (debug) 
 	    debug_message("# Pop stack by one, state was # " +
-	                  ((Symbol)stack.peek()).parse_state);
-          left_pos = ((Symbol)stack.pop()).left;	
-	  tos--;
+	                  state_stack[tos]);
+          left_pos = symbol_stack[tos--].left;	
 
 	  /* if we have hit bottom, we fail */
-	  if (stack.empty()) 
+	  if (tos < 0) 
 	    {
 	      if (debug) debug_message("# No recovery state found on stack");
 	      return false;
@@ -870,19 +1159,17 @@ public abstract class lr_parser {
 	}
 
       /* state on top of the stack can shift under error, find the shift */
-      act = get_action(((Symbol)stack.peek()).parse_state, error_sym());
+      act = get_action(state_stack[tos], error_sym());
       if (debug) 
 	{
 	  debug_message("# Recover state found (#" + 
-			((Symbol)stack.peek()).parse_state + ")");
+			state_stack[tos] + ")");
 	  debug_message("# Shifting on error to state #" + (act-1));
 	}
 
       /* build and shift a special error Symbol */
       error_token = new Symbol(error_sym(), left_pos, right_pos);
-      error_token.parse_state = act-1;
-      stack.push(error_token);
-      tos++;
+      push(error_token, act-1);
 
       return true;
     }
@@ -898,12 +1185,14 @@ public abstract class lr_parser {
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
 
   /** Read from input to establish our buffer of "parse ahead" lookahead 
-   *  Symbols. 
+   *  Symbols.  The buffer is made on the first error recovery, and reused 
+   *  by later ones.
    */
   protected void read_lookahead() throws java.lang.Exception
     {
-      /* create the lookahead array */
-      lookahead = new Symbol[error_sync_size()];
+      /* create the lookahead array, if we do not have it yet */
+      if (lookahead == null || lookahead.length != error_sync_size())
+	lookahead = new Symbol[error_sync_size()];
 
       /* fill in the array */
       for (int i = 0; i < error_sync_size(); i++)
@@ -946,9 +1235,10 @@ public abstract class lr_parser {
       for (int i = 1; i < error_sync_size(); i++)
 	lookahead[i-1] = lookahead[i];
 
-      /* read a new Symbol into the last spot */
-      cur_token = scan();
+      /* the next Symbol of input (read after the buffer was filled) goes into
+	 the last spot, and a new one is read to follow it */
       lookahead[error_sync_size()-1] = cur_token;
+      cur_token = scan();
 
       /* reset our internal position marker */
       lookahead_pos = 0;
@@ -956,6 +1246,11 @@ public abstract class lr_parser {
 
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
 
+  /** The virtual parse stack used by try_parse_ahead(). */
+  protected virtual_parse_stack shadow_stack;
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
   /** Do a simulated parse forward (a "parse ahead") from the current 
    *  stack configuration using stored lookahead input and a virtual parse
    *  stack.  Return true if we make it all the way through the stored 
@@ -971,8 +1266,15 @@ public abstract class lr_parser {
       int act;
       short lhs, rhs_size;
 
-      /* create a virtual stack from the real parse stack */
-      virtual_parse_stack vstack = new virtual_parse_stack(stack);
+      if (_profile != null) _profile.parse_aheads++;
+
+      /* shadow the real parse stack with a virtual stack (the same one for 
+	 every attempt, which allocates nothing once it has grown) */
+      if (shadow_stack == null)
+	shadow_stack = new virtual_parse_stack(state_stack, tos);
+      else
+	shadow_stack.reset(state_stack, tos);
+      virtual_parse_stack vstack = shadow_stack;
 
       /* parse until we fail or get past the lookahead input */
       for (;;)
@@ -1048,6 +1350,10 @@ public abstract class lr_parser {
       /* information about production being reduced with */
       short handle_size, lhs_sym_num;
 
+      /* the profile's counters, if this parser is being profiled */
+      long[] shift_counts  = (_profile == null) ? null : _profile.shifts;
+      long[] reduce_counts = (_profile == null) ? null : _profile.reductions;
+
       /* restart the saved input at the beginning */
       lookahead_pos = 0;
 
@@ -1056,7 +1362,7 @@ public abstract class lr_parser {
 	  debug_message("# Reparsing saved input with actions");
 	  debug_message("# Current Symbol is #" + cur_err_token().sym);
 	  debug_message("# Current state is #" + 
-			((Symbol)stack.peek()).parse_state);
+			state_stack[tos]);
 	}
 
       /* continue until we accept or have read all lookahead input */
@@ -1066,26 +1372,24 @@ public abstract class lr_parser {
 
 	  /* look up action out of the current state with the current input */
 	  act = 
-	    get_action(((Symbol)stack.peek()).parse_state, cur_err_token().sym);
+	    get_action(state_stack[tos], cur_err_token().sym);
 
 	  /* decode the action -- > 0 encodes shift */
 	  if (act > 0)
 	    {
 	      /* shift to the encoded state by pushing it on the stack */
-	      cur_err_token().parse_state = act-1;
+	      if (shift_counts != null) shift_counts[state_stack[tos]]++;
+	      push(cur_err_token(), act-1);
 	      if (debug) debug_shift(cur_err_token());
-	      stack.push(cur_err_token());
-	      tos++;
 
 	      /* advance to the next Symbol, if there is none, we are done */
 	      if (!advance_lookahead()) 
 		{
 		  if (debug) debug_message("# Completed reparse");
 
-		  /* scan next Symbol so we can continue parse */
-		  cur_token = scan();
-
-		  /* go back to normal parser */
+		  /* cur_token already holds the Symbol after the saved input 
+		     (read when the buffer was filled), so we can simply go 
+		     back to the normal parser */
 		  return;
 		}
 	      
@@ -1096,7 +1400,8 @@ public abstract class lr_parser {
 	  else if (act < 0)
 	    {
 	      /* perform the action for the reduce */
-	      lhs_sym = do_action((-act)-1, this, stack, tos);
+	      if (reduce_counts != null) reduce_counts[(-act)-1]++;
+	      lhs_sym = do_action((-act)-1, this, symbol_stack, tos);
 
 	      /* look up information about the production */
 	      lhs_sym_num = production_tab[(-act)-1][0];
@@ -1105,19 +1410,13 @@ public abstract class lr_parser {
 	      if (debug) debug_reduce((-act)-1, lhs_sym_num, handle_size);
 
 	      /* pop the handle off the stack */
-	      for (int i = 0; i < handle_size; i++)
-		{
-		  stack.pop();
-		  tos--;
-		}
+	      tos -= handle_size;
 	      
 	      /* look up the state to go to from the one popped back to */
-	      act = get_reduce(((Symbol)stack.peek()).parse_state, lhs_sym_num);
+	      act = get_reduce(state_stack[tos], lhs_sym_num);
 
 	      /* shift to that state */
-	      lhs_sym.parse_state = act;
-	      stack.push(lhs_sym);
-	      tos++;
+	      push(lhs_sym, act);
 	       
 	      if (debug) debug_message("# Goto state #" + act);
 
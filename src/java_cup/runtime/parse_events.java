@@ -0,0 +1,119 @@
+
+package java_cup.runtime;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** This class commits the counts of a parse_profile as Java Flight
+ *  Recorder events, so that they can be looked at (with JDK Mission
+ *  Control, or "jfr print --events java_cup.*") alongside the rest of a
+ *  recording of the program.  The events are enabled in the default JFR
+ *  settings; a recording started with, for instance,
+ *  -XX:StartFlightRecording=filename=parse.jfr picks them up.<p>
+ *
+ *  It is kept apart from parse_profile so that the JFR classes are only
+ *  loaded by programs that commit events.
+ *
+ * @see java_cup.runtime.parse_profile#commit_events
+ */
+public class parse_events {
+
+  /*-----------------------------------------------------------*/
+  /*--- Events ------------------------------------------------*/
+  /*-----------------------------------------------------------*/
+
+  /** The shifts made in one parse state. */
+  @Name("java_cup.StateShifts")
+  @Label("Parse State Shifts")
+  @Category({"CUP", "Parser Profile"})
+  @Description("Shifts a parser made in one of its states")
+  @StackTrace(false)
+  static class state_shifts extends Event {
+    @Label("Parser") String parser;
+    @Label("State") int state;
+    @Label("Shifts") long shifts;
+  }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** The reductions made by one production. */
+  @Name("java_cup.ProductionReductions")
+  @Label("Production Reductions")
+  @Category({"CUP", "Parser Profile"})
+  @Description("Reductions a parser made by one of its productions")
+  @StackTrace(false)
+  static class production_reductions extends Event {
+    @Label("Parser") String parser;
+    @Label("Production") int production;
+    @Label("Left Hand Side") int lhs;
+    @Label("Right Hand Side Length") int rhs_length;
+    @Label("Reductions") long reductions;
+  }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** The error recovery done by a parser. */
+  @Name("java_cup.ErrorRecovery")
+  @Label("Error Recovery")
+  @Category({"CUP", "Parser Profile"})
+  @Description("Syntax error recovery a parser attempted")
+  @StackTrace(false)
+  static class error_recovery extends Event {
+    @Label("Parser") String parser;
+    @Label("Recoveries") long recoveries;
+    @Label("Recovered") long recovered;
+    @Label("Parse Aheads") long parse_aheads;
+  }
+
+  /*-----------------------------------------------------------*/
+  /*--- General Methods ---------------------------------------*/
+  /*-----------------------------------------------------------*/
+
+  /** Commit the events for a profile (if a recording wants them).
+   *
+   * @param profile     the profile.
+   * @param parser_name the name to record the events under.
+   */
+  public static void commit(parse_profile profile, String parser_name)
+    {
+      for (int i = 0; i < profile.shifts.length; i++)
+	{
+	  if (profile.shifts[i] == 0) continue;
+	  state_shifts e = new state_shifts();
+	  if (!e.isEnabled()) break;
+	  e.parser = parser_name;
+	  e.state  = i;
+	  e.shifts = profile.shifts[i];
+	  e.commit();
+	}
+
+      for (int i = 0; i < profile.reductions.length; i++)
+	{
+	  if (profile.reductions[i] == 0) continue;
+	  production_reductions e = new production_reductions();
+	  if (!e.isEnabled()) break;
+	  e.parser     = parser_name;
+	  e.production = i;
+	  e.lhs        = profile.production_tab[i][0];
+	  e.rhs_length = profile.production_tab[i][1];
+	  e.reductions = profile.reductions[i];
+	  e.commit();
+	}
+
+      error_recovery e = new error_recovery();
+      if (e.isEnabled())
+	{
+	  e.parser       = parser_name;
+	  e.recoveries   = profile.recoveries;
+	  e.recovered    = profile.recovered;
+	  e.parse_aheads = profile.parse_aheads;
+	  e.commit();
+	}
+    }
+
+  /*-----------------------------------------------------------*/
+}
@@ -0,0 +1,191 @@
+
+package java_cup.runtime;
+
+/** This class holds the counters an lr_parser keeps when it is profiled:
+ *  how many shifts it has made in each state, how many times it has
+ *  reduced by each production, and how often it has attempted (and
+ *  managed) error recovery.  They show which parts of a grammar an input
+ *  (or a whole corpus of inputs) exercises hardest.<p>
+ *
+ *  Profiling is off unless a profile is handed to the parser with
+ *  lr_parser.set_profile().  The counters are plain arrays indexed by
+ *  state and production number, and the parser only adds one to an array
+ *  element at each shift or reduce, so a profiled parse runs at very
+ *  nearly full speed.  A profile is not safe to share between threads:
+ *  give each parser its own, and add() them together when done.<p>
+ *
+ *  State numbers are those CUP gives in its -dump_states output, and
+ *  production numbers those of the "case" labels in the action code of
+ *  the generated parser.  The counts can be written out as a report
+ *  (report()) or committed as Java Flight Recorder events
+ *  (commit_events()).
+ *
+ * @see java_cup.runtime.lr_parser#set_profile
+ */
+public class parse_profile {
+
+  /*-----------------------------------------------------------*/
+  /*--- Constructor(s) ----------------------------------------*/
+  /*-----------------------------------------------------------*/
+
+  /** Constructor for a profile with counters sized for a parser's tables.
+   *
+   * @param parser the parser to be profiled (or one of the same class).
+   */
+  public parse_profile(lr_parser parser)
+    {
+      production_tab = parser.production_table();
+      shifts         = new long[parser.action_table().length];
+      reductions     = new long[production_tab.length];
+    }
+
+  /*-----------------------------------------------------------*/
+  /*--- (Access to) Instance Variables ------------------------*/
+  /*-----------------------------------------------------------*/
+
+  /** The production table of the parser, for the left hand side and
+   *  length of each production.
+   */
+  protected final short[][] production_tab;
+
+  /** The number of shifts made in each state. */
+  public final long[] shifts;
+
+  /** The number of reductions by each production. */
+  public final long[] reductions;
+
+  /** The number of error recoveries attempted. */
+  public long recoveries;
+
+  /** The number of error recoveries that succeeded. */
+  public long recovered;
+
+  /** The number of parse aheads tried by error recovery. */
+  public long parse_aheads;
+
+  /*-----------------------------------------------------------*/
+  /*--- General Methods ---------------------------------------*/
+  /*-----------------------------------------------------------*/
+
+  /** Add the counts of another profile (of a parser of the same class) to
+   *  this one.
+   *
+   * @param other the profile to add.
+   */
+  public void add(parse_profile other)
+    {
+      for (int i = 0; i < shifts.length; i++)     shifts[i]     += other.shifts[i];
+      for (int i = 0; i < reductions.length; i++) reductions[i] += other.reductions[i];
+      recoveries   += other.recoveries;
+      recovered    += other.recovered;
+      parse_aheads += other.parse_aheads;
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Set every count back to zero. */
+  public void reset()
+    {
+      java.util.Arrays.fill(shifts, 0);
+      java.util.Arrays.fill(reductions, 0);
+      recoveries = recovered = parse_aheads = 0;
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Write a report of the profile: the totals, then the states with the
+   *  most shifts and the productions with the most reductions, busiest
+   *  first.
+   *
+   * @param out where to write the report.
+   * @param top how many states and productions to list.
+   */
+  public void report(Appendable out, int top) throws java.io.IOException
+    {
+      long total_shifts = 0, total_reductions = 0;
+      int states = 0, prods = 0;
+      for (int i = 0; i < shifts.length; i++)
+	if (shifts[i] > 0) { total_shifts += shifts[i]; states++; }
+      for (int i = 0; i < reductions.length; i++)
+	if (reductions[i] > 0) { total_reductions += reductions[i]; prods++; }
+
+      out.append("Parse profile: " + total_shifts + " shifts in " + states +
+		 " of " + shifts.length + " states, " + total_reductions +
+		 " reductions by " + prods + " of " + reductions.length +
+		 " productions, " + recoveries + " error recoveries (" +
+		 recovered + " succeeded, " + parse_aheads +
+		 " parse aheads)\n");
+
+      out.append("States with the most shifts:\n");
+      int[] order = busiest(shifts, top);
+      for (int k = 0; k < order.length; k++)
+	out.append("  state " + order[k] + ": " + shifts[order[k]] +
+		   " shifts (" + percent(shifts[order[k]], total_shifts) +
+		   ")\n");
+
+      out.append("Productions with the most reductions:\n");
+      order = busiest(reductions, top);
+      for (int k = 0; k < order.length; k++)
+	out.append("  production " + order[k] + " (lhs " +
+		   production_tab[order[k]][0] + ", " +
+		   production_tab[order[k]][1] + 
+		   (production_tab[order[k]][1] == 1 ? " symbol): " : " symbols): ") +
+		   reductions[order[k]] + " reductions (" +
+		   percent(reductions[order[k]], total_reductions) + ")\n");
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** Commit the profile as Java Flight Recorder events: one per state with
+   *  shifts, one per production with reductions, and one for error
+   *  recovery.  They are recorded only while a recording that enables them
+   *  is running (see parse_events), and cost next to nothing otherwise.
+   *
+   * @param parser_name the name to record the events under (usually the
+   *                    parser's class name).
+   */
+  public void commit_events(String parser_name)
+    {
+      parse_events.commit(this, parser_name);
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** The indexes of the (up to) top largest non zero counts, largest first.
+   *
+   * @param counts the counts.
+   * @param top    how many indexes to return at most.
+   */
+  protected static int[] busiest(long[] counts, int top)
+    {
+      int n = 0;
+      int[] order = new int[Math.min(top, counts.length)];
+
+      /* insertion sort into a list of the top counts */
+      for (int i = 0; i < counts.length; i++)
+	{
+	  if (counts[i] == 0) continue;
+	  int at = n;
+	  while (at > 0 && counts[order[at-1]] < counts[i]) at--;
+	  if (at == order.length) continue;
+	  if (n < order.length) n++;
+	  System.arraycopy(order, at, order, at+1, n-1-at);
+	  order[at] = i;
+	}
+
+      int[] result = new int[n];
+      System.arraycopy(order, 0, result, 0, n);
+      return result;
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
+  /** A count as a percentage of a total, to one decimal place. */
+  protected static String percent(long count, long total)
+    {
+      long tenths = (total == 0) ? 0 : (1000*count + total/2) / total;
+      return (tenths/10) + "." + (tenths%10) + "%";
+    }
+
+  /*-----------------------------------------------------------*/
+}
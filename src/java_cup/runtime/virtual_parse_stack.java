@@ -1,8 +1,6 @@
 
 package java_cup.runtime;
 
-import java.util.Stack;
-
 /** This class implements a temporary or "virtual" parse stack that 
  *  replaces the top portion of the actual parse stack (the part that 
  *  has been changed by some set of operations) while maintaining its
@@ -12,7 +10,12 @@ import java.util.Stack;
  *  success or failure of parse ahead is determined the system then 
  *  reverts to the original parse stack (which has not actually been 
  *  modified).  Since parse ahead does not execute actions, only parse
- *  state is maintained on the virtual stack, not full Symbol objects.
+ *  state is maintained on the virtual stack, not full Symbol objects.<p>
+ *
+ *  The virtual portion is kept in an int array that grows as needed, and 
+ *  a parser keeps one virtual stack for all its error recovery attempts 
+ *  (see reset()), so a parse ahead allocates nothing once the array is 
+ *  big enough.
  *
  * @see     java_cup.runtime.lr_parser
  * @version last updated: 7/3/96
@@ -24,21 +27,23 @@ public class virtual_parse_stack {
   /*--- Constructor(s) ----------------------------------------*/
   /*-----------------------------------------------------------*/
 
-  /** Constructor to build a virtual stack out of a real stack. */
-  public virtual_parse_stack(Stack shadowing_stack) throws java.lang.Exception
+  /** Constructor to build a virtual stack out of the states on a real 
+   *  stack.
+   *
+   * @param shadowing_states the states on the real stack, bottom first.
+   * @param shadowing_top    the index of the top state on the real stack.
+   */
+  public virtual_parse_stack(int[] shadowing_states, int shadowing_top) 
+    throws java.lang.Exception
     {
       /* sanity check */
-      if (shadowing_stack == null)
+      if (shadowing_states == null)
 	throw new Exception(
 	  "Internal parser error: attempt to create null virtual stack");
 
       /* set up our internals */
-      real_stack = shadowing_stack;
-      vstack     = new Stack();
-      real_next  = 0;
-
-      /* get one element onto the virtual portion of the stack */
-      get_from_real();
+      vstack = new int[16];
+      reset(shadowing_states, shadowing_top);
     }
 
   /*-----------------------------------------------------------*/
@@ -49,7 +54,10 @@ public class virtual_parse_stack {
    *  the bottom of the virtual portion of the stack, but is always left
    *  unmodified.
    */
-  protected Stack real_stack;
+  protected int[] real_stack;
+
+  /** The index of the top state in real_stack. */
+  protected int real_top;
 
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
 
@@ -61,36 +69,58 @@ public class virtual_parse_stack {
 
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
 
-  /** The virtual top portion of the stack.  This stack contains Integer
-   *  objects with state numbers.  This stack shadows the top portion
+  /** The virtual top portion of the stack.  This holds state numbers, 
+   *  bottom first, from index 0 to vtop.  It shadows the top portion
    *  of the real stack within the area that has been modified (via operations
    *  on the virtual stack).  When this portion of the stack becomes empty we 
    *  transfer elements from the underlying stack onto this stack. 
    */
-  protected Stack vstack;
+  protected int[] vstack;
+
+  /** The index of the top state in vstack (-1 when it is empty). */
+  protected int vtop;
 
   /*-----------------------------------------------------------*/
   /*--- General Methods ---------------------------------------*/
   /*-----------------------------------------------------------*/
 
+  /** Start again, shadowing a (possibly different) real stack, and keeping
+   *  the virtual stack's array for reuse.
+   *
+   * @param shadowing_states the states on the real stack, bottom first.
+   * @param shadowing_top    the index of the top state on the real stack.
+   */
+  public void reset(int[] shadowing_states, int shadowing_top)
+    {
+      real_stack = shadowing_states;
+      real_top   = shadowing_top;
+      real_next  = 0;
+      vtop       = -1;
+
+      /* get one element onto the virtual portion of the stack */
+      get_from_real();
+    }
+
+  /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
+
   /** Transfer an element from the real to the virtual stack.  This assumes 
    *  that the virtual stack is currently empty.  
    */
   protected void get_from_real()
     {
-      Symbol stack_sym;
+      int state;
 
       /* don't transfer if the real stack is empty */
-      if (real_next >= real_stack.size()) return;
+      if (real_next > real_top) return;
 
-      /* get a copy of the first Symbol we have not transfered */
-      stack_sym = (Symbol)real_stack.elementAt(real_stack.size()-1-real_next);
+      /* get the first state we have not transfered */
+      state = real_stack[real_top-real_next];
 
       /* record the transfer */
       real_next++;
 
-      /* put the state number from the Symbol onto the virtual stack */
-      vstack.push(new Integer(stack_sym.parse_state));
+      /* put the state number onto the virtual stack */
+      push(state);
     }
 
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
@@ -100,7 +130,7 @@ public class virtual_parse_stack {
     {
       /* if vstack is empty then we were unable to transfer onto it and 
 	 the whole thing is empty. */
-      return vstack.empty();
+      return vtop < 0;
     }
 
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
@@ -108,11 +138,11 @@ public class virtual_parse_stack {
   /** Return value on the top of the stack (without popping it). */
   public int top() throws java.lang.Exception
     {
-      if (vstack.empty())
+      if (vtop < 0)
 	throw new Exception(
 		  "Internal parser error: top() called on empty virtual stack");
 
-      return ((Integer)vstack.peek()).intValue();
+      return vstack[vtop];
     }
 
   /*. . . . . . . . . . . . . . . . . . . . . . . . . . . . . .*/
@@ -120,15 +150,15 @@ public class virtual_parse_stack {
   /** Pop the stack. */
   public void pop() throws java.lang.Exception
     {
-      if (vstack.empty())
+      if (vtop < 0)
 	throw new Exception(
 		  "Internal parser error: pop from empty virtual stack");
 
       /* pop it */
-      vstack.pop();
+      vtop--;
 
       /* if we are now empty transfer an element (if there is one) */
-      if (vstack.empty())
+      if (vtop < 0)
         get_from_real();
     }
 
@@ -137,7 +167,13 @@ public class virtual_parse_stack {
   /** Push a state number onto the stack. */
   public void push(int state_num)
     {
-      vstack.push(new Integer(state_num));
+      if (++vtop == vstack.length)
+	{
+	  int[] grown = new int[2*vstack.length];
+	  System.arraycopy(vstack, 0, grown, 0, vstack.length);
+	  vstack = grown;
+	}
+      vstack[vtop] = state_num;
     }
 
   /*-----------------------------------------------------------*/
@@ -1,7 +1,7 @@
 
 //----------------------------------------------------
 // The following code was generated by CUP v0.10f
-// Mon Jan 26 16:59:57 CST 1998
+// Sat Oct 17 04:15:34 UTC 2026
 //----------------------------------------------------
 
 package java_cup.simple_calc;
@@ -24,29 +24,29 @@ public class parser extends java_cup.runtime.lr_parser {
 
   /** parse action table */
   protected static final short[][] _action_table = {
-    /*0*/{4,2,9,7,11,3,-1,0},
-    /*1*/{4,2,9,7,11,3,-1,0},
+    /*0*/{4,4,9,5,11,3,-1,0},
+    /*1*/{0,-3,4,-3,9,-3,11,-3,-1,0},
     /*2*/{2,-11,3,-11,4,-11,5,-11,6,-11,7,-11,10,-11,-1,0},
-    /*3*/{0,-3,4,-3,9,-3,11,-3,-1,0},
-    /*4*/{2,-4,3,12,4,10,5,14,6,13,7,9,-1,0},
-    /*5*/{0,21,4,2,9,7,11,3,-1,0},
-    /*6*/{4,2,9,7,11,3,-1,0},
-    /*7*/{3,12,4,10,5,14,6,13,7,9,10,11,-1,0},
-    /*8*/{4,2,9,7,11,3,-1,0},
-    /*9*/{4,2,9,7,11,3,-1,0},
-    /*10*/{2,-13,3,-13,4,-13,5,-13,6,-13,7,-13,10,-13,-1,0},
-    /*11*/{4,2,9,7,11,3,-1,0},
-    /*12*/{4,2,9,7,11,3,-1,0},
-    /*13*/{4,2,9,7,11,3,-1,0},
-    /*14*/{2,-8,3,-8,4,-8,5,-8,6,-8,7,-8,10,-8,-1,0},
-    /*15*/{2,-9,3,-9,4,-9,5,-9,6,-9,7,-9,10,-9,-1,0},
-    /*16*/{2,-6,3,-6,4,-6,5,14,6,13,7,9,10,-6,-1,0},
-    /*17*/{2,-7,3,-7,4,-7,5,14,6,13,7,9,10,-7,-1,0},
+    /*3*/{4,4,9,5,11,3,-1,0},
+    /*4*/{4,4,9,5,11,3,-1,0},
+    /*5*/{0,21,4,4,9,5,11,3,-1,0},
+    /*6*/{2,-4,3,10,4,11,5,13,6,12,7,8,-1,0},
+    /*7*/{4,4,9,5,11,3,-1,0},
+    /*8*/{2,18,-1,0},
+    /*9*/{4,4,9,5,11,3,-1,0},
+    /*10*/{4,4,9,5,11,3,-1,0},
+    /*11*/{4,4,9,5,11,3,-1,0},
+    /*12*/{4,4,9,5,11,3,-1,0},
+    /*13*/{2,-8,3,-8,4,-8,5,-8,6,-8,7,-8,10,-8,-1,0},
+    /*14*/{2,-9,3,-9,4,-9,5,-9,6,-9,7,-9,10,-9,-1,0},
+    /*15*/{2,-7,3,-7,4,-7,5,13,6,12,7,8,10,-7,-1,0},
+    /*16*/{2,-6,3,-6,4,-6,5,13,6,12,7,8,10,-6,-1,0},
+    /*17*/{0,-5,4,-5,9,-5,11,-5,-1,0},
     /*18*/{2,-10,3,-10,4,-10,5,-10,6,-10,7,-10,10,-10,-1,0},
     /*19*/{0,-1,4,-1,9,-1,11,-1,-1,0},
     /*20*/{0,-2,-1,0},
-    /*21*/{2,23,-1,0},
-    /*22*/{0,-5,4,-5,9,-5,11,-5,-1,0},
+    /*21*/{3,10,4,11,5,13,6,12,7,8,10,23,-1,0},
+    /*22*/{2,-13,3,-13,4,-13,5,-13,6,-13,7,-13,10,-13,-1,0},
     /*23*/{2,-12,3,-12,4,-12,5,-12,6,-12,7,-12,10,-12,-1,0},
   };
 
@@ -55,20 +55,20 @@ public class parser extends java_cup.runtime.lr_parser {
 
   /** reduce_goto table */
   protected static final short[][] _reduce_table = {
-    /*0*/{1,5,2,3,3,4,-1,-1},
-    /*1*/{3,23,-1,-1},
+    /*0*/{1,5,2,1,3,6,-1,-1},
+    /*1*/{-1,-1},
     /*2*/{-1,-1},
-    /*3*/{-1,-1},
-    /*4*/{4,21,-1,-1},
-    /*5*/{2,19,3,4,-1,-1},
-    /*6*/{3,7,-1,-1},
-    /*7*/{-1,-1},
-    /*8*/{3,18,-1,-1},
-    /*9*/{3,17,-1,-1},
-    /*10*/{-1,-1},
-    /*11*/{3,16,-1,-1},
-    /*12*/{3,15,-1,-1},
-    /*13*/{3,14,-1,-1},
+    /*3*/{3,23,-1,-1},
+    /*4*/{3,21,-1,-1},
+    /*5*/{2,19,3,6,-1,-1},
+    /*6*/{4,8,-1,-1},
+    /*7*/{3,18,-1,-1},
+    /*8*/{-1,-1},
+    /*9*/{3,16,-1,-1},
+    /*10*/{3,15,-1,-1},
+    /*11*/{3,14,-1,-1},
+    /*12*/{3,13,-1,-1},
+    /*13*/{-1,-1},
     /*14*/{-1,-1},
     /*15*/{-1,-1},
     /*16*/{-1,-1},
@@ -85,19 +85,19 @@ public class parser extends java_cup.runtime.lr_parser {
   public short[][] reduce_table() {return _reduce_table;}
 
   /** instance of action encapsulation class */
-  protected CUP$actions action_obj;
+  protected CUP$parser$actions action_obj;
 
   /** action encapsulation object initializer */
   protected void init_actions()
     {
-      action_obj = new CUP$actions();
+      action_obj = new CUP$parser$actions();
     }
 
   /** invoke a user supplied parse action */
   public java_cup.runtime.Symbol do_action(
     int                        act_num,
     java_cup.runtime.lr_parser parser,
-    java.util.Stack            stack,
+    java_cup.runtime.Symbol[]  stack,
     int                        top)
     throws java.lang.Exception
   {
@@ -132,16 +132,16 @@ public class parser extends java_cup.runtime.lr_parser {
 }
 
 /** Cup generated class to encapsulate user supplied action code.*/
-class CUP$actions {
+class CUP$parser$actions {
 
   /** Constructor */
-  CUP$actions() { }
+  CUP$parser$actions() { }
 
   /** Method with the actual generated action code. */
   public final java_cup.runtime.Symbol CUP$do_action(
     int                        CUP$act_num,
     java_cup.runtime.lr_parser CUP$parser,
-    java.util.Stack            CUP$stack,
+    java_cup.runtime.Symbol[]  CUP$stack,
     int                        CUP$top)
     throws java.lang.Exception
     {
@@ -155,11 +155,11 @@ class CUP$actions {
           case 12: // expr ::= LPAREN expr RPAREN 
             {
               Integer RESULT = null;
-		int eleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-1)).left;
-		int eright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-1)).right;
-		Integer e = (Integer)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-1)).value;
+		int eleft = CUP$stack[CUP$top-1].left;
+		int eright = CUP$stack[CUP$top-1].right;
+		Integer e = (Integer)CUP$stack[CUP$top-1].value;
 		 RESULT = e; 
-              CUP$result = new java_cup.runtime.Symbol(3/*expr*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(3/*expr*/, CUP$stack[CUP$top-2].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -167,11 +167,11 @@ class CUP$actions {
           case 11: // expr ::= MINUS expr 
             {
               Integer RESULT = null;
-		int eleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left;
-		int eright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right;
-		Integer e = (Integer)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-0)).value;
+		int eleft = CUP$stack[CUP$top-0].left;
+		int eright = CUP$stack[CUP$top-0].right;
+		Integer e = (Integer)CUP$stack[CUP$top-0].value;
 		 RESULT = new Integer(0 - e.intValue()); 
-              CUP$result = new java_cup.runtime.Symbol(3/*expr*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-1)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(3/*expr*/, CUP$stack[CUP$top-1].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -179,11 +179,11 @@ class CUP$actions {
           case 10: // expr ::= NUMBER 
             {
               Integer RESULT = null;
-		int nleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left;
-		int nright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right;
-		Integer n = (Integer)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-0)).value;
+		int nleft = CUP$stack[CUP$top-0].left;
+		int nright = CUP$stack[CUP$top-0].right;
+		Integer n = (Integer)CUP$stack[CUP$top-0].value;
 		 RESULT = n; 
-              CUP$result = new java_cup.runtime.Symbol(3/*expr*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(3/*expr*/, CUP$stack[CUP$top-0].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -191,14 +191,14 @@ class CUP$actions {
           case 9: // expr ::= expr MOD expr 
             {
               Integer RESULT = null;
-		int e1left = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).left;
-		int e1right = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).right;
-		Integer e1 = (Integer)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-2)).value;
-		int e2left = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left;
-		int e2right = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right;
-		Integer e2 = (Integer)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-0)).value;
+		int e1left = CUP$stack[CUP$top-2].left;
+		int e1right = CUP$stack[CUP$top-2].right;
+		Integer e1 = (Integer)CUP$stack[CUP$top-2].value;
+		int e2left = CUP$stack[CUP$top-0].left;
+		int e2right = CUP$stack[CUP$top-0].right;
+		Integer e2 = (Integer)CUP$stack[CUP$top-0].value;
 		 RESULT = new Integer(e1.intValue() % e2.intValue()); 
-              CUP$result = new java_cup.runtime.Symbol(3/*expr*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(3/*expr*/, CUP$stack[CUP$top-2].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -206,14 +206,14 @@ class CUP$actions {
           case 8: // expr ::= expr DIVIDE expr 
             {
               Integer RESULT = null;
-		int e1left = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).left;
-		int e1right = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).right;
-		Integer e1 = (Integer)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-2)).value;
-		int e2left = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left;
-		int e2right = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right;
-		Integer e2 = (Integer)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-0)).value;
+		int e1left = CUP$stack[CUP$top-2].left;
+		int e1right = CUP$stack[CUP$top-2].right;
+		Integer e1 = (Integer)CUP$stack[CUP$top-2].value;
+		int e2left = CUP$stack[CUP$top-0].left;
+		int e2right = CUP$stack[CUP$top-0].right;
+		Integer e2 = (Integer)CUP$stack[CUP$top-0].value;
 		 RESULT = new Integer(e1.intValue() / e2.intValue()); 
-              CUP$result = new java_cup.runtime.Symbol(3/*expr*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(3/*expr*/, CUP$stack[CUP$top-2].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -221,14 +221,14 @@ class CUP$actions {
           case 7: // expr ::= expr TIMES expr 
             {
               Integer RESULT = null;
-		int e1left = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).left;
-		int e1right = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).right;
-		Integer e1 = (Integer)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-2)).value;
-		int e2left = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left;
-		int e2right = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right;
-		Integer e2 = (Integer)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-0)).value;
+		int e1left = CUP$stack[CUP$top-2].left;
+		int e1right = CUP$stack[CUP$top-2].right;
+		Integer e1 = (Integer)CUP$stack[CUP$top-2].value;
+		int e2left = CUP$stack[CUP$top-0].left;
+		int e2right = CUP$stack[CUP$top-0].right;
+		Integer e2 = (Integer)CUP$stack[CUP$top-0].value;
 		 RESULT = new Integer(e1.intValue() * e2.intValue()); 
-              CUP$result = new java_cup.runtime.Symbol(3/*expr*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(3/*expr*/, CUP$stack[CUP$top-2].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -236,14 +236,14 @@ class CUP$actions {
           case 6: // expr ::= expr MINUS expr 
             {
               Integer RESULT = null;
-		int e1left = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).left;
-		int e1right = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).right;
-		Integer e1 = (Integer)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-2)).value;
-		int e2left = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left;
-		int e2right = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right;
-		Integer e2 = (Integer)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-0)).value;
+		int e1left = CUP$stack[CUP$top-2].left;
+		int e1right = CUP$stack[CUP$top-2].right;
+		Integer e1 = (Integer)CUP$stack[CUP$top-2].value;
+		int e2left = CUP$stack[CUP$top-0].left;
+		int e2right = CUP$stack[CUP$top-0].right;
+		Integer e2 = (Integer)CUP$stack[CUP$top-0].value;
 		 RESULT = new Integer(e1.intValue() - e2.intValue()); 
-              CUP$result = new java_cup.runtime.Symbol(3/*expr*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(3/*expr*/, CUP$stack[CUP$top-2].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -251,14 +251,14 @@ class CUP$actions {
           case 5: // expr ::= expr PLUS expr 
             {
               Integer RESULT = null;
-		int e1left = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).left;
-		int e1right = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).right;
-		Integer e1 = (Integer)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-2)).value;
-		int e2left = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left;
-		int e2right = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right;
-		Integer e2 = (Integer)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-0)).value;
+		int e1left = CUP$stack[CUP$top-2].left;
+		int e1right = CUP$stack[CUP$top-2].right;
+		Integer e1 = (Integer)CUP$stack[CUP$top-2].value;
+		int e2left = CUP$stack[CUP$top-0].left;
+		int e2right = CUP$stack[CUP$top-0].right;
+		Integer e2 = (Integer)CUP$stack[CUP$top-0].value;
 		 RESULT = new Integer(e1.intValue() + e2.intValue()); 
-              CUP$result = new java_cup.runtime.Symbol(3/*expr*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(3/*expr*/, CUP$stack[CUP$top-2].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -266,11 +266,11 @@ class CUP$actions {
           case 4: // expr_part ::= expr NT$0 SEMI 
             {
               Object RESULT = null;
-		int eleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).left;
-		int eright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).right;
-		Integer e = (Integer)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-2)).value;
+		int eleft = CUP$stack[CUP$top-2].left;
+		int eright = CUP$stack[CUP$top-2].right;
+		Integer e = (Integer)CUP$stack[CUP$top-2].value;
 
-              CUP$result = new java_cup.runtime.Symbol(2/*expr_part*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(2/*expr_part*/, CUP$stack[CUP$top-2].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -278,11 +278,11 @@ class CUP$actions {
           case 3: // NT$0 ::= 
             {
               Object RESULT = null;
-		int eleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left;
-		int eright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right;
-		Integer e = (Integer)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-0)).value;
+		int eleft = CUP$stack[CUP$top-0].left;
+		int eright = CUP$stack[CUP$top-0].right;
+		Integer e = (Integer)CUP$stack[CUP$top-0].value;
  System.out.println("= " + e); 
-              CUP$result = new java_cup.runtime.Symbol(4/*NT$0*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(4/*NT$0*/, CUP$stack[CUP$top-0].right, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -291,7 +291,7 @@ class CUP$actions {
             {
               Object RESULT = null;
 
-              CUP$result = new java_cup.runtime.Symbol(1/*expr_list*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(1/*expr_list*/, CUP$stack[CUP$top-0].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -300,7 +300,7 @@ class CUP$actions {
             {
               Object RESULT = null;
 
-              CUP$result = new java_cup.runtime.Symbol(0/*$START*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-1)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(0/*$START*/, CUP$stack[CUP$top-1].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           /* ACCEPT */
           CUP$parser.done_parsing();
@@ -311,7 +311,7 @@ class CUP$actions {
             {
               Object RESULT = null;
 
-              CUP$result = new java_cup.runtime.Symbol(1/*expr_list*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-1)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(1/*expr_list*/, CUP$stack[CUP$top-1].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
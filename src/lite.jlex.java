@@ -13,8 +13,9 @@ class CSXIntLitToken extends CSXToken {
 }
 class CSXIdentifierToken extends CSXToken {
 	String identifierText;
-	CSXIdentifierToken(String text,int line,int col){
-		super(line,col);identifierText=text;};
+	int nameId; // id of identifierText in the scanner's NameTable
+	CSXIdentifierToken(String text,int id,int line,int col){
+		super(line,col);identifierText=text;nameId=id;};
 }
 class CSXCharLitToken extends CSXToken {
 	char charValue;
@@ -31,16 +32,17 @@ class CSXStringLitToken extends CSXToken {
 }
 // This class is used to track line and column numbers
 // Feel free to change to extend it
+// Each Yylex has its own Pos, so several files can be scanned at once.
 class Pos {
-	static int  linenum = 1; /* maintain this as line number current
+	int  linenum = 1; /* maintain this as line number current
                                  token was scanned on */
-	static int  colnum = 1; /* maintain this as column number current
+	int  colnum = 1; /* maintain this as column number current
                                  token began at */
-	static int  line = 1; /* maintain this as line number after
+	int  line = 1; /* maintain this as line number after
 					scanning current token  */
-	static int  col = 1; /* maintain this as column number after
+	int  col = 1; /* maintain this as column number after
 					scanning current token  */
-	static void setpos() { // set starting position for current token
+	void setpos() { // set starting position for current token
 		linenum = line;
 		colnum = col;
 	}
@@ -56,6 +58,89 @@ class Yylex {
 	private final int YY_END = 2;
 	private final int YY_NO_ANCHOR = 4;
 	private final char YYEOF = '\uFFFF';
+
+NameTable names = new NameTable();
+Pos pos = new Pos(); // position of the current token in this scanner's input
+int lexicalErrors = 0; // number of lexical errors reported in this input
+Diagnostics diagnostics = new Diagnostics(); // where lexical errors are recorded
+// Start scanning a new input from its beginning, so one Yylex can be reused
+// for many files. Names interned so far are kept.
+void yyreset(java.io.Reader reader) {
+	if (null == reader) {
+		throw (new Error("Error: Bad input stream initializer."));
+	}
+	yy_reader = new java.io.BufferedReader(reader);
+	yy_buffer_read = 0;
+	yy_buffer_index = 0;
+	yy_buffer_start = 0;
+	yy_buffer_end = 0;
+	yy_lexical_state = YYINITIAL;
+	yy_eof_done = false;
+	pos = new Pos();
+	lexicalErrors = 0;
+}
+// When packed is set, tokens are appended to it as they are scanned and
+// yylex() returns null for them, so scanning allocates no objects at all.
+// Otherwise yylex() returns a Symbol for each token, with its line and
+// column in left and right and a CSXToken as its value.
+TokenStream packed = null;
+// Return (or pack) the token of the given kind just scanned at pos
+Symbol token(int kind) {
+	return token(kind, pos.linenum, pos.colnum);
+}
+Symbol token(int kind, int line, int col) {
+	if (packed != null) {
+		packed.add(kind, line, col, 0);
+		return null;
+	}
+	return new Symbol(kind, line, col, new CSXToken(line, col));
+}
+// Return (or pack) the identifier just scanned; id is its name's id in names
+Symbol identifier(int id) {
+	if (packed != null) {
+		packed.add(sym.IDENTIFIER, pos.linenum, pos.colnum, id);
+		return null;
+	}
+	return new Symbol(sym.IDENTIFIER, pos.linenum, pos.colnum,
+		new CSXIdentifierToken(names.name(id), id, pos.linenum, pos.colnum));
+}
+// Return (or pack) the integer literal just scanned
+Symbol intLiteral(int value) {
+	if (packed != null) {
+		packed.add(sym.INTLIT, pos.linenum, pos.colnum, value);
+		return null;
+	}
+	return new Symbol(sym.INTLIT, pos.linenum, pos.colnum,
+		new CSXIntLitToken(value, pos.linenum, pos.colnum));
+}
+// The text of the current token, as a slice of the scanner's buffer: its
+// yylength() chars start at yytextBuffer()[yytextOffset()]. Reading a token's
+// text this way allocates nothing, unlike yytext(). The slice is only valid
+// until the next call of yylex(), as the buffer is reused.
+char[] yytextBuffer() {
+	return yy_buffer;
+}
+int yytextOffset() {
+	return yy_buffer_start;
+}
+// The value of the current token, which must be all digits, decoded straight
+// from the buffer. A value too big for an int is reported as a lexical error
+// and taken to be Integer.MAX_VALUE.
+int yyintvalue() {
+	int value = 0;
+	int end = yy_buffer_start + yylength();
+	for (int i = yy_buffer_start; i < end; i++) {
+		int digit = yy_buffer[i] - '0';
+		if (value > (Integer.MAX_VALUE - digit) / 10) {
+			lexicalErrors++;
+			diagnostics.add(Diagnostics.INT_TOO_LARGE, pos.linenum, pos.colnum,
+				yy_buffer, yy_buffer_start, yylength());
+			return Integer.MAX_VALUE;
+		}
+		value = 10*value + digit;
+	}
+	return value;
+}
 	private java.io.BufferedReader yy_reader;
 	private int yy_buffer_index;
 	private int yy_buffer_read;
@@ -330,7 +415,7 @@ class Yylex {
 			else {
 				if (YYEOF == yy_lookahead && true == yy_initial) {
 
-return new Symbol(sym.EOF, new  CSXToken(0,0));
+return token(sym.EOF, pos.line, pos.col);	// just past the last character scanned
 				}
 				else if (YY_NO_STATE == yy_last_accept_state) {
 					throw (new Error("Lexical Error: Unmatched Input."));
@@ -346,164 +431,143 @@ return new Symbol(sym.EOF, new  CSXToken(0,0));
 					}
 					switch (yy_last_accept_state) {
 					case 1:
-						{System.err.println("Lexical error (line " + Pos.linenum +
-				", column " + Pos.colnum +
-				"): " + yytext() + " ignored.");
-			Pos.col +=1;}
+						{pos.setpos(); lexicalErrors++;
+		diagnostics.add(Diagnostics.BAD_CHARACTER, pos.linenum, pos.colnum,
+				yy_buffer, yy_buffer_start, yylength());
+			pos.col +=1;}
 					case -2:
 						break;
 					case 2:
-						{Pos.col +=1;}
+						{pos.col +=1;}
 					case -3:
 						break;
 					case 3:
-						{Pos.line +=1; Pos.col = 1;}
+						{pos.line +=1; pos.col = 1;}
 					case -4:
 						break;
 					case 4:
-						{Pos.setpos(); Pos.col +=1;
-		return new Symbol(sym.LPAREN,
-			new CSXToken(Pos.linenum,Pos.colnum));}
+						{pos.setpos(); pos.col +=1;
+		return token(sym.LPAREN);}
 					case -5:
 						break;
 					case 5:
-						{Pos.setpos(); Pos.col +=1;
-		return new Symbol(sym.RPAREN,
-			new CSXToken(Pos.linenum,Pos.colnum));}
+						{pos.setpos(); pos.col +=1;
+		return token(sym.RPAREN);}
 					case -6:
 						break;
 					case 6:
-						{Pos.setpos(); Pos.col +=1;
-		return new Symbol(sym.PLUS,
-			new CSXToken(Pos.linenum,Pos.colnum));}
+						{pos.setpos(); pos.col +=1;
+		return token(sym.PLUS);}
 					case -7:
 						break;
 					case 7:
-						{Pos.setpos(); Pos.col +=1;
-		return new Symbol(sym.MINUS,
-			new CSXToken(Pos.linenum,Pos.colnum));}
+						{pos.setpos(); pos.col +=1;
+		return token(sym.MINUS);}
 					case -8:
 						break;
 					case 8:
-						{ Pos.setpos(); Pos.col += yytext().length();
-                  int i = new Integer(yytext()).intValue(); 
-		     return new Symbol(sym.INTLIT,
-				new CSXIntLitToken(
-		                    	i,Pos.linenum,Pos.colnum));}
+						{ pos.setpos(); pos.col += yylength();
+                  int i = yyintvalue();
+		  return intLiteral(i);}
 					case -9:
 						break;
 					case 9:
-						{Pos.setpos(); Pos.col +=1;
-		return new Symbol(sym.SEMI,
-			new CSXToken(Pos.linenum,Pos.colnum));}
+						{pos.setpos(); pos.col +=1;
+		return token(sym.SEMI);}
 					case -10:
 						break;
 					case 10:
-						{Pos.setpos(); Pos.col +=1;
-		return new Symbol(sym.ASG,
-			new CSXToken(Pos.linenum,Pos.colnum));}
+						{pos.setpos(); pos.col +=1;
+		return token(sym.ASG);}
 					case -11:
 						break;
 					case 11:
-						{ Pos.setpos(); Pos.col += yytext().length();
-		  return new Symbol(sym.IDENTIFIER,
-				new CSXIdentifierToken(yytext(), 
-		                    	Pos.linenum,Pos.colnum));}
+						{ pos.setpos(); pos.col += yylength();
+		  int id = names.intern(yytextBuffer(), yytextOffset(), yylength());
+		  return identifier(id);}
 					case -12:
 						break;
 					case 12:
-						{Pos.setpos(); Pos.col +=1;
-		return new Symbol(sym.LBRACE,
-			new CSXToken(Pos.linenum,Pos.colnum));}
+						{pos.setpos(); pos.col +=1;
+		return token(sym.LBRACE);}
 					case -13:
 						break;
 					case 13:
-						{Pos.setpos(); Pos.col +=1;
-		return new Symbol(sym.RBRACE,
-			new CSXToken(Pos.linenum,Pos.colnum));}
+						{pos.setpos(); pos.col +=1;
+		return token(sym.RBRACE);}
 					case -14:
 						break;
 					case 14:
-						{Pos.setpos(); Pos.col +=2;
-		return new Symbol(sym.NOTEQ,
-			new CSXToken(Pos.linenum,Pos.colnum));}
+						{pos.setpos(); pos.col +=2;
+		return token(sym.NOTEQ);}
 					case -15:
 						break;
 					case 15:
-						{Pos.setpos(); Pos.col +=2;
-		return new Symbol(sym.EQ,
-			new CSXToken(Pos.linenum,Pos.colnum));}
+						{pos.setpos(); pos.col +=2;
+		return token(sym.EQ);}
 					case -16:
 						break;
 					case 16:
-						{Pos.setpos(); Pos.col +=2;
-		return new Symbol(sym.rw_IF,
-			new CSXToken(Pos.linenum,Pos.colnum));}
+						{pos.setpos(); pos.col +=2;
+		return token(sym.rw_IF);}
 					case -17:
 						break;
 					case 17:
-						{Pos.line +=1; Pos.col = 1;}
+						{pos.line +=1; pos.col = 1;}
 					case -18:
 						break;
 					case 18:
-						{Pos.setpos(); Pos.col +=3;
-		return new Symbol(sym.rw_INT,
-			new CSXToken(Pos.linenum,Pos.colnum));}
+						{pos.setpos(); pos.col +=3;
+		return token(sym.rw_INT);}
 					case -19:
 						break;
 					case 19:
-						{Pos.setpos(); Pos.col +=4;
-		return new Symbol(sym.rw_BOOL,
-			new CSXToken(Pos.linenum,Pos.colnum));}
+						{pos.setpos(); pos.col +=4;
+		return token(sym.rw_BOOL);}
 					case -20:
 						break;
 					case 21:
-						{System.err.println("Lexical error (line " + Pos.linenum +
-				", column " + Pos.colnum +
-				"): " + yytext() + " ignored.");
-			Pos.col +=1;}
+						{pos.setpos(); lexicalErrors++;
+		diagnostics.add(Diagnostics.BAD_CHARACTER, pos.linenum, pos.colnum,
+				yy_buffer, yy_buffer_start, yylength());
+			pos.col +=1;}
 					case -21:
 						break;
 					case 22:
-						{ Pos.setpos(); Pos.col += yytext().length();
-		  return new Symbol(sym.IDENTIFIER,
-				new CSXIdentifierToken(yytext(), 
-		                    	Pos.linenum,Pos.colnum));}
+						{ pos.setpos(); pos.col += yylength();
+		  int id = names.intern(yytextBuffer(), yytextOffset(), yylength());
+		  return identifier(id);}
 					case -22:
 						break;
 					case 23:
-						{System.err.println("Lexical error (line " + Pos.linenum +
-				", column " + Pos.colnum +
-				"): " + yytext() + " ignored.");
-			Pos.col +=1;}
+						{pos.setpos(); lexicalErrors++;
+		diagnostics.add(Diagnostics.BAD_CHARACTER, pos.linenum, pos.colnum,
+				yy_buffer, yy_buffer_start, yylength());
+			pos.col +=1;}
 					case -23:
 						break;
 					case 24:
-						{ Pos.setpos(); Pos.col += yytext().length();
-		  return new Symbol(sym.IDENTIFIER,
-				new CSXIdentifierToken(yytext(), 
-		                    	Pos.linenum,Pos.colnum));}
+						{ pos.setpos(); pos.col += yylength();
+		  int id = names.intern(yytextBuffer(), yytextOffset(), yylength());
+		  return identifier(id);}
 					case -24:
 						break;
 					case 25:
-						{ Pos.setpos(); Pos.col += yytext().length();
-		  return new Symbol(sym.IDENTIFIER,
-				new CSXIdentifierToken(yytext(), 
-		                    	Pos.linenum,Pos.colnum));}
+						{ pos.setpos(); pos.col += yylength();
+		  int id = names.intern(yytextBuffer(), yytextOffset(), yylength());
+		  return identifier(id);}
 					case -25:
 						break;
 					case 26:
-						{ Pos.setpos(); Pos.col += yytext().length();
-		  return new Symbol(sym.IDENTIFIER,
-				new CSXIdentifierToken(yytext(), 
-		                    	Pos.linenum,Pos.colnum));}
+						{ pos.setpos(); pos.col += yylength();
+		  int id = names.intern(yytextBuffer(), yytextOffset(), yylength());
+		  return identifier(id);}
 					case -26:
 						break;
 					case 27:
-						{ Pos.setpos(); Pos.col += yytext().length();
-		  return new Symbol(sym.IDENTIFIER,
-				new CSXIdentifierToken(yytext(), 
-		                    	Pos.linenum,Pos.colnum));}
+						{ pos.setpos(); pos.col += yylength();
+		  int id = names.intern(yytextBuffer(), yytextOffset(), yylength());
+		  return identifier(id);}
 					case -27:
 						break;
 					default:
@@ -1,7 +1,7 @@
 
 //----------------------------------------------------
 // The following code was generated by CUP v0.10f
-// Fri Jul 20 14:27:10 CDT 2012
+// Sat Oct 17 04:21:46 UTC 2026
 //----------------------------------------------------
 
 import java_cup.runtime.*;
@@ -76,6 +76,48 @@ public class parser extends java_cup.runtime.lr_parser {
   /** access to parse action table */
   public short[][] action_table() {return _action_table;}
 
+  /** parse action table, packed for constant time lookup */
+  protected static final java_cup.runtime.comb_table _action_comb = new java_cup.runtime.comb_table(
+    new int[] {
+      14,0,0,1,15,1,3,94,23,19,31,18,0,31,96,30,
+      16,31,41,51,61,152,155,158,104,165,105,113,163,71,173,177,
+      116,124,123,31,86,131,134,181,179,179,142,46,44,77,144},
+    new short[] {
+      2,3,1,5,12,6,12,12,1,1,12,12,12,12,1,1,
+      1,4,16,16,11,16,0,4,4,8,11,11,9,4,4,4,
+      11,11,11,17,10,17,13,15,35,17,17,17,17,18,43,18,
+      44,-1,-1,18,18,18,18,19,-1,19,-1,-1,-1,19,19,19,
+      19,20,-1,20,-1,-1,-1,20,20,20,20,29,-1,29,-1,45,
+      -1,29,29,29,29,45,45,-1,36,-1,36,45,45,45,36,36,
+      7,-1,14,-1,36,-1,7,7,14,14,24,-1,7,26,14,26,
+      24,24,-1,26,26,27,24,27,32,-1,32,27,27,34,32,32,
+      33,-1,33,34,34,37,33,33,38,34,-1,37,37,-1,38,38,
+      42,37,46,-1,38,-1,42,42,46,46,21,21,42,21,46,22,
+      23,23,-1,23,-1,22,22,25,25,28,25,-1,-1,28,28,30,
+      30,-1,30,31,31,41,31,39,39,40,39,41,-1,40,40,-1,
+      -1,41},
+    new short[] {
+      4,-1,-4,-7,-21,13,-21,-21,-4,-4,-21,-21,-21,-21,-4,9,
+      6,-4,13,18,-4,22,2,-4,-4,-6,-4,-4,44,-4,9,6,
+      -4,9,6,-22,40,-22,17,-8,37,-22,-22,-22,-22,-20,-2,-20,
+      46,0,0,-20,-20,-20,-20,-17,0,-17,0,0,0,-17,-17,31,
+      32,-19,0,-19,0,0,0,-19,-19,-19,-19,-18,0,-18,0,-5,
+      0,-18,-18,-18,-18,-5,-5,0,-24,0,39,-5,-5,-5,-24,-24,
+      13,0,13,0,-24,0,12,-9,12,-9,-10,0,11,-14,11,-14,
+      -10,-10,0,-14,-14,-13,-10,-13,-16,0,-16,-13,-13,13,-16,-16,
+      -15,0,-15,12,-9,-12,-15,-15,-23,11,0,-12,-12,0,-23,-23,
+      -11,-12,-3,0,-23,0,-11,-11,-3,-3,13,18,-11,22,-3,25,
+      13,18,0,22,0,24,26,13,18,30,22,0,0,24,26,13,
+      18,0,22,13,18,13,22,13,18,42,22,12,0,24,26,0,
+      0,11},
+    new short[] {
+      0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,
+      0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,
+      0,0,0,0,0,0,0,0,0,0,0,0,0,0,0});
+
+  /** access to packed parse action table */
+  public java_cup.runtime.comb_table action_comb_table() {return _action_comb;}
+
   /** reduce_goto table */
   protected static final short[][] _reduce_table = {
     /*0*/{1,2,-1,-1},
@@ -130,20 +172,44 @@ public class parser extends java_cup.runtime.lr_parser {
   /** access to reduce_goto table */
   public short[][] reduce_table() {return _reduce_table;}
 
+  /** reduce_goto table, packed for constant time lookup */
+  protected static final java_cup.runtime.comb_table _reduce_comb = new java_cup.runtime.comb_table(
+    new int[] {
+      0,11,0,0,16,0,6,24,0,0,0,24,0,0,32,0,
+      0,0,0,0,0,3,0,31,0,34,0,0,0,0,38,41,
+      0,0,48,0,11,0,0,11,0,7,0,0,0,0,0},
+    new short[] {
+      -1,0,-1,-1,16,16,16,21,21,21,41,16,6,41,21,39,
+      39,39,1,1,1,36,39,4,4,4,7,7,-1,-1,7,11,
+      11,11,14,14,23,23,14,25,25,-1,23,30,30,25,31,31,
+      -1,30,34,34,31,-1,34},
+    new short[] {
+      0,2,0,0,22,19,20,28,19,20,42,18,44,13,18,40,
+      19,20,7,4,6,37,18,46,4,6,9,14,0,0,13,34,
+      4,6,15,14,27,20,13,26,20,0,18,33,20,18,32,20,
+      0,18,35,14,18,0,13},
+    new short[] {
+      -1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,
+      -1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,
+      -1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1});
+
+  /** access to packed reduce_goto table */
+  public java_cup.runtime.comb_table reduce_comb_table() {return _reduce_comb;}
+
   /** instance of action encapsulation class */
-  protected CUP$actions action_obj;
+  protected CUP$parser$actions action_obj;
 
   /** action encapsulation object initializer */
   protected void init_actions()
     {
-      action_obj = new CUP$actions();
+      action_obj = new CUP$parser$actions();
     }
 
   /** invoke a user supplied parse action */
   public java_cup.runtime.Symbol do_action(
     int                        act_num,
     java_cup.runtime.lr_parser parser,
-    java.util.Stack            stack,
+    java_cup.runtime.Symbol[]  stack,
     int                        top)
     throws java.lang.Exception
   {
@@ -173,30 +239,64 @@ public class parser extends java_cup.runtime.lr_parser {
   public java_cup.runtime.Symbol scan()
     throws java.lang.Exception
     {
- return Scanner.next_token(); 
+ return tokens.next_token(); 
     }
 
 
+ // Where this parser reads its tokens from: a Scanner, or a TokenStream
+ TokenSource tokens;
+ // Where syntax errors are recorded
+ Diagnostics diagnostics = new Diagnostics();
+
+ // Create a parser that reads tokens from the given source
+ public parser(TokenSource tokens)
+     {
+ 	  this();
+ 	  this.tokens = tokens;
+     }
+
+ // Make this parser ready to parse the tokens from another source, keeping its tables,
+ // action object and stack
+ public void reset(TokenSource tokens)
+     {
+ 	  reset();
+ 	  this.tokens = tokens;
+     }
+
+ // Forget the last parse, and let go of its tokens too
+ public void reset()
+     {
+ 	  super.reset();
+ 	  tokens = null;
+     }
+
  public void syntax_error(Symbol cur_token)
      {
- 	  report_error("CSX syntax error at line "+
-			String.valueOf(((CSXToken)cur_token.value).linenum),  
-			null);
+ 	  diagnostics.add(Diagnostics.SYNTAX_ERROR, ((CSXToken)cur_token.value).linenum, ((CSXToken)cur_token.value).colnum);
+     }
+
+ // Record the failure, and give up as report_fatal_error would, but without its message
+ public void unrecovered_syntax_error(Symbol cur_token)
+     throws java.lang.Exception
+     {
+ 	  diagnostics.add(Diagnostics.UNRECOVERED, cur_token.left, cur_token.right);
+ 	  done_parsing();
+ 	  throw new Exception("Can't recover from previous error(s)");
      }
 
 }
 
 /** Cup generated class to encapsulate user supplied action code.*/
-class CUP$actions {
+class CUP$parser$actions {
 
   /** Constructor */
-  CUP$actions() { }
+  CUP$parser$actions() { }
 
   /** Method with the actual generated action code. */
   public final java_cup.runtime.Symbol CUP$do_action(
     int                        CUP$act_num,
     java_cup.runtime.lr_parser CUP$parser,
-    java.util.Stack            CUP$stack,
+    java_cup.runtime.Symbol[]  CUP$stack,
     int                        CUP$top)
     throws java.lang.Exception
     {
@@ -211,7 +311,7 @@ class CUP$actions {
             {
               Symbol RESULT = null;
 
-              CUP$result = new java_cup.runtime.Symbol(10/*optionalSemi*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(10/*optionalSemi*/, CUP$stack[CUP$top-0].right, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -220,7 +320,7 @@ class CUP$actions {
             {
               Symbol RESULT = null;
 
-              CUP$result = new java_cup.runtime.Symbol(10/*optionalSemi*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(10/*optionalSemi*/, CUP$stack[CUP$top-0].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -228,12 +328,12 @@ class CUP$actions {
           case 21: // intliteral ::= INTLIT 
             {
               intLitNode RESULT = null;
-		int ileft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left;
-		int iright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right;
-		CSXIntLitToken i = (CSXIntLitToken)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-0)).value;
+		int ileft = CUP$stack[CUP$top-0].left;
+		int iright = CUP$stack[CUP$top-0].right;
+		CSXIntLitToken i = (CSXIntLitToken)CUP$stack[CUP$top-0].value;
 		 RESULT = new intLitNode(i.intValue, i.linenum,i.colnum);
          
-              CUP$result = new java_cup.runtime.Symbol(11/*intliteral*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(11/*intliteral*/, CUP$stack[CUP$top-0].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -241,12 +341,12 @@ class CUP$actions {
           case 20: // ident ::= IDENTIFIER 
             {
               identNode RESULT = null;
-		int ileft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left;
-		int iright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right;
-		CSXIdentifierToken i = (CSXIdentifierToken)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-0)).value;
-		 RESULT = new identNode(i.identifierText,
+		int ileft = CUP$stack[CUP$top-0].left;
+		int iright = CUP$stack[CUP$top-0].right;
+		CSXIdentifierToken i = (CSXIdentifierToken)CUP$stack[CUP$top-0].value;
+		 RESULT = new identNode(i.identifierText, i.nameId,
 									   i.linenum,i.colnum); 
-              CUP$result = new java_cup.runtime.Symbol(6/*ident*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(6/*ident*/, CUP$stack[CUP$top-0].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -254,11 +354,11 @@ class CUP$actions {
           case 19: // unit ::= intliteral 
             {
               exprNode RESULT = null;
-		int lleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left;
-		int lright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right;
-		intLitNode l = (intLitNode)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-0)).value;
+		int lleft = CUP$stack[CUP$top-0].left;
+		int lright = CUP$stack[CUP$top-0].right;
+		intLitNode l = (intLitNode)CUP$stack[CUP$top-0].value;
 		 RESULT = l; 
-              CUP$result = new java_cup.runtime.Symbol(5/*unit*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(5/*unit*/, CUP$stack[CUP$top-0].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -266,11 +366,11 @@ class CUP$actions {
           case 18: // unit ::= ident 
             {
               exprNode RESULT = null;
-		int ileft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left;
-		int iright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right;
-		identNode i = (identNode)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-0)).value;
+		int ileft = CUP$stack[CUP$top-0].left;
+		int iright = CUP$stack[CUP$top-0].right;
+		identNode i = (identNode)CUP$stack[CUP$top-0].value;
 		 RESULT = i; 
-              CUP$result = new java_cup.runtime.Symbol(5/*unit*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(5/*unit*/, CUP$stack[CUP$top-0].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -278,11 +378,11 @@ class CUP$actions {
           case 17: // unit ::= LPAREN exp RPAREN 
             {
               exprNode RESULT = null;
-		int eleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-1)).left;
-		int eright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-1)).right;
-		exprNode e = (exprNode)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-1)).value;
+		int eleft = CUP$stack[CUP$top-1].left;
+		int eright = CUP$stack[CUP$top-1].right;
+		exprNode e = (exprNode)CUP$stack[CUP$top-1].value;
 		 RESULT = e; 
-              CUP$result = new java_cup.runtime.Symbol(5/*unit*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(5/*unit*/, CUP$stack[CUP$top-2].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -290,11 +390,11 @@ class CUP$actions {
           case 16: // exp ::= unit 
             {
               exprNode RESULT = null;
-		int uleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left;
-		int uright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right;
-		exprNode u = (exprNode)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-0)).value;
+		int uleft = CUP$stack[CUP$top-0].left;
+		int uright = CUP$stack[CUP$top-0].right;
+		exprNode u = (exprNode)CUP$stack[CUP$top-0].value;
 		 RESULT = u; 
-              CUP$result = new java_cup.runtime.Symbol(4/*exp*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(4/*exp*/, CUP$stack[CUP$top-0].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -302,17 +402,17 @@ class CUP$actions {
           case 15: // exp ::= unit NOTEQ unit 
             {
               exprNode RESULT = null;
-		int leftvalleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).left;
-		int leftvalright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).right;
-		exprNode leftval = (exprNode)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-2)).value;
-		int opleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-1)).left;
-		int opright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-1)).right;
-		CSXToken op = (CSXToken)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-1)).value;
-		int rightvalleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left;
-		int rightvalright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right;
-		exprNode rightval = (exprNode)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-0)).value;
+		int leftvalleft = CUP$stack[CUP$top-2].left;
+		int leftvalright = CUP$stack[CUP$top-2].right;
+		exprNode leftval = (exprNode)CUP$stack[CUP$top-2].value;
+		int opleft = CUP$stack[CUP$top-1].left;
+		int opright = CUP$stack[CUP$top-1].right;
+		CSXToken op = (CSXToken)CUP$stack[CUP$top-1].value;
+		int rightvalleft = CUP$stack[CUP$top-0].left;
+		int rightvalright = CUP$stack[CUP$top-0].right;
+		exprNode rightval = (exprNode)CUP$stack[CUP$top-0].value;
 		 RESULT=new binaryOpNode(leftval,sym.NOTEQ,rightval,op.linenum,op.colnum); 
-              CUP$result = new java_cup.runtime.Symbol(4/*exp*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(4/*exp*/, CUP$stack[CUP$top-2].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -320,17 +420,17 @@ class CUP$actions {
           case 14: // exp ::= unit EQ unit 
             {
               exprNode RESULT = null;
-		int leftvalleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).left;
-		int leftvalright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).right;
-		exprNode leftval = (exprNode)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-2)).value;
-		int opleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-1)).left;
-		int opright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-1)).right;
-		CSXToken op = (CSXToken)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-1)).value;
-		int rightvalleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left;
-		int rightvalright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right;
-		exprNode rightval = (exprNode)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-0)).value;
+		int leftvalleft = CUP$stack[CUP$top-2].left;
+		int leftvalright = CUP$stack[CUP$top-2].right;
+		exprNode leftval = (exprNode)CUP$stack[CUP$top-2].value;
+		int opleft = CUP$stack[CUP$top-1].left;
+		int opright = CUP$stack[CUP$top-1].right;
+		CSXToken op = (CSXToken)CUP$stack[CUP$top-1].value;
+		int rightvalleft = CUP$stack[CUP$top-0].left;
+		int rightvalright = CUP$stack[CUP$top-0].right;
+		exprNode rightval = (exprNode)CUP$stack[CUP$top-0].value;
 		 RESULT=new binaryOpNode(leftval,sym.EQ,rightval,op.linenum,op.colnum); 
-              CUP$result = new java_cup.runtime.Symbol(4/*exp*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(4/*exp*/, CUP$stack[CUP$top-2].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -338,17 +438,17 @@ class CUP$actions {
           case 13: // exp ::= exp MINUS unit 
             {
               exprNode RESULT = null;
-		int leftvalleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).left;
-		int leftvalright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).right;
-		exprNode leftval = (exprNode)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-2)).value;
-		int opleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-1)).left;
-		int opright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-1)).right;
-		CSXToken op = (CSXToken)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-1)).value;
-		int rightvalleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left;
-		int rightvalright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right;
-		exprNode rightval = (exprNode)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-0)).value;
+		int leftvalleft = CUP$stack[CUP$top-2].left;
+		int leftvalright = CUP$stack[CUP$top-2].right;
+		exprNode leftval = (exprNode)CUP$stack[CUP$top-2].value;
+		int opleft = CUP$stack[CUP$top-1].left;
+		int opright = CUP$stack[CUP$top-1].right;
+		CSXToken op = (CSXToken)CUP$stack[CUP$top-1].value;
+		int rightvalleft = CUP$stack[CUP$top-0].left;
+		int rightvalright = CUP$stack[CUP$top-0].right;
+		exprNode rightval = (exprNode)CUP$stack[CUP$top-0].value;
 		 RESULT=new binaryOpNode(leftval,sym.MINUS,rightval,op.linenum,op.colnum); 
-              CUP$result = new java_cup.runtime.Symbol(4/*exp*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(4/*exp*/, CUP$stack[CUP$top-2].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -356,17 +456,17 @@ class CUP$actions {
           case 12: // exp ::= exp PLUS unit 
             {
               exprNode RESULT = null;
-		int leftvalleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).left;
-		int leftvalright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).right;
-		exprNode leftval = (exprNode)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-2)).value;
-		int opleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-1)).left;
-		int opright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-1)).right;
-		CSXToken op = (CSXToken)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-1)).value;
-		int rightvalleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left;
-		int rightvalright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right;
-		exprNode rightval = (exprNode)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-0)).value;
+		int leftvalleft = CUP$stack[CUP$top-2].left;
+		int leftvalright = CUP$stack[CUP$top-2].right;
+		exprNode leftval = (exprNode)CUP$stack[CUP$top-2].value;
+		int opleft = CUP$stack[CUP$top-1].left;
+		int opright = CUP$stack[CUP$top-1].right;
+		CSXToken op = (CSXToken)CUP$stack[CUP$top-1].value;
+		int rightvalleft = CUP$stack[CUP$top-0].left;
+		int rightvalright = CUP$stack[CUP$top-0].right;
+		exprNode rightval = (exprNode)CUP$stack[CUP$top-0].value;
 		 RESULT=new binaryOpNode(leftval,sym.PLUS,rightval,op.linenum,op.colnum); 
-              CUP$result = new java_cup.runtime.Symbol(4/*exp*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(4/*exp*/, CUP$stack[CUP$top-2].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -374,19 +474,19 @@ class CUP$actions {
           case 11: // stmt ::= LBRACE fielddecls stmts RBRACE optionalSemi 
             {
               stmtNode RESULT = null;
-		int lleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-4)).left;
-		int lright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-4)).right;
-		CSXToken l = (CSXToken)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-4)).value;
-		int fleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-3)).left;
-		int fright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-3)).right;
-		fieldDeclsOption f = (fieldDeclsOption)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-3)).value;
-		int sleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).left;
-		int sright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).right;
-		stmtsOption s = (stmtsOption)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-2)).value;
+		int lleft = CUP$stack[CUP$top-4].left;
+		int lright = CUP$stack[CUP$top-4].right;
+		CSXToken l = (CSXToken)CUP$stack[CUP$top-4].value;
+		int fleft = CUP$stack[CUP$top-3].left;
+		int fright = CUP$stack[CUP$top-3].right;
+		fieldDeclsOption f = (fieldDeclsOption)CUP$stack[CUP$top-3].value;
+		int sleft = CUP$stack[CUP$top-2].left;
+		int sright = CUP$stack[CUP$top-2].right;
+		stmtsOption s = (stmtsOption)CUP$stack[CUP$top-2].value;
 		
 	  			 RESULT=new blockNode(f,s, l.linenum, l.colnum);
         	 
-              CUP$result = new java_cup.runtime.Symbol(3/*stmt*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-4)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(3/*stmt*/, CUP$stack[CUP$top-4].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -394,19 +494,19 @@ class CUP$actions {
           case 10: // stmt ::= rw_IF LPAREN exp RPAREN stmt 
             {
               stmtNode RESULT = null;
-		int ileft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-4)).left;
-		int iright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-4)).right;
-		CSXToken i = (CSXToken)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-4)).value;
-		int eleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).left;
-		int eright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).right;
-		exprNode e = (exprNode)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-2)).value;
-		int sleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left;
-		int sright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right;
-		stmtNode s = (stmtNode)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-0)).value;
+		int ileft = CUP$stack[CUP$top-4].left;
+		int iright = CUP$stack[CUP$top-4].right;
+		CSXToken i = (CSXToken)CUP$stack[CUP$top-4].value;
+		int eleft = CUP$stack[CUP$top-2].left;
+		int eright = CUP$stack[CUP$top-2].right;
+		exprNode e = (exprNode)CUP$stack[CUP$top-2].value;
+		int sleft = CUP$stack[CUP$top-0].left;
+		int sright = CUP$stack[CUP$top-0].right;
+		stmtNode s = (stmtNode)CUP$stack[CUP$top-0].value;
 		
 			 RESULT=new ifThenNode(e,s,stmtNode.NULL,
 						i.linenum,i.colnum); 
-              CUP$result = new java_cup.runtime.Symbol(3/*stmt*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-4)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(3/*stmt*/, CUP$stack[CUP$top-4].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -414,16 +514,16 @@ class CUP$actions {
           case 9: // stmt ::= ident ASG exp SEMI 
             {
               stmtNode RESULT = null;
-		int idleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-3)).left;
-		int idright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-3)).right;
-		identNode id = (identNode)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-3)).value;
-		int eleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-1)).left;
-		int eright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-1)).right;
-		exprNode e = (exprNode)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-1)).value;
+		int idleft = CUP$stack[CUP$top-3].left;
+		int idright = CUP$stack[CUP$top-3].right;
+		identNode id = (identNode)CUP$stack[CUP$top-3].value;
+		int eleft = CUP$stack[CUP$top-1].left;
+		int eright = CUP$stack[CUP$top-1].right;
+		exprNode e = (exprNode)CUP$stack[CUP$top-1].value;
 		 RESULT=
 			new asgNode(id,e,id.linenum,id.colnum);
 			 
-              CUP$result = new java_cup.runtime.Symbol(3/*stmt*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-3)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(3/*stmt*/, CUP$stack[CUP$top-3].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -432,7 +532,7 @@ class CUP$actions {
             {
               stmtsOption RESULT = null;
 		 RESULT= stmtsNode.NULL; 
-              CUP$result = new java_cup.runtime.Symbol(2/*stmts*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(2/*stmts*/, CUP$stack[CUP$top-0].right, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -440,16 +540,16 @@ class CUP$actions {
           case 7: // stmts ::= stmt stmts 
             {
               stmtsOption RESULT = null;
-		int s1left = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-1)).left;
-		int s1right = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-1)).right;
-		stmtNode s1 = (stmtNode)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-1)).value;
-		int s2left = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left;
-		int s2right = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right;
-		stmtsOption s2 = (stmtsOption)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-0)).value;
+		int s1left = CUP$stack[CUP$top-1].left;
+		int s1right = CUP$stack[CUP$top-1].right;
+		stmtNode s1 = (stmtNode)CUP$stack[CUP$top-1].value;
+		int s2left = CUP$stack[CUP$top-0].left;
+		int s2right = CUP$stack[CUP$top-0].right;
+		stmtsOption s2 = (stmtsOption)CUP$stack[CUP$top-0].value;
 		 RESULT=
 			new stmtsNode(s1,s2,s1.linenum,s1.colnum);
 			 
-              CUP$result = new java_cup.runtime.Symbol(2/*stmts*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-1)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(2/*stmts*/, CUP$stack[CUP$top-1].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -457,13 +557,13 @@ class CUP$actions {
           case 6: // type ::= rw_BOOL 
             {
               typeNode RESULT = null;
-		int tleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left;
-		int tright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right;
-		CSXToken t = (CSXToken)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-0)).value;
+		int tleft = CUP$stack[CUP$top-0].left;
+		int tright = CUP$stack[CUP$top-0].right;
+		CSXToken t = (CSXToken)CUP$stack[CUP$top-0].value;
 		
 	  				 RESULT=new boolTypeNode(t.linenum, t.colnum);
          		
-              CUP$result = new java_cup.runtime.Symbol(9/*type*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(9/*type*/, CUP$stack[CUP$top-0].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -471,13 +571,13 @@ class CUP$actions {
           case 5: // type ::= rw_INT 
             {
               typeNode RESULT = null;
-		int tleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left;
-		int tright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right;
-		CSXToken t = (CSXToken)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-0)).value;
+		int tleft = CUP$stack[CUP$top-0].left;
+		int tright = CUP$stack[CUP$top-0].right;
+		CSXToken t = (CSXToken)CUP$stack[CUP$top-0].value;
 		
 	  				 RESULT=new intTypeNode(t.linenum, t.colnum);
          		
-              CUP$result = new java_cup.runtime.Symbol(9/*type*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(9/*type*/, CUP$stack[CUP$top-0].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -485,15 +585,15 @@ class CUP$actions {
           case 4: // fielddecl ::= type ident SEMI 
             {
               declNode RESULT = null;
-		int tleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).left;
-		int tright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).right;
-		typeNode t = (typeNode)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-2)).value;
-		int ileft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-1)).left;
-		int iright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-1)).right;
-		identNode i = (identNode)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-1)).value;
+		int tleft = CUP$stack[CUP$top-2].left;
+		int tright = CUP$stack[CUP$top-2].right;
+		typeNode t = (typeNode)CUP$stack[CUP$top-2].value;
+		int ileft = CUP$stack[CUP$top-1].left;
+		int iright = CUP$stack[CUP$top-1].right;
+		identNode i = (identNode)CUP$stack[CUP$top-1].value;
 		 RESULT=
 					new varDeclNode(i,t,exprNode.NULL, t.linenum,t.colnum); 
-              CUP$result = new java_cup.runtime.Symbol(8/*fielddecl*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(8/*fielddecl*/, CUP$stack[CUP$top-2].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -503,7 +603,7 @@ class CUP$actions {
               fieldDeclsOption RESULT = null;
 		 RESULT=
 					fieldDeclsNode.NULL; 
-              CUP$result = new java_cup.runtime.Symbol(7/*fielddecls*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(7/*fielddecls*/, CUP$stack[CUP$top-0].right, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -511,15 +611,15 @@ class CUP$actions {
           case 2: // fielddecls ::= fielddecl fielddecls 
             {
               fieldDeclsOption RESULT = null;
-		int f1left = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-1)).left;
-		int f1right = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-1)).right;
-		declNode f1 = (declNode)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-1)).value;
-		int f2left = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).left;
-		int f2right = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right;
-		fieldDeclsOption f2 = (fieldDeclsOption)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-0)).value;
+		int f1left = CUP$stack[CUP$top-1].left;
+		int f1right = CUP$stack[CUP$top-1].right;
+		declNode f1 = (declNode)CUP$stack[CUP$top-1].value;
+		int f2left = CUP$stack[CUP$top-0].left;
+		int f2right = CUP$stack[CUP$top-0].right;
+		fieldDeclsOption f2 = (fieldDeclsOption)CUP$stack[CUP$top-0].value;
 		 RESULT=
 					new fieldDeclsNode(f1,f2, f1.linenum,f1.colnum); 
-              CUP$result = new java_cup.runtime.Symbol(7/*fielddecls*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-1)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(7/*fielddecls*/, CUP$stack[CUP$top-1].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -527,18 +627,18 @@ class CUP$actions {
           case 1: // prog ::= LBRACE fielddecls stmts RBRACE 
             {
               csxLiteNode RESULT = null;
-		int lleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-3)).left;
-		int lright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-3)).right;
-		CSXToken l = (CSXToken)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-3)).value;
-		int fleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).left;
-		int fright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-2)).right;
-		fieldDeclsOption f = (fieldDeclsOption)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-2)).value;
-		int sleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-1)).left;
-		int sright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-1)).right;
-		stmtsOption s = (stmtsOption)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-1)).value;
+		int lleft = CUP$stack[CUP$top-3].left;
+		int lright = CUP$stack[CUP$top-3].right;
+		CSXToken l = (CSXToken)CUP$stack[CUP$top-3].value;
+		int fleft = CUP$stack[CUP$top-2].left;
+		int fright = CUP$stack[CUP$top-2].right;
+		fieldDeclsOption f = (fieldDeclsOption)CUP$stack[CUP$top-2].value;
+		int sleft = CUP$stack[CUP$top-1].left;
+		int sright = CUP$stack[CUP$top-1].right;
+		stmtsOption s = (stmtsOption)CUP$stack[CUP$top-1].value;
 		 RESULT=
 				new csxLiteNode(f, s, l.linenum, l.colnum); 
-              CUP$result = new java_cup.runtime.Symbol(1/*prog*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-3)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(1/*prog*/, CUP$stack[CUP$top-3].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           return CUP$result;
 
@@ -546,11 +646,11 @@ class CUP$actions {
           case 0: // $START ::= prog EOF 
             {
               Object RESULT = null;
-		int start_valleft = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-1)).left;
-		int start_valright = ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-1)).right;
-		csxLiteNode start_val = (csxLiteNode)((java_cup.runtime.Symbol) CUP$stack.elementAt(CUP$top-1)).value;
+		int start_valleft = CUP$stack[CUP$top-1].left;
+		int start_valright = CUP$stack[CUP$top-1].right;
+		csxLiteNode start_val = (csxLiteNode)CUP$stack[CUP$top-1].value;
 		RESULT = start_val;
-              CUP$result = new java_cup.runtime.Symbol(0/*$START*/, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-1)).left, ((java_cup.runtime.Symbol)CUP$stack.elementAt(CUP$top-0)).right, RESULT);
+              CUP$result = new java_cup.runtime.Symbol(0/*$START*/, CUP$stack[CUP$top-1].left, CUP$stack[CUP$top-0].right, RESULT);
             }
           /* ACCEPT */
           CUP$parser.done_parsing();
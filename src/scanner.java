@@ -1,22 +1,96 @@
-/* This probably doesn't need to be changed */
-
 import java_cup.runtime.*;
 import java.io.*;
-class Scanner {
-	private	static Yylex lex = null;
 
-	public static void init(java.io.FileInputStream yyin){
-		if (lex == null)
-			lex = new Yylex(yyin);
-		else 	System.err.println("Scanner is already initialized.");
+// A Scanner is one lexer context: it owns its input, its position (line and column)
+//  and the table of identifier names seen so far. Nothing is shared between Scanners,
+//  so any number of them can be in use at once, on different threads.
+// A Scanner can be reset to a new input and reused; the names it has seen are kept.
+class Scanner implements TokenSource {
+	private final Yylex lex;
+
+	Scanner(InputStream yyin){
+		lex = new Yylex(yyin);
+	}
+
+	Scanner(Reader yyin){
+		lex = new Yylex(yyin);
 	}
 
-	public static Symbol next_token() throws IOException{
-		if (lex == null) {
-			System.err.println("Scanner is not yet initialized.");
-			System.exit(-1);
-		} else	return lex.yylex();
-		return null;// To appease javac
+	// Scan the named file through a memory mapping of it (see MappedAsciiReader)
+	Scanner(File file) throws IOException {
+		lex = new Yylex(MappedAsciiReader.open(file));
+	}
+
+	// Start scanning yyin from its beginning
+	void reset(InputStream yyin){
+		lex.yyreset(new InputStreamReader(yyin));
+	}
+
+	void reset(Reader yyin){
+		lex.yyreset(yyin);
+	}
+
+	void reset(File file) throws IOException {
+		lex.yyreset(MappedAsciiReader.open(file));
+	}
+
+	// Number the lines of the input from line on, rather than from 1 (used when the
+	//  input is a piece of a larger file)
+	void firstLine(int line){
+		lex.pos.line = lex.pos.linenum = line;
+	}
+
+	// Record lexical errors in diagnostics rather than in this scanner's own Diagnostics
+	void reportErrorsTo(Diagnostics diagnostics){
+		lex.diagnostics = diagnostics;
+	}
+
+	// Where this scanner records lexical errors
+	Diagnostics diagnostics(){
+		return lex.diagnostics;
+	}
+
+	// Number of lexical errors reported since this scanner was created or last reset
+	int lexicalErrors(){
+		return lex.lexicalErrors;
+	}
+
+	// Identifier names interned by this scanner
+	NameTable names(){
+		return lex.names;
+	}
+
+	// Scan the rest of the input into a TokenStream, making no objects for the tokens
+	TokenStream scanAll() throws IOException{
+		TokenStream stream = new TokenStream(lex.names);
+		lex.packed = stream;
+		try {
+			do
+				lex.yylex();
+			while (stream.kind(stream.size()-1) != sym.EOF);
+		} finally {
+			lex.packed = null;
+		}
+		return stream;
+	}
+
+	// Scan up to n more tokens onto the end of into, making no objects for them. Returns
+	//  false once the input is used up, when the last token added is EOF.
+	boolean scan(TokenStream into, int n) throws IOException{
+		lex.packed = into;
+		try {
+			for (int end = into.size() + n; into.size() < end; ){
+				lex.yylex();
+				if (into.kind(into.size()-1) == sym.EOF)
+					return false;
+			}
+		} finally {
+			lex.packed = null;
+		}
+		return true;
+	}
 
+	public Symbol next_token() throws IOException{
+		return lex.yylex();
 	}
 }
@@ -1,7 +1,7 @@
 
 //----------------------------------------------------
 // The following code was generated by CUP v0.10f
-// Fri Jul 20 14:27:10 CDT 2012
+// Sat Oct 17 04:00:56 UTC 2026
 //----------------------------------------------------
 
 /** Cup generated class containing symbol constants. */
@@ -0,0 +1,805 @@
+
+//----------------------------------------------------
+// The following code was generated by CUP v0.10f
+// Sat Oct 17 06:12:28 UTC 2026
+//----------------------------------------------------
+
+import java_cup.runtime.*;
+
+public class xrefParser extends java_cup.runtime.lr_parser {
+
+  /** constructor */
+  public xrefParser() {super();}
+
+  /** production table */
+  protected static final short _production_table[][] = {
+        {0, 2},     {12, 0},     {1, 5},     {8, 2},     {8, 0}, 
+        {13, 0},     {9, 4},     {9, 2},     {3, 1},     {3, 1}, 
+        {4, 2},     {4, 0},     {14, 0},     {5, 5},     {5, 5}, 
+        {15, 0},     {5, 6},     {16, 0},     {5, 4},     {5, 2}, 
+        {6, 3},     {6, 3},     {6, 3},     {6, 3},     {6, 1}, 
+        {7, 3},     {7, 1},     {7, 1},     {2, 1},     {11, 1}, 
+        {10, 1},     {10, 0}  };
+
+  /** access to production table */
+  public short[][] production_table() {return _production_table;}
+
+  /** parse action table */
+  protected static final short[][] _action_table = {
+    /*0*/{8,2,-1,0},
+    /*1*/{1,-2,2,-2,8,-2,9,-2,14,-2,15,-2,16,-2,-1,0},
+    /*2*/{0,4,-1,0},
+    /*3*/{0,-1,-1,0},
+    /*4*/{1,-5,2,-5,8,-5,9,-5,14,-5,15,-5,16,-5,-1,0},
+    /*5*/{1,10,2,-12,8,-12,9,-12,14,-12,15,12,16,9,-1,0},
+    /*6*/{1,-4,2,-4,8,-4,9,-4,14,-4,15,-4,16,-4,-1,0},
+    /*7*/{1,23,2,13,8,18,9,24,14,20,15,12,16,9,-1,0},
+    /*8*/{2,-10,-1,0},
+    /*9*/{4,17,-1,0},
+    /*10*/{2,13,-1,0},
+    /*11*/{2,-9,-1,0},
+    /*12*/{4,-29,6,-29,7,-29,10,-29,11,-29,12,-29,13,-29,-1,0},
+    /*13*/{4,-6,-1,0},
+    /*14*/{4,16,-1,0},
+    /*15*/{1,-7,2,-7,8,-7,9,-7,14,-7,15,-7,16,-7,-1,0},
+    /*16*/{1,-8,2,-8,8,-8,9,-8,14,-8,15,-8,16,-8,-1,0},
+    /*17*/{1,-16,2,-16,8,-16,9,-16,14,-16,15,-16,16,-16,-1,0},
+    /*18*/{1,-11,2,-11,8,-11,9,-11,14,-11,15,-11,16,-11,-1,0},
+    /*19*/{5,48,-1,0},
+    /*20*/{7,-13,-1,0},
+    /*21*/{2,13,-1,0},
+    /*22*/{4,25,-1,0},
+    /*23*/{0,-3,-1,0},
+    /*24*/{1,-20,2,-20,8,-20,9,-20,14,-20,15,-20,16,-20,-1,0},
+    /*25*/{4,-18,-1,0},
+    /*26*/{4,28,-1,0},
+    /*27*/{1,-19,2,-19,8,-19,9,-19,14,-19,15,-19,16,-19,-1,0},
+    /*28*/{7,30,-1,0},
+    /*29*/{2,13,3,31,5,35,-1,0},
+    /*30*/{4,-30,6,-30,10,-30,11,-30,12,-30,13,-30,-1,0},
+    /*31*/{4,-28,6,-28,10,-28,11,-28,12,-28,13,-28,-1,0},
+    /*32*/{4,-25,6,-25,10,-25,11,-25,12,44,13,45,-1,0},
+    /*33*/{4,-27,6,-27,10,-27,11,-27,12,-27,13,-27,-1,0},
+    /*34*/{2,13,3,31,5,35,-1,0},
+    /*35*/{4,38,10,37,11,39,-1,0},
+    /*36*/{2,13,3,31,5,35,-1,0},
+    /*37*/{1,-14,2,-14,8,-14,9,-14,14,-14,15,-14,16,-14,-1,0},
+    /*38*/{2,13,3,31,5,35,-1,0},
+    /*39*/{4,-22,6,-22,10,-22,11,-22,-1,0},
+    /*40*/{4,-21,6,-21,10,-21,11,-21,-1,0},
+    /*41*/{6,43,10,37,11,39,-1,0},
+    /*42*/{4,-26,6,-26,10,-26,11,-26,12,-26,13,-26,-1,0},
+    /*43*/{2,13,3,31,5,35,-1,0},
+    /*44*/{2,13,3,31,5,35,-1,0},
+    /*45*/{4,-24,6,-24,10,-24,11,-24,-1,0},
+    /*46*/{4,-23,6,-23,10,-23,11,-23,-1,0},
+    /*47*/{2,13,3,31,5,35,-1,0},
+    /*48*/{6,50,10,37,11,39,-1,0},
+    /*49*/{1,23,2,13,8,18,14,20,15,12,16,9,-1,0},
+    /*50*/{1,-15,2,-15,8,-15,9,-15,14,-15,15,-15,16,-15,-1,0},
+    /*51*/{1,-5,2,-5,8,-5,9,-5,14,-5,15,-5,16,-5,-1,0},
+    /*52*/{1,10,2,-12,8,-12,9,-12,14,-12,15,12,16,9,-1,0},
+    /*53*/{1,23,2,13,8,18,9,55,14,20,15,12,16,9,-1,0},
+    /*54*/{1,-32,2,-32,4,57,8,-32,9,-32,14,-32,15,-32,16,-32,-1,0},
+    /*55*/{1,-17,2,-17,8,-17,9,-17,14,-17,15,-17,16,-17,-1,0},
+    /*56*/{1,-31,2,-31,8,-31,9,-31,14,-31,15,-31,16,-31,-1,0},
+  };
+
+  /** access to parse action table */
+  public short[][] action_table() {return _action_table;}
+
+  /** parse action table, packed for constant time lookup */
+  protected static final java_cup.runtime.comb_table _action_comb = new java_cup.runtime.comb_table(
+    new int[] {
+      2,4,0,3,20,23,39,42,5,7,15,21,55,22,23,62,
+      71,80,89,25,26,40,41,46,98,45,48,107,53,230,177,187,
+      197,207,259,246,263,116,267,230,238,265,217,275,279,241,249,283,
+      281,223,125,134,143,152,0,161,170},
+    new short[] {
+      2,54,54,3,54,1,1,8,54,54,0,9,1,1,54,54,
+      54,10,1,1,1,4,4,11,5,5,13,14,4,4,19,5,
+      5,20,4,4,4,5,5,5,6,6,21,7,7,22,23,6,
+      6,25,7,7,26,6,6,6,7,7,7,12,28,12,12,15,
+      15,12,12,12,12,-1,15,15,16,16,-1,-1,15,15,15,16,
+      16,17,17,-1,-1,16,16,16,17,17,18,18,-1,-1,17,17,
+      17,18,18,24,24,-1,-1,18,18,18,24,24,27,27,-1,-1,
+      24,24,24,27,27,37,37,-1,-1,27,27,27,37,37,50,50,
+      -1,-1,37,37,37,50,50,51,51,-1,-1,50,50,50,51,51,
+      52,52,-1,-1,51,51,51,52,52,53,53,-1,-1,52,52,52,
+      53,53,55,55,-1,-1,53,53,53,55,55,56,56,-1,-1,55,
+      55,55,56,56,-1,30,-1,30,56,56,56,30,30,30,30,31,
+      -1,31,-1,-1,-1,31,31,31,31,32,-1,32,-1,-1,-1,32,
+      32,32,32,33,-1,33,-1,-1,-1,33,33,33,33,42,-1,42,
+      49,49,-1,42,42,42,42,49,29,29,39,29,39,49,49,49,
+      39,39,40,-1,40,45,-1,45,40,40,35,45,45,46,-1,46,
+      35,35,-1,46,46,34,34,-1,34,36,36,-1,36,38,38,41,
+      38,-1,-1,41,41,43,43,-1,43,44,44,-1,44,47,47,48,
+      47,-1,-1,48,48},
+    new short[] {
+      4,-32,-32,-1,57,-2,-2,-10,-32,-32,2,17,-2,-2,-32,-32,
+      -32,13,-2,-2,-2,-5,-5,-9,10,-12,-6,16,-5,-5,48,-12,
+      -12,-13,-5,-5,-5,-12,12,9,-4,-4,13,23,13,25,-3,-4,
+      -4,-18,18,24,28,-4,-4,-4,20,12,9,-29,30,-29,-29,-7,
+      -7,-29,-29,-29,-29,0,-7,-7,-8,-8,0,0,-7,-7,-7,-8,
+      -8,-16,-16,0,0,-8,-8,-8,-16,-16,-11,-11,0,0,-16,-16,
+      -16,-11,-11,-20,-20,0,0,-11,-11,-11,-20,-20,-19,-19,0,0,
+      -20,-20,-20,-19,-19,-14,-14,0,0,-19,-19,-19,-14,-14,-15,-15,
+      0,0,-14,-14,-14,-15,-15,-5,-5,0,0,-15,-15,-15,-5,-5,
+      10,-12,0,0,-5,-5,-5,-12,-12,23,13,0,0,-12,12,9,
+      18,55,-17,-17,0,0,20,12,9,-17,-17,-31,-31,0,0,-17,
+      -17,-17,-31,-31,0,-30,0,-30,-31,-31,-31,-30,-30,-30,-30,-28,
+      0,-28,0,0,0,-28,-28,-28,-28,-25,0,-25,0,0,0,-25,
+      -25,44,45,-27,0,-27,0,0,0,-27,-27,-27,-27,-26,0,-26,
+      23,13,0,-26,-26,-26,-26,18,13,31,-22,35,-22,20,12,9,
+      -22,-22,-21,0,-21,-24,0,-24,-21,-21,38,-24,-24,-23,0,-23,
+      37,39,0,-23,-23,13,31,0,35,13,31,0,35,13,31,43,
+      35,0,0,37,39,13,31,0,35,13,31,0,35,13,31,50,
+      35,0,0,37,39},
+    new short[] {
+      0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,
+      0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,
+      0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,
+      0,0,0,0,0,0,0,0,0});
+
+  /** access to packed parse action table */
+  public java_cup.runtime.comb_table action_comb_table() {return _action_comb;}
+
+  /** reduce_goto table */
+  protected static final short[][] _reduce_table = {
+    /*0*/{1,2,-1,-1},
+    /*1*/{12,4,-1,-1},
+    /*2*/{-1,-1},
+    /*3*/{-1,-1},
+    /*4*/{8,5,-1,-1},
+    /*5*/{3,10,4,7,9,6,-1,-1},
+    /*6*/{-1,-1},
+    /*7*/{2,20,3,21,5,18,-1,-1},
+    /*8*/{-1,-1},
+    /*9*/{-1,-1},
+    /*10*/{2,13,-1,-1},
+    /*11*/{-1,-1},
+    /*12*/{-1,-1},
+    /*13*/{13,14,-1,-1},
+    /*14*/{-1,-1},
+    /*15*/{-1,-1},
+    /*16*/{-1,-1},
+    /*17*/{15,51,-1,-1},
+    /*18*/{-1,-1},
+    /*19*/{-1,-1},
+    /*20*/{14,28,-1,-1},
+    /*21*/{2,25,-1,-1},
+    /*22*/{-1,-1},
+    /*23*/{-1,-1},
+    /*24*/{-1,-1},
+    /*25*/{16,26,-1,-1},
+    /*26*/{-1,-1},
+    /*27*/{-1,-1},
+    /*28*/{-1,-1},
+    /*29*/{2,33,6,35,7,32,11,31,-1,-1},
+    /*30*/{-1,-1},
+    /*31*/{-1,-1},
+    /*32*/{-1,-1},
+    /*33*/{-1,-1},
+    /*34*/{2,33,6,41,7,32,11,31,-1,-1},
+    /*35*/{-1,-1},
+    /*36*/{2,33,7,40,11,31,-1,-1},
+    /*37*/{-1,-1},
+    /*38*/{2,33,7,39,11,31,-1,-1},
+    /*39*/{-1,-1},
+    /*40*/{-1,-1},
+    /*41*/{-1,-1},
+    /*42*/{-1,-1},
+    /*43*/{2,33,7,46,11,31,-1,-1},
+    /*44*/{2,33,7,45,11,31,-1,-1},
+    /*45*/{-1,-1},
+    /*46*/{-1,-1},
+    /*47*/{2,33,6,48,7,32,11,31,-1,-1},
+    /*48*/{-1,-1},
+    /*49*/{2,20,3,21,5,50,-1,-1},
+    /*50*/{-1,-1},
+    /*51*/{8,52,-1,-1},
+    /*52*/{3,10,4,53,9,6,-1,-1},
+    /*53*/{2,20,3,21,5,18,-1,-1},
+    /*54*/{10,55,-1,-1},
+    /*55*/{-1,-1},
+    /*56*/{-1,-1},
+  };
+
+  /** access to reduce_goto table */
+  public short[][] reduce_table() {return _reduce_table;}
+
+  /** reduce_goto table, packed for constant time lookup */
+  protected static final java_cup.runtime.comb_table _reduce_comb = new java_cup.runtime.comb_table(
+    new int[] {
+      0,0,0,0,10,13,0,18,0,0,1,0,0,15,0,0,
+      0,24,0,0,31,3,0,0,0,32,0,0,0,0,0,0,
+      0,0,2,0,22,0,23,0,0,0,0,24,25,0,0,8,
+      0,35,0,41,38,41,40,0,0},
+    new short[] {
+      -1,0,29,10,34,21,29,29,34,34,47,29,1,34,47,47,
+      5,5,4,47,7,7,5,7,36,38,43,44,13,36,38,43,
+      44,36,38,43,44,49,49,17,49,52,52,53,53,20,53,52,
+      25,51,54},
+    new short[] {
+      0,2,33,13,33,25,35,32,41,32,33,31,4,31,48,32,
+      10,7,5,31,20,21,6,18,33,33,33,33,14,40,39,46,
+      45,31,31,31,31,20,21,51,50,10,53,20,21,28,18,6,
+      26,52,55},
+    new short[] {
+      -1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,
+      -1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,
+      -1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,
+      -1,-1,-1,-1,-1,-1,-1,-1,-1});
+
+  /** access to packed reduce_goto table */
+  public java_cup.runtime.comb_table reduce_comb_table() {return _reduce_comb;}
+
+  /** instance of action encapsulation class */
+  protected CUP$xrefParser$actions action_obj;
+
+  /** action encapsulation object initializer */
+  protected void init_actions()
+    {
+      action_obj = new CUP$xrefParser$actions();
+    }
+
+  /** invoke a user supplied parse action */
+  public java_cup.runtime.Symbol do_action(
+    int                        act_num,
+    java_cup.runtime.lr_parser parser,
+    java_cup.runtime.Symbol[]  stack,
+    int                        top)
+    throws java.lang.Exception
+  {
+    /* call code in generated class */
+    return action_obj.CUP$do_action(act_num, parser, stack, top);
+  }
+
+  /** start state */
+  public int start_state() {return 0;}
+  /** start production */
+  public int start_production() {return 0;}
+
+  /** EOF Symbol index */
+  public int EOF_sym() {return 0;}
+
+  /** error Symbol index */
+  public int error_sym() {return 1;}
+
+
+  /** user initialization */
+  public void user_init() throws java.lang.Exception
+    {
+              
+    }
+
+  /** scan to get the next Symbol */
+  public java_cup.runtime.Symbol scan()
+    throws java.lang.Exception
+    {
+ return tokens.next_token(); 
+    }
+
+
+ // Where this parser reads its tokens from: a Scanner, or a TokenStream
+ TokenSource tokens;
+ // Where syntax errors are recorded
+ Diagnostics diagnostics = new Diagnostics();
+ // Symbol table the cross-references are built in
+ SymbolTable symbols;
+ // Innermost scope open at the current point of the parse
+ ScopeInfo currentScope;
+ // Where on the parse stack the LBRACE of each open scope is, innermost last. Error
+ // recovery can pop a block's LBRACE, abandoning the block; its scope is closed when
+ // this shows the LBRACE is gone (see openScope and closeScope)
+ int[] scopeDepths = new int[16];
+ int openScopes = 0;
+ // Syntax errors to recover from before giving up: with 0, the parse stops at the first
+ int errorLimit = 0;
+
+ // Create a parser that reads tokens from the given source and records what it finds in symbols
+ public xrefParser(TokenSource tokens, SymbolTable symbols)
+     {
+ 	  this();
+ 	  this.tokens = tokens;
+ 	  this.symbols = symbols;
+     }
+
+ // Make this parser ready to parse the tokens from another source into another symbol table,
+ // keeping its tables, action object and stack. (One parser can be kept per thread this way:
+ // see CrossReferenceAnalysis.)
+ public void reset(TokenSource tokens, SymbolTable symbols)
+     {
+ 	  reset();
+ 	  this.tokens = tokens;
+ 	  this.symbols = symbols;
+     }
+
+ // Forget the last parse, and let go of its tokens and symbol table too
+ public void reset()
+     {
+ 	  super.reset();
+ 	  tokens = null;
+ 	  symbols = null;
+ 	  currentScope = null;
+ 	  openScopes = 0;
+     }
+
+ public int error_recovery_limit()
+     {
+ 	  return errorLimit;
+     }
+
+ // A program or block beginning at line, with its LBRACE at depth on the parse stack,
+ // has been entered. Any scope whose LBRACE was at depth or above has been abandoned.
+ void openScope(int line, int depth)
+     {
+ 	  closeScopesAbove(depth-1);
+ 	  currentScope = symbols.scopes.open(line, currentScope);
+ 	  symbols.openScope();
+ 	  if (openScopes == scopeDepths.length)
+ 	  	scopeDepths = java.util.Arrays.copyOf(scopeDepths, 2*openScopes);
+ 	  scopeDepths[openScopes++] = depth;
+     }
+
+ // The program or block with its LBRACE at depth on the parse stack has ended, along with
+ // any abandoned scope inside it
+ void closeScope(int depth)
+     {
+ 	  closeScopesAbove(depth);
+ 	  closeScope();
+     }
+
+ // The innermost program or block has ended
+ void closeScope()
+     {
+ 	  symbols.closeScope();
+ 	  currentScope = symbols.scopes.parentOf(currentScope);
+ 	  openScopes--;
+     }
+
+ private void closeScopesAbove(int depth)
+     {
+ 	  while (openScopes > 0 && scopeDepths[openScopes-1] > depth)
+ 	  	closeScope();
+     }
+
+ // name has been declared with the type (and line) recorded in identifier
+ void declare(identifierInfo identifier, CSXIdentifierToken name)
+     {
+ 	  identifier.identifierName = name.identifierText;
+ 	  identifier.declaredScope = currentScope;
+ 	  symbols.declare(identifier, name.nameId);
+     }
+
+ // name has been used on line line; uses of undeclared names are only noted as unbound
+ // (see SymbolTable.recordUnbound). (The line is passed apart from name, whose own line a
+ // TokenStream doesn't fill in.)
+ void use(CSXIdentifierToken name, int line)
+     {
+ 	  int declId = symbols.lookup(name.nameId);
+ 	  if (declId >= 0)
+ 	  	symbols.recordUse(declId, line);
+ 	  else
+ 	  	symbols.recordUnbound(name.nameId, line);
+     }
+
+ public void syntax_error(Symbol cur_token)
+     {
+ 	  diagnostics.add(Diagnostics.SYNTAX_ERROR, cur_token.left, cur_token.right);
+     }
+
+ // Record the failure, and give up as report_fatal_error would, but without its message
+ public void unrecovered_syntax_error(Symbol cur_token)
+     throws java.lang.Exception
+     {
+ 	  giveUp(cur_token.left, cur_token.right);
+     }
+
+ private void giveUp(int line, int col)
+     throws java.lang.Exception
+     {
+ 	  diagnostics.add(Diagnostics.UNRECOVERED, line, col);
+ 	  done_parsing();
+ 	  throw new Exception("Can't recover from previous error(s)");
+     }
+
+ // A declaration, of the type (and line) recorded in identifier, has been found after a
+ // statement at line and col. It is a syntax error, counted as one, but the name is still
+ // declared in the current scope so the parse can go on there.
+ void misplacedDeclaration(identifierInfo identifier, CSXIdentifierToken name, int line, int col)
+     throws java.lang.Exception
+     {
+ 	  diagnostics.add(Diagnostics.SYNTAX_ERROR, line, col);
+ 	  if (_error_count++ >= error_recovery_limit())
+ 	  	giveUp(line, col);
+ 	  declare(identifier, name);
+     }
+
+}
+
+/** Cup generated class to encapsulate user supplied action code.*/
+class CUP$xrefParser$actions {
+
+  /** Constructor */
+  CUP$xrefParser$actions() { }
+
+  /** Method with the actual generated action code. */
+  public final java_cup.runtime.Symbol CUP$do_action(
+    int                        CUP$act_num,
+    java_cup.runtime.lr_parser CUP$parser,
+    java_cup.runtime.Symbol[]  CUP$stack,
+    int                        CUP$top)
+    throws java.lang.Exception
+    {
+      /* Symbol object for return from actions */
+      java_cup.runtime.Symbol CUP$result;
+
+      /* select the action based on the action number */
+      switch (CUP$act_num)
+        {
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 31: // optionalSemi ::= 
+            {
+              Object RESULT = null;
+
+              CUP$result = new java_cup.runtime.Symbol(10/*optionalSemi*/, CUP$stack[CUP$top-0].right, CUP$stack[CUP$top-0].right, RESULT);
+            }
+          return CUP$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 30: // optionalSemi ::= SEMI 
+            {
+              Object RESULT = null;
+
+              CUP$result = new java_cup.runtime.Symbol(10/*optionalSemi*/, CUP$stack[CUP$top-0].left, CUP$stack[CUP$top-0].right, RESULT);
+            }
+          return CUP$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 29: // intliteral ::= INTLIT 
+            {
+              Object RESULT = null;
+
+              CUP$result = new java_cup.runtime.Symbol(11/*intliteral*/, CUP$stack[CUP$top-0].left, CUP$stack[CUP$top-0].right, RESULT);
+            }
+          return CUP$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 28: // ident ::= IDENTIFIER 
+            {
+              CSXIdentifierToken RESULT = null;
+		int ileft = CUP$stack[CUP$top-0].left;
+		int iright = CUP$stack[CUP$top-0].right;
+		CSXIdentifierToken i = (CSXIdentifierToken)CUP$stack[CUP$top-0].value;
+		 RESULT = i; 
+              CUP$result = new java_cup.runtime.Symbol(2/*ident*/, CUP$stack[CUP$top-0].left, CUP$stack[CUP$top-0].right, RESULT);
+            }
+          return CUP$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 27: // unit ::= intliteral 
+            {
+              Object RESULT = null;
+
+              CUP$result = new java_cup.runtime.Symbol(7/*unit*/, CUP$stack[CUP$top-0].left, CUP$stack[CUP$top-0].right, RESULT);
+            }
+          return CUP$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 26: // unit ::= ident 
+            {
+              Object RESULT = null;
+		int ileft = CUP$stack[CUP$top-0].left;
+		int iright = CUP$stack[CUP$top-0].right;
+		CSXIdentifierToken i = (CSXIdentifierToken)CUP$stack[CUP$top-0].value;
+		 ((xrefParser)CUP$parser).use(i, ileft); 
+              CUP$result = new java_cup.runtime.Symbol(7/*unit*/, CUP$stack[CUP$top-0].left, CUP$stack[CUP$top-0].right, RESULT);
+            }
+          return CUP$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 25: // unit ::= LPAREN exp RPAREN 
+            {
+              Object RESULT = null;
+
+              CUP$result = new java_cup.runtime.Symbol(7/*unit*/, CUP$stack[CUP$top-2].left, CUP$stack[CUP$top-0].right, RESULT);
+            }
+          return CUP$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 24: // exp ::= unit 
+            {
+              Object RESULT = null;
+
+              CUP$result = new java_cup.runtime.Symbol(6/*exp*/, CUP$stack[CUP$top-0].left, CUP$stack[CUP$top-0].right, RESULT);
+            }
+          return CUP$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 23: // exp ::= unit NOTEQ unit 
+            {
+              Object RESULT = null;
+
+              CUP$result = new java_cup.runtime.Symbol(6/*exp*/, CUP$stack[CUP$top-2].left, CUP$stack[CUP$top-0].right, RESULT);
+            }
+          return CUP$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 22: // exp ::= unit EQ unit 
+            {
+              Object RESULT = null;
+
+              CUP$result = new java_cup.runtime.Symbol(6/*exp*/, CUP$stack[CUP$top-2].left, CUP$stack[CUP$top-0].right, RESULT);
+            }
+          return CUP$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 21: // exp ::= exp MINUS unit 
+            {
+              Object RESULT = null;
+
+              CUP$result = new java_cup.runtime.Symbol(6/*exp*/, CUP$stack[CUP$top-2].left, CUP$stack[CUP$top-0].right, RESULT);
+            }
+          return CUP$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 20: // exp ::= exp PLUS unit 
+            {
+              Object RESULT = null;
+
+              CUP$result = new java_cup.runtime.Symbol(6/*exp*/, CUP$stack[CUP$top-2].left, CUP$stack[CUP$top-0].right, RESULT);
+            }
+          return CUP$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 19: // stmt ::= error SEMI 
+            {
+              Object RESULT = null;
+
+              CUP$result = new java_cup.runtime.Symbol(5/*stmt*/, CUP$stack[CUP$top-1].left, CUP$stack[CUP$top-0].right, RESULT);
+            }
+          return CUP$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 18: // stmt ::= type ident NT$4 SEMI 
+            {
+              Object RESULT = null;
+		int tleft = CUP$stack[CUP$top-3].left;
+		int tright = CUP$stack[CUP$top-3].right;
+		identifierInfo t = (identifierInfo)CUP$stack[CUP$top-3].value;
+		int ileft = CUP$stack[CUP$top-2].left;
+		int iright = CUP$stack[CUP$top-2].right;
+		CSXIdentifierToken i = (CSXIdentifierToken)CUP$stack[CUP$top-2].value;
+
+              CUP$result = new java_cup.runtime.Symbol(5/*stmt*/, CUP$stack[CUP$top-3].left, CUP$stack[CUP$top-0].right, RESULT);
+            }
+          return CUP$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 17: // NT$4 ::= 
+            {
+              Object RESULT = null;
+		int tleft = CUP$stack[CUP$top-1].left;
+		int tright = CUP$stack[CUP$top-1].right;
+		identifierInfo t = (identifierInfo)CUP$stack[CUP$top-1].value;
+		int ileft = CUP$stack[CUP$top-0].left;
+		int iright = CUP$stack[CUP$top-0].right;
+		CSXIdentifierToken i = (CSXIdentifierToken)CUP$stack[CUP$top-0].value;
+ ((xrefParser)CUP$parser).misplacedDeclaration(t, i, tleft, tright); 
+              CUP$result = new java_cup.runtime.Symbol(16/*NT$4*/, CUP$stack[CUP$top-0].right, CUP$stack[CUP$top-0].right, RESULT);
+            }
+          return CUP$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 16: // stmt ::= LBRACE NT$3 fielddecls stmts RBRACE optionalSemi 
+            {
+              Object RESULT = null;
+		int lleft = CUP$stack[CUP$top-5].left;
+		int lright = CUP$stack[CUP$top-5].right;
+		CSXToken l = (CSXToken)CUP$stack[CUP$top-5].value;
+		 ((xrefParser)CUP$parser).closeScope(CUP$top-5); 
+              CUP$result = new java_cup.runtime.Symbol(5/*stmt*/, CUP$stack[CUP$top-5].left, CUP$stack[CUP$top-0].right, RESULT);
+            }
+          return CUP$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 15: // NT$3 ::= 
+            {
+              Object RESULT = null;
+		int lleft = CUP$stack[CUP$top-0].left;
+		int lright = CUP$stack[CUP$top-0].right;
+		CSXToken l = (CSXToken)CUP$stack[CUP$top-0].value;
+ ((xrefParser)CUP$parser).openScope(lleft, CUP$top); 
+              CUP$result = new java_cup.runtime.Symbol(15/*NT$3*/, CUP$stack[CUP$top-0].right, CUP$stack[CUP$top-0].right, RESULT);
+            }
+          return CUP$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 14: // stmt ::= rw_IF LPAREN exp RPAREN stmt 
+            {
+              Object RESULT = null;
+
+              CUP$result = new java_cup.runtime.Symbol(5/*stmt*/, CUP$stack[CUP$top-4].left, CUP$stack[CUP$top-0].right, RESULT);
+            }
+          return CUP$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 13: // stmt ::= ident NT$2 ASG exp SEMI 
+            {
+              Object RESULT = null;
+		int idleft = CUP$stack[CUP$top-4].left;
+		int idright = CUP$stack[CUP$top-4].right;
+		CSXIdentifierToken id = (CSXIdentifierToken)CUP$stack[CUP$top-4].value;
+
+              CUP$result = new java_cup.runtime.Symbol(5/*stmt*/, CUP$stack[CUP$top-4].left, CUP$stack[CUP$top-0].right, RESULT);
+            }
+          return CUP$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 12: // NT$2 ::= 
+            {
+              Object RESULT = null;
+		int idleft = CUP$stack[CUP$top-0].left;
+		int idright = CUP$stack[CUP$top-0].right;
+		CSXIdentifierToken id = (CSXIdentifierToken)CUP$stack[CUP$top-0].value;
+ ((xrefParser)CUP$parser).use(id, idleft); 
+              CUP$result = new java_cup.runtime.Symbol(14/*NT$2*/, CUP$stack[CUP$top-0].right, CUP$stack[CUP$top-0].right, RESULT);
+            }
+          return CUP$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 11: // stmts ::= 
+            {
+              Object RESULT = null;
+
+              CUP$result = new java_cup.runtime.Symbol(4/*stmts*/, CUP$stack[CUP$top-0].right, CUP$stack[CUP$top-0].right, RESULT);
+            }
+          return CUP$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 10: // stmts ::= stmts stmt 
+            {
+              Object RESULT = null;
+
+              CUP$result = new java_cup.runtime.Symbol(4/*stmts*/, CUP$stack[CUP$top-1].left, CUP$stack[CUP$top-0].right, RESULT);
+            }
+          return CUP$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 9: // type ::= rw_BOOL 
+            {
+              identifierInfo RESULT = null;
+		int tleft = CUP$stack[CUP$top-0].left;
+		int tright = CUP$stack[CUP$top-0].right;
+		CSXToken t = (CSXToken)CUP$stack[CUP$top-0].value;
+		
+	  				 RESULT=new identifierInfo();
+	  				 RESULT.identifierType="bool";
+	  				 RESULT.declaredLine=tleft;
+         		
+              CUP$result = new java_cup.runtime.Symbol(3/*type*/, CUP$stack[CUP$top-0].left, CUP$stack[CUP$top-0].right, RESULT);
+            }
+          return CUP$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 8: // type ::= rw_INT 
+            {
+              identifierInfo RESULT = null;
+		int tleft = CUP$stack[CUP$top-0].left;
+		int tright = CUP$stack[CUP$top-0].right;
+		CSXToken t = (CSXToken)CUP$stack[CUP$top-0].value;
+		
+	  				 RESULT=new identifierInfo();
+	  				 RESULT.identifierType="int";
+	  				 RESULT.declaredLine=tleft;
+         		
+              CUP$result = new java_cup.runtime.Symbol(3/*type*/, CUP$stack[CUP$top-0].left, CUP$stack[CUP$top-0].right, RESULT);
+            }
+          return CUP$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 7: // fielddecl ::= error SEMI 
+            {
+              Object RESULT = null;
+
+              CUP$result = new java_cup.runtime.Symbol(9/*fielddecl*/, CUP$stack[CUP$top-1].left, CUP$stack[CUP$top-0].right, RESULT);
+            }
+          return CUP$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 6: // fielddecl ::= type ident NT$1 SEMI 
+            {
+              Object RESULT = null;
+		int tleft = CUP$stack[CUP$top-3].left;
+		int tright = CUP$stack[CUP$top-3].right;
+		identifierInfo t = (identifierInfo)CUP$stack[CUP$top-3].value;
+		int ileft = CUP$stack[CUP$top-2].left;
+		int iright = CUP$stack[CUP$top-2].right;
+		CSXIdentifierToken i = (CSXIdentifierToken)CUP$stack[CUP$top-2].value;
+
+              CUP$result = new java_cup.runtime.Symbol(9/*fielddecl*/, CUP$stack[CUP$top-3].left, CUP$stack[CUP$top-0].right, RESULT);
+            }
+          return CUP$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 5: // NT$1 ::= 
+            {
+              Object RESULT = null;
+		int tleft = CUP$stack[CUP$top-1].left;
+		int tright = CUP$stack[CUP$top-1].right;
+		identifierInfo t = (identifierInfo)CUP$stack[CUP$top-1].value;
+		int ileft = CUP$stack[CUP$top-0].left;
+		int iright = CUP$stack[CUP$top-0].right;
+		CSXIdentifierToken i = (CSXIdentifierToken)CUP$stack[CUP$top-0].value;
+ ((xrefParser)CUP$parser).declare(t, i); 
+              CUP$result = new java_cup.runtime.Symbol(13/*NT$1*/, CUP$stack[CUP$top-0].right, CUP$stack[CUP$top-0].right, RESULT);
+            }
+          return CUP$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 4: // fielddecls ::= 
+            {
+              Object RESULT = null;
+
+              CUP$result = new java_cup.runtime.Symbol(8/*fielddecls*/, CUP$stack[CUP$top-0].right, CUP$stack[CUP$top-0].right, RESULT);
+            }
+          return CUP$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 3: // fielddecls ::= fielddecls fielddecl 
+            {
+              Object RESULT = null;
+
+              CUP$result = new java_cup.runtime.Symbol(8/*fielddecls*/, CUP$stack[CUP$top-1].left, CUP$stack[CUP$top-0].right, RESULT);
+            }
+          return CUP$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 2: // prog ::= LBRACE NT$0 fielddecls stmts RBRACE 
+            {
+              SymbolTable RESULT = null;
+		int lleft = CUP$stack[CUP$top-4].left;
+		int lright = CUP$stack[CUP$top-4].right;
+		CSXToken l = (CSXToken)CUP$stack[CUP$top-4].value;
+		 ((xrefParser)CUP$parser).closeScope(CUP$top-4);
+			    RESULT = ((xrefParser)CUP$parser).symbols; 
+              CUP$result = new java_cup.runtime.Symbol(1/*prog*/, CUP$stack[CUP$top-4].left, CUP$stack[CUP$top-0].right, RESULT);
+            }
+          return CUP$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 1: // NT$0 ::= 
+            {
+              Object RESULT = null;
+		int lleft = CUP$stack[CUP$top-0].left;
+		int lright = CUP$stack[CUP$top-0].right;
+		CSXToken l = (CSXToken)CUP$stack[CUP$top-0].value;
+ ((xrefParser)CUP$parser).openScope(lleft, CUP$top); 
+              CUP$result = new java_cup.runtime.Symbol(12/*NT$0*/, CUP$stack[CUP$top-0].right, CUP$stack[CUP$top-0].right, RESULT);
+            }
+          return CUP$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 0: // $START ::= prog EOF 
+            {
+              Object RESULT = null;
+		int start_valleft = CUP$stack[CUP$top-1].left;
+		int start_valright = CUP$stack[CUP$top-1].right;
+		SymbolTable start_val = (SymbolTable)CUP$stack[CUP$top-1].value;
+		RESULT = start_val;
+              CUP$result = new java_cup.runtime.Symbol(0/*$START*/, CUP$stack[CUP$top-1].left, CUP$stack[CUP$top-0].right, RESULT);
+            }
+          /* ACCEPT */
+          CUP$parser.done_parsing();
+          return CUP$result;
+
+          /* . . . . . .*/
+          default:
+            throw new Exception(
+               "Invalid action number found in internal parse table");
+
+        }
+    }
+}
+